@@ -13,10 +13,13 @@ import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.fpl.model.email.EmailData;
 import uk.gov.hmcts.reform.fpl.service.email.EmailService;
 
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static uk.gov.hmcts.reform.fpl.utils.CoreCaseDataStoreLoader.populatedCaseDetails;
 
@@ -29,7 +32,7 @@ class AddCaseNumberControllerSubmittedTest extends AbstractCallbackTest {
     }
 
     @Captor
-    private ArgumentCaptor<EmailData> email;
+    private ArgumentCaptor<List<EmailData>> emails;
 
     @MockBean
     private EmailService emailService;
@@ -45,8 +48,10 @@ class AddCaseNumberControllerSubmittedTest extends AbstractCallbackTest {
 
         postSubmittedEvent(event);
 
-        verify(emailService).sendEmail(eq("sender@example.com"), email.capture());
-        assertThat(email.getValue().getRecipient()).isEqualTo("FamilyPublicLaw+robotics-test@gmail.com");
+        verify(emailService, timeout(ASYNC_METHOD_CALL_TIMEOUT)).sendEmails(eq("sender@example.com"),
+            emails.capture());
+        assertThat(emails.getValue()).singleElement()
+            .extracting(EmailData::getRecipient).isEqualTo("FamilyPublicLaw+robotics-test@gmail.com");
     }
 
     @Test
@@ -58,7 +63,7 @@ class AddCaseNumberControllerSubmittedTest extends AbstractCallbackTest {
         postSubmittedEvent(event);
 
         verify(applicationEventPublisher, never()).publishEvent(any());
-        verify(emailService, never()).sendEmail(any(), any());
+        verify(emailService, never()).sendEmails(any(), any());
     }
 
     private static CaseDetails buildCaseWithNumber(String caseNumber) {
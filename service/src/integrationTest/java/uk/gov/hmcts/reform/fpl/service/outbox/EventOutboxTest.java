@@ -0,0 +1,168 @@
+package uk.gov.hmcts.reform.fpl.service.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.fpl.config.scheduler.EventOutboxConfiguration;
+import uk.gov.hmcts.reform.fpl.request.RequestData;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// runs the outbox's queries against the database it is deployed with, they rely on postgres specific syntax
+@Testcontainers(disabledWithoutDocker = true)
+class EventOutboxTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static DataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+
+    private final RequestData requestData = mock(RequestData.class);
+    private final EventOutboxConfiguration configuration = new EventOutboxConfiguration();
+
+    private EventOutbox underTest;
+
+    @BeforeAll
+    static void migrate() {
+        dataSource = new DriverManagerDataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(),
+            POSTGRES.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        Flyway.configure().dataSource(dataSource).load().migrate();
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM event_outbox");
+        when(requestData.userId()).thenReturn("user-id");
+        when(requestData.userRoles()).thenReturn(Set.of("caseworker"));
+        underTest = new EventOutbox(dataSource, new ObjectMapper(), requestData, configuration,
+            new SimpleMeterRegistry());
+    }
+
+    @Test
+    void shouldClaimStoredEventOnce() throws Exception {
+        underTest.add(new TestEvent("first"));
+
+        List<OutboxEvent> claimed = underTest.claim("instance-a", 10, LEASE);
+
+        assertThat(claimed).singleElement().satisfies(event -> {
+            assertThat(event.getEventType()).isEqualTo(TestEvent.class.getName());
+            assertThat(event.getUserId()).isEqualTo("user-id");
+            assertThat(event.getUserRoles()).containsExactly("caseworker");
+            assertThat(event.getAttempts()).isOne();
+        });
+        assertThat(underTest.claim("instance-b", 10, LEASE)).isEmpty();
+    }
+
+    @Test
+    void shouldSkipEventsLockedByAnotherClaimant() throws Exception {
+        underTest.add(new TestEvent("first"));
+        underTest.add(new TestEvent("second"));
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            long lockedId;
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(
+                     "SELECT id FROM event_outbox ORDER BY id LIMIT 1 FOR UPDATE")) {
+                resultSet.next();
+                lockedId = resultSet.getLong("id");
+            }
+
+            List<OutboxEvent> claimed = underTest.claim("instance-a", 10, LEASE);
+
+            assertThat(claimed).extracting(OutboxEvent::getId).doesNotContain(lockedId).hasSize(1);
+            connection.rollback();
+        }
+    }
+
+    @Test
+    void shouldReclaimEventOnceLeaseRunsOut() throws Exception {
+        underTest.add(new TestEvent("first"));
+        OutboxEvent expired = underTest.claim("instance-a", 10, Duration.ofMillis(100)).get(0);
+
+        Thread.sleep(200);
+        OutboxEvent reclaimed = underTest.claim("instance-b", 10, LEASE).get(0);
+
+        assertThat(reclaimed.getId()).isEqualTo(expired.getId());
+        assertThat(reclaimed.getAttempts()).isEqualTo(2);
+
+        // the first claimant finishing late must not remove the event from under the second
+        underTest.complete(expired);
+        assertThat(count()).isOne();
+
+        underTest.complete(reclaimed);
+        assertThat(count()).isZero();
+    }
+
+    @Test
+    void shouldRetryFailedEventAfterBackoff() throws Exception {
+        configuration.setMinBackoff(Duration.ofMillis(100));
+        underTest.add(new TestEvent("first"));
+        OutboxEvent failed = underTest.claim("instance-a", 10, LEASE).get(0);
+
+        underTest.fail(failed, new IllegalStateException("handler failed"));
+
+        assertThat(underTest.claim("instance-a", 10, LEASE)).isEmpty();
+        assertThat(jdbcTemplate.queryForObject("SELECT last_error FROM event_outbox", String.class))
+            .contains("handler failed");
+
+        Thread.sleep(200);
+        assertThat(underTest.claim("instance-a", 10, LEASE)).singleElement()
+            .extracting(OutboxEvent::getAttempts).isEqualTo(2);
+    }
+
+    @Test
+    void shouldDeadLetterEventAfterLastAttempt() throws Exception {
+        configuration.setMaxAttempts(1);
+        underTest.add(new TestEvent("first"));
+        OutboxEvent failed = underTest.claim("instance-a", 10, LEASE).get(0);
+
+        underTest.fail(failed, new IllegalStateException("handler failed"));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM event_outbox", String.class)).isEqualTo("DEAD");
+        assertThat(underTest.claim("instance-a", 10, LEASE)).isEmpty();
+    }
+
+    @Test
+    void shouldNotRetryEventReclaimedByAnotherClaimant() throws Exception {
+        underTest.add(new TestEvent("first"));
+        OutboxEvent expired = underTest.claim("instance-a", 10, Duration.ofMillis(100)).get(0);
+        Thread.sleep(200);
+        underTest.claim("instance-b", 10, LEASE);
+
+        underTest.fail(expired, new IllegalStateException("handler failed"));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM event_outbox", String.class))
+            .isEqualTo("IN_PROGRESS");
+        assertThat(jdbcTemplate.queryForObject("SELECT last_error FROM event_outbox", String.class)).isNull();
+    }
+
+    private int count() {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM event_outbox", Integer.class);
+    }
+
+    record TestEvent(String name) {
+    }
+}
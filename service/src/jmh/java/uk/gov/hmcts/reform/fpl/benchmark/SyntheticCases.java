@@ -0,0 +1,124 @@
+package uk.gov.hmcts.reform.fpl.benchmark;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.fpl.enums.HearingType;
+import uk.gov.hmcts.reform.fpl.enums.State;
+import uk.gov.hmcts.reform.fpl.enums.notification.DocumentUploaderType;
+import uk.gov.hmcts.reform.fpl.model.CaseData;
+import uk.gov.hmcts.reform.fpl.model.HearingBooking;
+import uk.gov.hmcts.reform.fpl.model.ManagedDocument;
+import uk.gov.hmcts.reform.fpl.model.common.DocumentReference;
+import uk.gov.hmcts.reform.fpl.model.common.Element;
+import uk.gov.hmcts.reform.fpl.model.order.generated.GeneratedOrder;
+import uk.gov.hmcts.reform.fpl.service.CaseConverter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static uk.gov.hmcts.reform.fpl.utils.ElementUtils.element;
+
+/**
+ * Builds production shaped cases for the benchmarks, with the given number of hearings, documents and orders.
+ */
+public final class SyntheticCases {
+
+    public static final long CASE_ID = 1_234_567_890_123_456L;
+    public static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 6, 10, 0);
+
+    private SyntheticCases() {
+    }
+
+    public static ObjectMapper objectMapper(boolean blackbird) {
+        JsonMapper.Builder builder = JsonMapper.builder()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
+            .addModule(new ParameterNamesModule())
+            .addModule(new Jdk8Module())
+            .addModule(new JavaTimeModule());
+
+        if (blackbird) {
+            builder.addModule(new BlackbirdModule());
+        }
+        return builder.build();
+    }
+
+    public static CaseData caseData(int size) {
+        return CaseData.builder()
+            .id(CASE_ID)
+            .state(State.CASE_MANAGEMENT)
+            .caseName("Synthetic case with " + size + " items")
+            .familyManCaseNumber("SY" + size)
+            .dateSubmitted(NOW.toLocalDate().minusMonths(6))
+            .hearingDetails(hearings(size))
+            .thresholdList(documents(size))
+            .orderCollection(orders(size))
+            .build();
+    }
+
+    public static CaseDetails caseDetails(CaseData caseData, CaseConverter caseConverter) {
+        return CaseDetails.builder()
+            .id(caseData.getId())
+            .jurisdiction("PUBLICLAW")
+            .caseTypeId("CARE_SUPERVISION_EPO")
+            .state(caseData.getState().getValue())
+            .createdDate(NOW.minusMonths(6))
+            .lastModified(NOW)
+            .data(caseConverter.toMap(caseData))
+            .build();
+    }
+
+    public static List<Element<HearingBooking>> hearings(int size) {
+        // half of the hearings are in the past and half in the future, one per week around now
+        return IntStream.range(0, size)
+            .mapToObj(i -> HearingBooking.builder()
+                .type(HearingType.CASE_MANAGEMENT)
+                .venue("96")
+                .startDate(NOW.plusWeeks(i - size / 2))
+                .endDate(NOW.plusWeeks(i - size / 2).plusHours(2))
+                .build())
+            .map(hearing -> element(hearing))
+            .toList();
+    }
+
+    public static List<Element<ManagedDocument>> documents(int size) {
+        return IntStream.range(0, size)
+            .mapToObj(i -> ManagedDocument.builder()
+                .document(document("threshold-" + i + ".pdf"))
+                .uploaderType(DocumentUploaderType.DESIGNATED_LOCAL_AUTHORITY)
+                .markAsConfidential("NO")
+                .build())
+            .map(document -> element(document))
+            .toList();
+    }
+
+    public static List<Element<GeneratedOrder>> orders(int size) {
+        return IntStream.range(0, size)
+            .mapToObj(i -> GeneratedOrder.builder()
+                .type("Care order")
+                .title("Order " + i)
+                .document(document("order-" + i + ".pdf"))
+                .dateOfIssue(NOW.toLocalDate().minusDays(i).toString())
+                .approvalDate(NOW.toLocalDate().minusDays(i))
+                .build())
+            .map(order -> element(order))
+            .toList();
+    }
+
+    private static DocumentReference document(String filename) {
+        String url = "http://dm-store/documents/" + filename.hashCode();
+        return DocumentReference.builder()
+            .url(url)
+            .binaryUrl(url + "/binary")
+            .filename(filename)
+            .build();
+    }
+}
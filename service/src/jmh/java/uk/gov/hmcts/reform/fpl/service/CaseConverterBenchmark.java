@@ -0,0 +1,55 @@
+package uk.gov.hmcts.reform.fpl.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.fpl.benchmark.SyntheticCases;
+import uk.gov.hmcts.reform.fpl.model.CaseData;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class CaseConverterBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int size;
+
+    @Param({"false", "true"})
+    public boolean blackbird;
+
+    private CaseConverter caseConverter;
+    private CaseData caseData;
+    private CaseDetails caseDetails;
+
+    @Setup
+    public void setUp() {
+        caseConverter = new CaseConverter(SyntheticCases.objectMapper(blackbird));
+        caseData = SyntheticCases.caseData(size);
+        caseDetails = SyntheticCases.caseDetails(caseData, caseConverter);
+    }
+
+    @Benchmark
+    public CaseData convert() {
+        return caseConverter.convert(caseDetails);
+    }
+
+    @Benchmark
+    public Map<String, Object> toMap() {
+        return caseConverter.toMap(caseData);
+    }
+}
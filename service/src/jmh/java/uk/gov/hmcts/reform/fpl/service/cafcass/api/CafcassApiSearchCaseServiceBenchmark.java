@@ -0,0 +1,71 @@
+package uk.gov.hmcts.reform.fpl.service.cafcass.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.fpl.benchmark.SyntheticCases;
+import uk.gov.hmcts.reform.fpl.model.cafcass.api.CafcassApiCase;
+import uk.gov.hmcts.reform.fpl.service.CaseConverter;
+import uk.gov.hmcts.reform.fpl.service.UserService;
+import uk.gov.hmcts.reform.fpl.service.document.ManageDocumentService;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class CafcassApiSearchCaseServiceBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int size;
+
+    private CafcassApiSearchCaseService cafcassApiSearchCaseService;
+    private CaseDetails caseDetails;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = SyntheticCases.objectMapper(false);
+        CaseConverter caseConverter = new CaseConverter(objectMapper);
+        ManageDocumentService manageDocumentService = new ManageDocumentService(null, null,
+            mock(UserService.class), caseConverter);
+
+        List<CafcassApiCaseDataConverter> converters = List.of(
+            new CafcassApiApplicantsConverter(),
+            new CafcassApiCaseDocumentsConverter(manageDocumentService),
+            new CafcassApiCaseManagementLocationConverter(),
+            new CafcassApiChildrenConverter(),
+            new CafcassApiFactorsParentingConverter(),
+            new CafcassApiHearingDetailsConverter(),
+            new CafcassApiInternationalElementConverter(),
+            new CafcassApiMetaDataConverter(),
+            new CafcassApiOthersConverter(),
+            new CafcassApiPreviousProceedingsConverter(),
+            new CafcassApiRespondentsConverter(),
+            new CafcassApiRisksConverter());
+
+        cafcassApiSearchCaseService = new CafcassApiSearchCaseService(caseConverter, null, converters, null,
+            objectMapper);
+        caseDetails = SyntheticCases.caseDetails(SyntheticCases.caseData(size), caseConverter);
+    }
+
+    @Benchmark
+    public CafcassApiCase convertToCafcassApiCase() {
+        return cafcassApiSearchCaseService.convertToCafcassApiCase(caseDetails);
+    }
+}
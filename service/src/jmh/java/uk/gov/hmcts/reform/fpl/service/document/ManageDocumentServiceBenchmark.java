@@ -0,0 +1,52 @@
+package uk.gov.hmcts.reform.fpl.service.document;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.reform.fpl.benchmark.SyntheticCases;
+import uk.gov.hmcts.reform.fpl.events.ManageDocumentsUploadedEvent;
+import uk.gov.hmcts.reform.fpl.model.CaseData;
+import uk.gov.hmcts.reform.fpl.service.UserService;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ManageDocumentServiceBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int size;
+
+    private ManageDocumentService manageDocumentService;
+    private CaseData caseData;
+    private CaseData caseDataBefore;
+
+    @Setup
+    public void setUp() {
+        manageDocumentService = new ManageDocumentService(null, null, mock(UserService.class), null);
+        caseData = SyntheticCases.caseData(size);
+        // the last document is the one uploaded by the event
+        caseDataBefore = caseData.toBuilder()
+            .thresholdList(caseData.getThresholdList().subList(0, size - 1))
+            .build();
+    }
+
+    @Benchmark
+    public ManageDocumentsUploadedEvent buildManageDocumentsUploadedEvent() throws Exception {
+        return manageDocumentService.buildManageDocumentsUploadedEvent(caseData, caseDataBefore);
+    }
+}
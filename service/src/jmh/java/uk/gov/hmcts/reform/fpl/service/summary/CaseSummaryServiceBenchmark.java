@@ -0,0 +1,65 @@
+package uk.gov.hmcts.reform.fpl.service.summary;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.reform.fpl.benchmark.SyntheticCases;
+import uk.gov.hmcts.reform.fpl.model.CaseData;
+import uk.gov.hmcts.reform.fpl.service.CourtService;
+import uk.gov.hmcts.reform.fpl.service.UserService;
+import uk.gov.hmcts.reform.fpl.service.time.Time;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class CaseSummaryServiceBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int size;
+
+    private CaseSummaryService caseSummaryService;
+    private CaseData caseData;
+
+    @Setup
+    public void setUp() {
+        // only the user and court lookups go outside the service, everything else is the real generator
+        Time time = () -> SyntheticCases.NOW;
+
+        caseSummaryService = new CaseSummaryService(
+            new CaseSummaryCaseFlagGenerator(mock(UserService.class)),
+            new CaseSummaryOrdersRequestedGenerator(),
+            new CaseSummaryDeadlineGenerator(),
+            new CaseSummaryJudgeInformationGenerator(),
+            new CaseSummaryMessagesGenerator(),
+            new CaseSummaryNextHearingGenerator(time),
+            new CaseSummaryPreviousHearingGenerator(time),
+            new CaseSummaryFinalHearingGenerator(),
+            new CaseSummaryWelshFlagGenerator(),
+            new CaseSummaryPeopleInCaseGenerator(),
+            new CaseSummaryCourtGenerator(mock(CourtService.class)),
+            new CaseSummaryHighCourtCaseFlagGenerator(),
+            SyntheticCases.objectMapper(false));
+        caseData = SyntheticCases.caseData(size);
+    }
+
+    @Benchmark
+    public Map<String, Object> generateSummaryFields() {
+        return caseSummaryService.generateSummaryFields(caseData);
+    }
+}
@@ -0,0 +1,47 @@
+package uk.gov.hmcts.reform.fpl.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.reform.fpl.benchmark.SyntheticCases;
+import uk.gov.hmcts.reform.fpl.model.HearingBooking;
+import uk.gov.hmcts.reform.fpl.model.common.Element;
+import uk.gov.hmcts.reform.fpl.model.common.dynamic.DynamicList;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ElementUtilsBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int size;
+
+    private List<Element<HearingBooking>> hearings;
+    private UUID selectedId;
+
+    @Setup
+    public void setUp() {
+        hearings = SyntheticCases.hearings(size);
+        selectedId = hearings.get(size - 1).getId();
+    }
+
+    @Benchmark
+    public DynamicList asDynamicList() {
+        return ElementUtils.asDynamicList(hearings, selectedId, HearingBooking::toLabel);
+    }
+}
@@ -1,5 +1,10 @@
 package uk.gov.hmcts.reform.fpl.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
 import jakarta.annotation.Nonnull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
@@ -14,21 +19,36 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import uk.gov.hmcts.reform.fpl.request.RequestData;
 import uk.gov.hmcts.reform.fpl.request.RequestDataCache;
 import uk.gov.hmcts.reform.fpl.request.SimpleRequestData;
+import uk.gov.hmcts.reform.fpl.service.outbox.EventDelivery;
 
 import java.lang.reflect.Method;
-import java.util.concurrent.Executor;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Slf4j
 @Configuration
 public class AsyncConfiguration implements AsyncConfigurer {
 
+    public static final String EXECUTOR_NAME = "async";
+
     private final ApplicationContext context;
     private final int corePoolSize;
+    private final int maxPoolSize;
+    private final int queueCapacity;
+    private final RejectionPolicy rejectionPolicy;
 
     public AsyncConfiguration(@Autowired ApplicationContext context,
-                              @Value("${fpl.core_pool_size:10}") int corePoolSize) {
+                              @Value("${fpl.core_pool_size:10}") int corePoolSize,
+                              @Value("${fpl.async.max_pool_size:50}") int maxPoolSize,
+                              @Value("${fpl.async.queue_capacity:100}") int queueCapacity,
+                              @Value("${fpl.async.rejection_policy:CALLER_RUNS}") RejectionPolicy rejectionPolicy) {
         this.context = context;
         this.corePoolSize = corePoolSize;
+        this.maxPoolSize = Math.max(corePoolSize, maxPoolSize);
+        this.queueCapacity = queueCapacity;
+        this.rejectionPolicy = rejectionPolicy;
     }
 
     @Override
@@ -41,36 +61,101 @@ public class AsyncConfiguration implements AsyncConfigurer {
         @Override
         public void handleUncaughtException(Throwable throwable, Method method, Object... obj) {
             log.error("Unexpected error occurred during async execution", throwable);
+            EventDelivery.current().ifPresent(delivery -> delivery.taskFailed(throwable));
         }
     }
 
+    /**
+     * Runs async work on the core threads, queueing up to the queue capacity behind them. Once the queue is full extra
+     * threads are started, up to the max pool size, and once they are all busy too the rejection policy applies.
+     */
     @Override
     @Bean
-    public Executor getAsyncExecutor() {
+    public ThreadPoolTaskExecutor getAsyncExecutor() {
         ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
-        taskExecutor.setTaskDecorator(new AsyncTaskDecorator(context));
+        taskExecutor.setTaskDecorator(new AsyncTaskDecorator(context, context.getBean(MeterRegistry.class)));
         taskExecutor.setCorePoolSize(corePoolSize);
+        taskExecutor.setMaxPoolSize(maxPoolSize);
+        taskExecutor.setQueueCapacity(queueCapacity);
+        taskExecutor.setRejectedExecutionHandler(rejectionPolicy.handler());
+        taskExecutor.setThreadNamePrefix("fpl-async-");
         return taskExecutor;
     }
 
+    /**
+     * Publishes the pool size, active count, queue depth and completed tasks of the async executor.
+     */
+    @Bean
+    public MeterBinder asyncExecutorMetrics() {
+        return meterRegistry -> new ExecutorServiceMetrics(getAsyncExecutor().getThreadPoolExecutor(), EXECUTOR_NAME,
+            Tags.empty()).bindTo(meterRegistry);
+    }
+
+    public enum RejectionPolicy {
+        // the submitting thread runs the task itself, which slows down whoever is producing the work
+        CALLER_RUNS {
+            @Override
+            RejectedExecutionHandler handler() {
+                return new ThreadPoolExecutor.CallerRunsPolicy();
+            }
+        },
+        ABORT {
+            @Override
+            RejectedExecutionHandler handler() {
+                return new ThreadPoolExecutor.AbortPolicy();
+            }
+        };
+
+        abstract RejectedExecutionHandler handler();
+    }
+
     static class AsyncTaskDecorator implements TaskDecorator {
 
         final ApplicationContext context;
+        final Timer waitTimer;
+        final Timer executionTimer;
 
-        AsyncTaskDecorator(ApplicationContext context) {
+        AsyncTaskDecorator(ApplicationContext context, MeterRegistry meterRegistry) {
             this.context = context;
+            // named as micrometer names the timers of the executors it monitors
+            this.waitTimer = Timer.builder("executor.idle")
+                .description("Time async tasks wait in the queue before they start")
+                .tag("name", EXECUTOR_NAME)
+                .register(meterRegistry);
+            this.executionTimer = Timer.builder("executor")
+                .description("Time async tasks take to run")
+                .tag("name", EXECUTOR_NAME)
+                .register(meterRegistry);
         }
 
         @Override
         public Runnable decorate(@Nonnull Runnable task) {
+            // tasks started while delivering an event from the outbox must finish before it leaves the outbox
+            EventDelivery delivery = EventDelivery.current().orElse(null);
+            if (delivery != null) {
+                delivery.taskSubmitted();
+            }
             SimpleRequestData requestData = new SimpleRequestData(context.getBean(RequestData.class));
+            long submitted = System.nanoTime();
 
             return () -> {
+                waitTimer.record(Duration.ofNanos(System.nanoTime() - submitted));
+                // a task rejected back to a thread running another async task must not lose that task's data
+                Optional<RequestData> callerRequestData = RequestDataCache.get();
                 RequestDataCache.add(requestData);
                 try {
-                    task.run();
+                    if (delivery == null) {
+                        executionTimer.record(task);
+                    } else {
+                        delivery.runTask(() -> executionTimer.record(task));
+                    }
                 } finally {
-                    RequestDataCache.remove();
+                    if (delivery != null) {
+                        delivery.taskFinished();
+                    }
+                    callerRequestData.ifPresentOrElse(
+                        data -> RequestDataCache.add(new SimpleRequestData(data)),
+                        RequestDataCache::remove);
                 }
             };
         }
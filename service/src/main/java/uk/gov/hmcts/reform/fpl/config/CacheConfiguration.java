@@ -30,6 +30,7 @@ public class CacheConfiguration {
     public static final String CAFCASS_API_IDAM_CACHE = "cafcassApiIdamCache";
 
     public static final int SYSTEM_USER_CACHE_EXPIRY = 120;
+    public static final int SYSTEM_USER_TOKEN_REFRESH = 90;
 
     @Primary // primary for request scope
     @Bean(autowireCandidate = false)
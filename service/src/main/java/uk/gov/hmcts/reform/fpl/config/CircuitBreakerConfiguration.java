@@ -1,9 +1,49 @@
 package uk.gov.hmcts.reform.fpl.config;
 
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.context.annotation.Profile;
+import uk.gov.hmcts.reform.fpl.service.DownstreamResilience;
+
+import java.time.Duration;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
-@Profile("default")
 @Configuration
 public class CircuitBreakerConfiguration {
+
+    /**
+     * Calls every feign client through the circuit breaker and bulkhead of the service it calls, named after the
+     * client, and limits how long each call waits for its response. Server errors count as failures, so do errors
+     * talking to the service, other responses are left for the client to handle as before.
+     */
+    @Bean
+    public Capability downstreamResilienceCapability(DownstreamResilience downstreamResilience) {
+        return new Capability() {
+            @Override
+            public Client enrich(Client client) {
+                return (request, options) -> {
+                    String dependency = dependency(request);
+                    Request.Options limitedOptions = limit(options, downstreamResilience.timeout(dependency));
+                    return downstreamResilience.call(dependency, () -> client.execute(request, limitedOptions),
+                        response -> response.status() >= 500);
+                };
+            }
+        };
+    }
+
+    private static String dependency(Request request) {
+        if (request.requestTemplate() == null || request.requestTemplate().feignTarget() == null) {
+            return "feign";
+        }
+        return request.requestTemplate().feignTarget().name();
+    }
+
+    private static Request.Options limit(Request.Options options, Duration timeout) {
+        long readTimeout = Math.min(options.readTimeoutUnit().toMillis(options.readTimeout()), timeout.toMillis());
+        return new Request.Options(options.connectTimeout(), options.connectTimeoutUnit(), readTimeout, MILLISECONDS,
+            options.isFollowRedirects());
+    }
 }
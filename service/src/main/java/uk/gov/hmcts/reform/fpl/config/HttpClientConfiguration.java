@@ -1,37 +1,122 @@
 package uk.gov.hmcts.reform.fpl.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.MicrometerHttpRequestExecutor;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
-import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.util.TimeValue;
 import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
+import uk.gov.hmcts.reform.fpl.config.HttpClientPoolConfiguration.Pool;
+import uk.gov.hmcts.reform.fpl.service.DownstreamResilience;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.URI;
 
+/**
+ * Http clients each with their own connection pool, so a burst of calls to one downstream service does not queue
+ * behind, or starve, calls to the others. Docmosis is called through the rest template, every other service through
+ * the primary client, which can give individual hosts, such as the document store, their own per route limit.
+ *
+ * <p>Pool usage and request timings are published under the httpcomponents.httpclient metrics, tagged with the name
+ * of the client.
+ */
 @Configuration
 public class HttpClientConfiguration {
 
+    public static final String DOCMOSIS_POOL = "docmosis";
+    public static final String DEFAULT_POOL = "default";
+
     @Bean
-    public RestTemplate restTemplate() {
+    public RestTemplate restTemplate(@Qualifier("docmosisHttpClient") CloseableHttpClient docmosisHttpClient,
+                                     DownstreamResilience downstreamResilience) {
         RestTemplate restTemplate = new RestTemplate();
-        restTemplate.setRequestFactory(new HttpComponentsClientHttpRequestFactory(getHttpClient()));
+        restTemplate.setRequestFactory(new HttpComponentsClientHttpRequestFactory(docmosisHttpClient));
+        restTemplate.getInterceptors().add((request, body, execution) -> downstreamResilience.call(DOCMOSIS_POOL,
+            () -> execution.execute(request, body), HttpClientConfiguration::isServerError));
         return restTemplate;
     }
 
+    @Bean
+    public CloseableHttpClient docmosisHttpClient(HttpClientPoolConfiguration poolConfiguration,
+                                                  MeterRegistry meterRegistry) {
+        return buildHttpClient(DOCMOSIS_POOL, poolConfiguration.getPool(DOCMOSIS_POOL), meterRegistry);
+    }
+
     @Bean
     @Primary
-    public CloseableHttpClient getHttpClient() {
+    public CloseableHttpClient getHttpClient(HttpClientPoolConfiguration poolConfiguration,
+                                             MeterRegistry meterRegistry) {
+        return buildHttpClient(DEFAULT_POOL, poolConfiguration.getPool(DEFAULT_POOL), meterRegistry);
+    }
+
+    static CloseableHttpClient buildHttpClient(String name, Pool pool, MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager connectionManager = buildConnectionManager(pool);
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, name).bindTo(meterRegistry);
+
         RequestConfig config = RequestConfig.custom()
             .setConnectTimeout(Timeout.ofMilliseconds(10000))
             .setConnectionRequestTimeout(Timeout.ofMilliseconds(10000))
             .setResponseTimeout(Timeout.ofMilliseconds(10000))
+            // used when the server does not say how long it keeps connections alive
+            .setConnectionKeepAlive(TimeValue.ofMilliseconds(pool.getKeepAlive().toMillis()))
             .build();
 
         return HttpClients.custom()
             .useSystemProperties()
+            .setConnectionManager(connectionManager)
             .setDefaultRequestConfig(config)
+            .setRequestExecutor(MicrometerHttpRequestExecutor.builder(meterRegistry)
+                .tags(Tags.of("httpclient", name))
+                .exportTagsForRoute(true)
+                .build())
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.ofMilliseconds(pool.getIdleEviction().toMillis()))
             .build();
     }
+
+    static PoolingHttpClientConnectionManager buildConnectionManager(Pool pool) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+            .useSystemProperties()
+            .setMaxConnTotal(pool.getMaxTotal())
+            .setMaxConnPerRoute(pool.getMaxPerRoute())
+            .build();
+
+        pool.getRoutes().stream()
+            .filter(route -> StringUtils.isNotBlank(route.getUrl()))
+            .forEach(route -> connectionManager.setMaxPerRoute(toHttpRoute(route.getUrl()), route.getMaxPerRoute()));
+
+        return connectionManager;
+    }
+
+    private static boolean isServerError(ClientHttpResponse response) {
+        try {
+            return response.getStatusCode().is5xxServerError();
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    private static HttpRoute toHttpRoute(String url) {
+        URI uri = URI.create(url);
+        boolean secure = "https".equalsIgnoreCase(uri.getScheme());
+        // routes are matched on the port actually connected to, so the scheme's default port is made explicit
+        int port = uri.getPort() == -1 ? (secure ? 443 : 80) : uri.getPort();
+        return new HttpRoute(new HttpHost(uri.getScheme(), uri.getHost(), port), (InetAddress) null, secure);
+    }
 }
@@ -0,0 +1,49 @@
+package uk.gov.hmcts.reform.fpl.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@Configuration
+@NoArgsConstructor
+@AllArgsConstructor
+@ConfigurationProperties(prefix = "fpl.http-client")
+public class HttpClientPoolConfiguration {
+    private Map<String, Pool> pools = new HashMap<>();
+
+    public Pool getPool(String name) {
+        return pools.getOrDefault(name, new Pool());
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Pool {
+        private int maxTotal = 50;
+        private int maxPerRoute = 20;
+        private Duration keepAlive = Duration.ofSeconds(30);
+        private Duration idleEviction = Duration.ofMinutes(1);
+        private List<Route> routes = new ArrayList<>();
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Route {
+        private String url;
+        private int maxPerRoute;
+    }
+}
@@ -0,0 +1,42 @@
+package uk.gov.hmcts.reform.fpl.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Configuration
+@NoArgsConstructor
+@AllArgsConstructor
+@ConfigurationProperties(prefix = "fpl.resilience")
+public class ResilienceConfiguration {
+    private boolean enabled = true;
+    // sized against the async executor, so a burst of async work waits for its turn instead of being refused
+    private int maxConcurrentCalls = 50;
+    private Duration maxWaitForCall = Duration.ofSeconds(5);
+    private float failureRateThreshold = 50;
+    private float slowCallRateThreshold = 80;
+    private Duration slowCallDuration = Duration.ofSeconds(10);
+    private int slidingWindowSize = 20;
+    private int minimumNumberOfCalls = 10;
+    private Duration waitInOpenState = Duration.ofSeconds(30);
+    private Duration timeout = Duration.ofSeconds(60);
+    private Map<String, Integer> dependencyMaxConcurrentCalls = new HashMap<>();
+    private Map<String, Duration> dependencyTimeouts = new HashMap<>();
+
+    public int getMaxConcurrentCalls(String dependency) {
+        return dependencyMaxConcurrentCalls.getOrDefault(dependency, maxConcurrentCalls);
+    }
+
+    public Duration getTimeout(String dependency) {
+        return dependencyTimeouts.getOrDefault(dependency, timeout);
+    }
+}
@@ -1,6 +1,7 @@
 package uk.gov.hmcts.reform.fpl.config.payment;
 
 import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -26,6 +27,7 @@ public class FeesConfig {
     @Setter
     @NoArgsConstructor
     @AllArgsConstructor
+    @EqualsAndHashCode
     @ToString
     public static class FeeParameters {
         private String channel;
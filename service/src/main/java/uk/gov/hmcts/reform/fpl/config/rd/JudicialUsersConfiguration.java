@@ -1,12 +1,11 @@
 package uk.gov.hmcts.reform.fpl.config.rd;
 
-import feign.FeignException;
-import lombok.extern.slf4j.Slf4j;
+import jakarta.annotation.PreDestroy;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.retry.annotation.Recover;
-import org.springframework.retry.annotation.Retryable;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
 import uk.gov.hmcts.reform.fpl.service.ElinksService;
@@ -15,24 +14,27 @@ import uk.gov.hmcts.reform.rd.client.JudicialApi;
 import uk.gov.hmcts.reform.rd.model.JudicialUserProfile;
 import uk.gov.hmcts.reform.rd.model.JudicialUserRequest;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static org.apache.commons.lang3.ObjectUtils.isEmpty;
 
-@Slf4j
 @Component
 @Configuration
 public class JudicialUsersConfiguration {
 
-    private Map<String, String> mapping;
+    private final UserMapping mapping;
+    private volatile Map<String, JudicialUserProfile> profiles = Map.of();
 
     private final SystemUserService systemUserService;
     private final AuthTokenGenerator authTokenGenerator;
     private final JudicialApi judicialApi;
     private final ElinksService elinksService;
+    private final boolean jrdEnabled;
 
     private final int judicialPageSize = 10000;
 
@@ -41,49 +43,77 @@ public class JudicialUsersConfiguration {
                                       @Autowired SystemUserService systemUserService,
                                       @Autowired AuthTokenGenerator authTokenGenerator,
                                       @Autowired ElinksService elinksService,
-                                      @Value("${rd_judicial.api.enabled:false}") boolean jrdEnabled) {
+                                      @Value("${rd_judicial.api.enabled:false}") boolean jrdEnabled,
+                                      @Value("${rd_judicial.api.refresh_interval:6h}") Duration refreshInterval,
+                                      @Value("${rd_judicial.api.retry_delay:1m}") Duration retryDelay) {
         this.judicialApi = judicialApi;
         this.systemUserService = systemUserService;
         this.authTokenGenerator = authTokenGenerator;
         this.elinksService = elinksService;
-        log.info("Attempting to gather all judges.");
+        this.jrdEnabled = jrdEnabled;
+        this.mapping = new UserMapping("judges", this::loadAllJudges, refreshInterval, retryDelay);
+    }
+
+    /**
+     * Starts loading judges from JRD in the background, and reloading them every refresh interval after that.
+     */
+    @EventListener(ApplicationStartedEvent.class)
+    public void loadJudges() {
         if (jrdEnabled) {
-            try {
-                mapping = this.getAllJudges();
-            } catch (Exception e) {
-                mapping = Map.of();
-                log.error("Could not download list of publiclaw judiciary from JRD", e);
-            }
-        } else {
-            mapping = Map.of();
+            mapping.start();
         }
-        log.info("Loaded {} judges", mapping.size());
+    }
+
+    @PreDestroy
+    public void stop() {
+        mapping.stop();
     }
 
     public Optional<String> getJudgeUUID(String email) {
-        return Optional.ofNullable(mapping.getOrDefault(email.toLowerCase(), null));
+        return mapping.get(email);
     }
 
-    @Retryable(value = FeignException.class, recover = "recoverFailedJudgeCall", maxAttempts = 5)
-    public Map<String, String> getAllJudges() {
+    /**
+     * Gets the profile of a publiclaw judge from those last loaded from JRD. Judges of other services are not loaded,
+     * so a judge missing here may still be in JRD.
+     */
+    public Optional<JudicialUserProfile> getJudgeByPersonalCode(String personalCode) {
+        return Optional.ofNullable(profiles.get(personalCode));
+    }
+
+    /**
+     * Whether judges can be looked up yet, false until the first load from JRD has finished or given up.
+     */
+    public boolean isLoaded() {
+        return !jrdEnabled || mapping.isReady();
+    }
+
+    private Map<String, String> loadAllJudges() {
+        List<JudicialUserProfile> users = findAllJudges();
+        Map<String, String> emailsToIds = mapEmailsToIds(users);
+        profiles = users.stream()
+            .filter(jup -> !isEmpty(jup.getPersonalCode()))
+            .collect(Collectors.toMap(JudicialUserProfile::getPersonalCode, Function.identity(),
+                (first, second) -> first));
+        return emailsToIds;
+    }
+
+    private List<JudicialUserProfile> findAllJudges() {
         String systemUserToken = systemUserService.getSysUserToken();
 
-        List<JudicialUserProfile> users = judicialApi.findUsers(systemUserToken, authTokenGenerator.generate(),
+        return judicialApi.findUsersWithoutCache(systemUserToken,
+            authTokenGenerator.generate(),
             judicialPageSize,
             elinksService.getElinksAcceptHeader(),
             JudicialUserRequest.builder()
                 .ccdServiceName("PUBLICLAW")
                 .build());
+    }
 
+    private static Map<String, String> mapEmailsToIds(List<JudicialUserProfile> users) {
         return users.stream()
             .filter(jup -> !isEmpty(jup.getSidamId()))
             .collect(Collectors.toMap(profile -> profile.getEmailId().toLowerCase(), JudicialUserProfile::getSidamId));
     }
 
-    @Recover
-    public Map<String, String> recoverFailedJudgeCall(FeignException e) {
-        log.error("Could not download list of publiclaw judiciary from JRD", e);
-        return Map.of();
-    }
-
 }
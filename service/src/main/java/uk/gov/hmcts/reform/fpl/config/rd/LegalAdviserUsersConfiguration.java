@@ -1,24 +1,23 @@
 package uk.gov.hmcts.reform.fpl.config.rd;
 
-import feign.FeignException;
-import lombok.extern.slf4j.Slf4j;
+import jakarta.annotation.PreDestroy;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.retry.annotation.Recover;
-import org.springframework.retry.annotation.Retryable;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
 import uk.gov.hmcts.reform.fpl.service.SystemUserService;
 import uk.gov.hmcts.reform.rd.client.StaffApi;
 import uk.gov.hmcts.reform.rd.model.StaffProfile;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
-@Slf4j
 @Component
 @Configuration
 public class LegalAdviserUsersConfiguration {
@@ -27,38 +26,52 @@ public class LegalAdviserUsersConfiguration {
     private static final String LEGAL_ADVISER_JOB_CODE = "3";
     private static final int STAFF_PAGE_SIZE = 1000;
 
-    private Map<String, String> mapping;
+    private final UserMapping mapping;
 
     private final SystemUserService systemUserService;
     private final AuthTokenGenerator authTokenGenerator;
     private final StaffApi staffApi;
+    private final boolean staffEnabled;
 
     public LegalAdviserUsersConfiguration(@Autowired SystemUserService systemUserService,
                                           @Autowired AuthTokenGenerator authTokenGenerator,
                                           @Autowired StaffApi staffApi,
-                                          @Value("${rd_staff.api.enabled:false}") boolean staffEnabled) {
+                                          @Value("${rd_staff.api.enabled:false}") boolean staffEnabled,
+                                          @Value("${rd_staff.api.refresh_interval:6h}") Duration refreshInterval,
+                                          @Value("${rd_staff.api.retry_delay:1m}") Duration retryDelay) {
         this.systemUserService = systemUserService;
         this.authTokenGenerator = authTokenGenerator;
         this.staffApi = staffApi;
-        log.info("Attempting to gather all legal advisers");
+        this.staffEnabled = staffEnabled;
+        this.mapping = new UserMapping("legal advisers", this::getAllLegalAdvisers, refreshInterval, retryDelay);
+    }
+
+    /**
+     * Starts loading legal advisers from SRD in the background, and reloading them every refresh interval after that.
+     */
+    @EventListener(ApplicationStartedEvent.class)
+    public void loadLegalAdvisers() {
         if (staffEnabled) {
-            try {
-                mapping = this.getAllLegalAdvisers();
-            } catch (Exception e) {
-                mapping = Map.of();
-                log.error("Could not download list of publiclaw legal advisers from SRD", e);
-            }
-        } else {
-            mapping = Map.of();
+            mapping.start();
         }
-        log.info("Loaded {} legal advisers", mapping.size());
+    }
+
+    @PreDestroy
+    public void stop() {
+        mapping.stop();
     }
 
     public Optional<String> getLegalAdviserUUID(String email) {
-        return Optional.ofNullable(mapping.getOrDefault(email.toLowerCase(), null));
+        return mapping.get(email);
+    }
+
+    /**
+     * Whether legal advisers can be looked up yet, false until the first load from SRD has finished or given up.
+     */
+    public boolean isLoaded() {
+        return !staffEnabled || mapping.isReady();
     }
 
-    @Retryable(value = FeignException.class, recover = "recoverFailedLegalAdviserCall", maxAttempts = 5)
     public Map<String, String> getAllLegalAdvisers() {
         String systemUserToken = systemUserService.getSysUserToken();
 
@@ -69,10 +82,4 @@ public class LegalAdviserUsersConfiguration {
             .collect(Collectors.toMap(profile -> profile.getEmailId().toLowerCase(), StaffProfile::getCaseWorkerId));
     }
 
-    @Recover
-    public Map<String, String> recoverFailedLegalAdviserCall(FeignException e) {
-        log.error("Could not download list of publiclaw legal advisers from SRD", e);
-        return Map.of();
-    }
-
 }
@@ -0,0 +1,34 @@
+package uk.gov.hmcts.reform.fpl.config.rd;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps new pods from taking traffic until judges and legal advisers have been loaded from reference data, or loading
+ * them has given up. Reports its own loading status, which only the readiness group treats as unavailable, so the
+ * overall health of a pod that is still loading stays up.
+ */
+@Component
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class ReferenceDataUsersHealthIndicator implements HealthIndicator {
+
+    public static final Status LOADING = new Status("LOADING", "Judges and legal advisers are still being loaded");
+
+    private final JudicialUsersConfiguration judicialUsersConfiguration;
+    private final LegalAdviserUsersConfiguration legalAdviserUsersConfiguration;
+
+    @Override
+    public Health health() {
+        boolean judgesLoaded = judicialUsersConfiguration.isLoaded();
+        boolean legalAdvisersLoaded = legalAdviserUsersConfiguration.isLoaded();
+
+        return (judgesLoaded && legalAdvisersLoaded ? Health.up() : Health.status(LOADING))
+            .withDetail("judges", judgesLoaded)
+            .withDetail("legalAdvisers", legalAdvisersLoaded)
+            .build();
+    }
+}
@@ -0,0 +1,82 @@
+package uk.gov.hmcts.reform.fpl.config.rd;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Maps the emails of users held in reference data to their ids. The mapping is loaded in the background, so startup
+ * does not wait on reference data, and loaded again every refresh interval, so new users show up without a redeploy.
+ * Each load replaces the whole mapping at once, lookups see either the old or the new mapping, never a mix.
+ *
+ * <p>A failed load keeps the mapping already loaded and is tried again after the retry delay. The mapping counts as
+ * ready once it has loaded, or once the first few attempts have all failed, so reference data being down cannot keep
+ * the application out of service.
+ */
+@Slf4j
+class UserMapping {
+
+    static final int STARTUP_ATTEMPTS = 5;
+
+    private final String users;
+    private final Supplier<Map<String, String>> loader;
+    private final Duration refreshInterval;
+    private final Duration retryDelay;
+    private final ScheduledExecutorService scheduler;
+    private volatile Map<String, String> mapping = Map.of();
+    private volatile boolean ready;
+    // only touched by the scheduler thread
+    private int failedAttempts;
+
+    UserMapping(String users, Supplier<Map<String, String>> loader, Duration refreshInterval, Duration retryDelay) {
+        this.users = users;
+        this.loader = loader;
+        this.refreshInterval = refreshInterval;
+        this.retryDelay = retryDelay;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory(users + "-"));
+    }
+
+    void start() {
+        log.info("Attempting to gather all {}", users);
+        scheduler.execute(this::load);
+    }
+
+    void stop() {
+        scheduler.shutdownNow();
+    }
+
+    Optional<String> get(String email) {
+        return Optional.ofNullable(mapping.get(email.toLowerCase()));
+    }
+
+    boolean isReady() {
+        return ready;
+    }
+
+    private void load() {
+        Duration nextLoad = refreshInterval;
+        try {
+            mapping = loader.get();
+            ready = true;
+            failedAttempts = 0;
+            log.info("Loaded {} {}", mapping.size(), users);
+        } catch (Exception e) {
+            failedAttempts++;
+            ready = ready || failedAttempts >= STARTUP_ATTEMPTS;
+            nextLoad = retryDelay;
+            log.error("Could not download list of {}, keeping the {} already loaded", users, mapping.size(), e);
+        }
+
+        if (!scheduler.isShutdown()) {
+            scheduler.schedule(this::load, nextLoad.toMillis(), MILLISECONDS);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package uk.gov.hmcts.reform.fpl.config.scheduler;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.lang.String.format;
+
+@Getter
+@Setter
+@Configuration
+@NoArgsConstructor
+@AllArgsConstructor
+@ConfigurationProperties(prefix = "scheduler.event-outbox")
+public class EventOutboxConfiguration {
+    private boolean enabled;
+    // simple class names of the events stored in the outbox, each must round trip through jackson
+    private Set<String> eventTypes = new HashSet<>();
+    private int workers = 4;
+    private int batchSize = 20;
+    private Duration lease = Duration.ofMinutes(5);
+    private int maxAttempts = 5;
+    private Duration minBackoff = Duration.ofMinutes(1);
+    private Duration maxBackoff = Duration.ofHours(1);
+    private Duration handlerTimeout = Duration.ofSeconds(45);
+    private Duration maxRunTime = Duration.ofMinutes(1);
+    // the longest a single attempt of each handler of stored events can take, registered by the handlers themselves
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Duration> handlerAttempts = new ConcurrentHashMap<>();
+
+    /**
+     * Registers how long one attempt of a handler of stored events can take. The attempt must finish within the
+     * handler timeout, otherwise the outbox retries the event while the attempt may still succeed.
+     */
+    public void registerHandlerAttempt(String handler, Duration attemptTimeout) {
+        handlerAttempts.put(handler, attemptTimeout);
+        if (enabled) {
+            validate();
+        }
+    }
+
+    /**
+     * Checks that a claimed event is delivered or failed while its claim is still held, even when it waits behind the
+     * rest of its batch for a worker, that a single delivery fits within a run of the job, and that every registered
+     * handler attempt fits within a delivery.
+     */
+    public void validate() {
+        long rounds = (batchSize + workers - 1) / workers;
+        if (handlerTimeout.multipliedBy(rounds).compareTo(lease) >= 0) {
+            throw new IllegalStateException(format("Event outbox lease %s must be longer than the handler timeout %s "
+                + "for each of the %d rounds of a batch", lease, handlerTimeout, rounds));
+        }
+        if (handlerTimeout.compareTo(maxRunTime) >= 0) {
+            throw new IllegalStateException(format("Event outbox handler timeout %s must be shorter than the max run "
+                + "time %s", handlerTimeout, maxRunTime));
+        }
+        handlerAttempts.forEach((handler, attemptTimeout) -> {
+            if (attemptTimeout.compareTo(handlerTimeout) >= 0) {
+                throw new IllegalStateException(format("%s timeout %s must be shorter than the event outbox handler "
+                    + "timeout %s", handler, attemptTimeout, handlerTimeout));
+            }
+        });
+    }
+
+    /**
+     * How long to wait before retrying an event that failed on the given attempt, doubling with each attempt.
+     */
+    public Duration getBackoff(int attempt) {
+        Duration backoff = minBackoff.multipliedBy(1L << Math.min(Math.max(attempt - 1, 0), 20));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+}
@@ -0,0 +1,43 @@
+package uk.gov.hmcts.reform.fpl.config.scheduler;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+import javax.sql.DataSource;
+
+/**
+ * Remembers how far incremental jobs have got, in the scheduler database, so each run can carry on where the last one
+ * finished. Marks outlive the jobs themselves, which are deleted and scheduled again on every start up.
+ */
+@Component
+@ConditionalOnProperty(value = "scheduler.enabled", havingValue = "true")
+public class JobHighWaterMarks {
+
+    private static final String SELECT = "SELECT mark FROM job_high_water_mark WHERE job_name = ?";
+
+    private static final String UPSERT = "INSERT INTO job_high_water_mark (job_name, mark) VALUES (?, ?) "
+        + "ON CONFLICT (job_name) DO UPDATE SET mark = EXCLUDED.mark, updated_at = now()";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public JobHighWaterMarks(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    public Optional<ZonedDateTime> get(String jobName) {
+        return jdbcTemplate.query(SELECT, (resultSet, row) -> resultSet.getTimestamp("mark"), jobName).stream()
+            .findFirst()
+            .map(mark -> mark.toInstant().atZone(ZoneId.systemDefault()));
+    }
+
+    public void set(String jobName, ZonedDateTime mark) {
+        jdbcTemplate.update(UPSERT, jobName, Timestamp.from(mark.toInstant()));
+    }
+}
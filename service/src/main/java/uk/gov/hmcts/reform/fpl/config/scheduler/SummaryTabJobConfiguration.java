@@ -0,0 +1,24 @@
+package uk.gov.hmcts.reform.fpl.config.scheduler;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@NoArgsConstructor
+@AllArgsConstructor
+@ConfigurationProperties(prefix = "fpl.summary-tab")
+public class SummaryTabJobConfiguration {
+    private int workers = 4;
+    private double permitsPerSecond = 10;
+    private Duration minBackoff = Duration.ofMillis(500);
+    private Duration maxBackoff = Duration.ofSeconds(30);
+    private Duration completionTimeout = Duration.ofHours(3);
+}
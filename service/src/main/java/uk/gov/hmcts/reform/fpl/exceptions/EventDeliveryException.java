@@ -0,0 +1,8 @@
+package uk.gov.hmcts.reform.fpl.exceptions;
+
+public class EventDeliveryException extends RuntimeException {
+
+    public EventDeliveryException(Throwable cause) {
+        super("Event handler failed", cause);
+    }
+}
@@ -0,0 +1,22 @@
+package uk.gov.hmcts.reform.fpl.exceptions;
+
+import uk.gov.hmcts.reform.fpl.model.SentDocument;
+
+import java.util.List;
+
+public class LetterSendException extends RuntimeException {
+
+    private final List<SentDocument> sentDocuments;
+
+    public LetterSendException(String message, Throwable cause, List<SentDocument> sentDocuments) {
+        super(message, cause);
+        this.sentDocuments = List.copyOf(sentDocuments);
+    }
+
+    /**
+     * The letters that were posted before the failure, which cannot be taken back.
+     */
+    public List<SentDocument> getSentDocuments() {
+        return sentDocuments;
+    }
+}
@@ -106,6 +106,11 @@ public class LastGenuineUpdateTimeInterceptor implements RequestBodyAdvice,
                     .build();
 
                 if (caseDetailsBefore != null) {
+                    // Only build the full projections when something the converters read has actually changed
+                    if (!cafcassApiSearchCaseService.hasSourceChanged(caseDetailsBefore, caseDetailsAfter)) {
+                        return false;
+                    }
+
                     CafcassApiCase cafcassApiCaseBefore = cafcassApiSearchCaseService
                         .convertToCafcassApiCase(caseDetailsBefore)
                         .toBuilder()
@@ -0,0 +1,52 @@
+package uk.gov.hmcts.reform.fpl.jobs;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.fpl.config.scheduler.EventOutboxConfiguration;
+import uk.gov.hmcts.reform.fpl.exceptions.JobException;
+import uk.gov.hmcts.reform.fpl.service.outbox.EventOutboxDispatcher;
+
+/**
+ * Drains the event outbox, batch by batch, until it is empty or the job has run for its maximum run time. Only one run
+ * is in progress at a time, a run that overruns the schedule delays the next one instead of claiming alongside it.
+ */
+@Slf4j
+@Component
+@DisallowConcurrentExecution
+@RequiredArgsConstructor(onConstructor_ = {@Autowired})
+@ConditionalOnProperty(value = {"scheduler.enabled", "scheduler.event-outbox.enabled"}, havingValue = "true")
+public class EventOutboxJob implements Job {
+
+    private final EventOutboxDispatcher dispatcher;
+    private final EventOutboxConfiguration configuration;
+
+    @Override
+    public void execute(JobExecutionContext jobExecutionContext) {
+        final String jobName = jobExecutionContext.getJobDetail().getKey().getName();
+        final long deadline = System.nanoTime() + configuration.getMaxRunTime().toNanos();
+
+        int total = 0;
+        try {
+            int claimed;
+            do {
+                claimed = dispatcher.dispatch();
+                total += claimed;
+            } while (claimed >= configuration.getBatchSize() && System.nanoTime() < deadline);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JobException(jobName, e);
+        } catch (Exception e) {
+            throw new JobException(jobName, e);
+        }
+
+        if (total > 0) {
+            log.info("Job '{}' dispatched {} event(s)", jobName, total);
+        }
+    }
+}
@@ -15,6 +15,7 @@ import uk.gov.hmcts.reform.fpl.model.CaseData;
 import uk.gov.hmcts.reform.fpl.model.HearingBooking;
 import uk.gov.hmcts.reform.fpl.model.common.Element;
 import uk.gov.hmcts.reform.fpl.service.CaseConverter;
+import uk.gov.hmcts.reform.fpl.service.ccd.CoreCaseDataService;
 import uk.gov.hmcts.reform.fpl.service.cmo.SendOrderReminderService;
 import uk.gov.hmcts.reform.fpl.service.search.SearchService;
 import uk.gov.hmcts.reform.fpl.utils.elasticsearch.BooleanQuery;
@@ -26,6 +27,7 @@ import uk.gov.hmcts.reform.fpl.utils.elasticsearch.MustNot;
 import uk.gov.hmcts.reform.fpl.utils.elasticsearch.RangeQuery;
 
 import java.time.LocalDate;
+import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -38,7 +40,6 @@ import static uk.gov.hmcts.reform.fpl.enums.State.RETURNED;
 import static uk.gov.hmcts.reform.fpl.enums.State.SUBMITTED;
 import static uk.gov.hmcts.reform.fpl.service.search.SearchService.ES_DEFAULT_SIZE;
 import static uk.gov.hmcts.reform.fpl.utils.JobHelper.buildStats;
-import static uk.gov.hmcts.reform.fpl.utils.JobHelper.paginate;
 
 @Slf4j
 @Component
@@ -46,8 +47,12 @@ import static uk.gov.hmcts.reform.fpl.utils.JobHelper.paginate;
 @RequiredArgsConstructor(onConstructor_ = {@Autowired})
 public class OrderChasingEmailJob implements Job {
 
+    // only the fields needed to decide whether to chase, the full case is fetched for the cases that are chased
+    private static final List<String> ES_SEARCH_SOURCES = List.of("data.hearingDetails", "data.sealedCMOs");
+
     private final CaseConverter converter;
     private final SearchService searchService;
+    private final CoreCaseDataService coreCaseDataService;
     private final ApplicationEventPublisher applicationEventPublisher;
     private final SendOrderReminderService sendOrderReminderService;
 
@@ -77,17 +82,18 @@ public class OrderChasingEmailJob implements Job {
             return;
         }
 
-        int pages = paginate(total);
-        log.debug("Job '{}' split the search query over {} pages", jobName, pages);
-        for (int i = 0; i < pages; i++) {
-            try {
-                List<CaseDetails> cases = searchService.search(query, ES_DEFAULT_SIZE, i * ES_DEFAULT_SIZE);
-                for (CaseDetails caseDetails : cases) {
+        int processed = 0;
+        try {
+            Iterator<List<CaseDetails>> pages = searchService.searchAll(query, ES_DEFAULT_SIZE, ES_SEARCH_SOURCES);
+            while (pages.hasNext()) {
+                for (CaseDetails caseDetails : pages.next()) {
                     final Long caseId = caseDetails.getId();
+                    processed++;
                     try {
-                        CaseData caseData = converter.convert(caseDetails);
-                        if (shouldSendChasingEmail(caseData)) {
+                        if (shouldSendChasingEmail(converter.convert(caseDetails))) {
                             log.debug("Job '{}' sending chase email for case {}", jobName, caseId);
+                            CaseData caseData = converter.convert(
+                                coreCaseDataService.findCaseDetailsByIdNonUser(caseId.toString()));
                             applicationEventPublisher.publishEvent(new SendOrderReminderEvent(caseData));
                             chased++;
                         } else {
@@ -101,14 +107,14 @@ public class OrderChasingEmailJob implements Job {
                         Thread.sleep(2000); // If CCD is overwhelmed, stop for 2s before continuing
                     }
                 }
-            } catch (Exception e) {
-                if (Thread.interrupted()) {
-                    // if this exception was on Thread.sleep rather than get case details
-                    Thread.currentThread().interrupt();
-                }
-                log.error("Job '{}' could not search for cases due to {}", jobName, e.getMessage(), e);
-                failed += ES_DEFAULT_SIZE;
             }
+        } catch (InterruptedException e) {
+            log.error("Job '{}' was interrupted before all cases were chased", jobName, e);
+            Thread.currentThread().interrupt();
+            failed += Math.max(total - processed, 0);
+        } catch (Exception e) {
+            log.error("Job '{}' could not search for cases due to {}", jobName, e.getMessage(), e);
+            failed += Math.max(total - processed, 0);
         }
 
         log.info("Job '{}' finished. {}", jobName, buildStats(total, skipped, chased, failed));
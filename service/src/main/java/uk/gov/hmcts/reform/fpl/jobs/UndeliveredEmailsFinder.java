@@ -2,32 +2,46 @@ package uk.gov.hmcts.reform.fpl.jobs;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.quartz.DisallowConcurrentExecution;
 import org.quartz.Job;
 import org.quartz.JobExecutionContext;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.ApplicationEventPublisher;
+import uk.gov.hmcts.reform.fpl.config.scheduler.JobHighWaterMarks;
 import uk.gov.hmcts.reform.fpl.events.UndeliveredEmailsFound;
 import uk.gov.hmcts.reform.fpl.exceptions.JobException;
 import uk.gov.hmcts.reform.fpl.model.UndeliveredEmail;
+import uk.gov.service.notify.Notification;
 import uk.gov.service.notify.NotificationClient;
 import uk.gov.service.notify.NotificationList;
 
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 
-import static java.util.stream.Collectors.toList;
-
+/**
+ * Reports emails Notify gave up on since the last run, reading failed emails page by page, newest first, and
+ * reporting them in batches. How far the last run got is kept as a high water mark, runs without one, or whose mark
+ * is older than the report period, report the emails that failed within the report period. The mark never moves
+ * past the time the run started, so an email reported as failing later than that by a clock ahead of ours is reported
+ * again rather than anything failing in between being missed.
+ */
 @Slf4j
+@DisallowConcurrentExecution
 @RequiredArgsConstructor(onConstructor_ = {@Autowired})
 @ConditionalOnProperty(value = "scheduler.enabled", havingValue = "true")
 public class UndeliveredEmailsFinder implements Job {
 
     private static final int REPORT_PERIOD_IN_DAYS = 1;
+    // Notify keeps retrying an email for up to 72 hours before marking it as failed
+    private static final int MAX_DELIVERY_TIME_IN_HOURS = 72;
+    private static final int BATCH_SIZE = 100;
 
     private final NotificationClient notifications;
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final JobHighWaterMarks highWaterMarks;
 
     @Override
     public void execute(JobExecutionContext jobExecutionContext) {
@@ -36,21 +50,45 @@ public class UndeliveredEmailsFinder implements Job {
         log.info("Job '{}' started", jobName);
 
         try {
-            ZonedDateTime reportFrom = ZonedDateTime.now().minus(REPORT_PERIOD_IN_DAYS, ChronoUnit.DAYS);
+            final ZonedDateTime startedAt = ZonedDateTime.now();
+            final ZonedDateTime reportPeriodStart = startedAt.minus(REPORT_PERIOD_IN_DAYS, ChronoUnit.DAYS);
+            ZonedDateTime reportFrom = highWaterMarks.get(jobName)
+                .filter(mark -> mark.isAfter(reportPeriodStart))
+                .orElse(reportPeriodStart);
+            // emails created before this cannot have failed since the report started
+            final ZonedDateTime createdFrom = reportFrom.minus(MAX_DELIVERY_TIME_IN_HOURS, ChronoUnit.HOURS);
+
+            ZonedDateTime latestFailure = reportFrom;
+            List<UndeliveredEmail> batch = new ArrayList<>();
+            int found = 0;
+            String olderThanId = null;
+
+            do {
+                NotificationList page = notifications.getNotifications("failed", "email", null, olderThanId);
+                List<Notification> failedEmails = page.getNotifications();
 
-            NotificationList undeliveredEmailsReport = notifications.getNotifications("failed", "email", null, null);
+                for (Notification email : failedEmails) {
+                    ZonedDateTime completedAt = email.getCompletedAt().orElse(null);
+                    if (completedAt != null && completedAt.isAfter(reportFrom)) {
+                        batch.add(UndeliveredEmail.fromNotification(email));
+                        found++;
+                        latestFailure = completedAt.isAfter(latestFailure) ? completedAt : latestFailure;
+                    }
+                    if (batch.size() == BATCH_SIZE) {
+                        report(batch);
+                    }
+                }
 
-            List<UndeliveredEmail> undeliveredEmails = undeliveredEmailsReport.getNotifications().stream()
-                .filter(email -> email.getCompletedAt().isPresent())
-                .filter(email -> email.getCompletedAt().get().isAfter(reportFrom))
-                .map(UndeliveredEmail::fromNotification)
-                .collect(toList());
+                olderThanId = nextPage(page, createdFrom);
+            } while (olderThanId != null);
 
-            if (undeliveredEmails.isEmpty()) {
+            report(batch);
+            highWaterMarks.set(jobName, latestFailure.isAfter(startedAt) ? startedAt : latestFailure);
+
+            if (found == 0) {
                 log.info("Job '{}' did not find any undelivered emails", jobName);
             } else {
-                log.info("Job '{}' found {} undelivered email(s)", jobName, undeliveredEmails.size());
-                applicationEventPublisher.publishEvent(new UndeliveredEmailsFound(undeliveredEmails));
+                log.info("Job '{}' found {} undelivered email(s)", jobName, found);
             }
 
         } catch (Exception ex) {
@@ -59,4 +97,20 @@ public class UndeliveredEmailsFinder implements Job {
 
         log.info("Job '{}' finished", jobName);
     }
+
+    private void report(List<UndeliveredEmail> batch) {
+        if (!batch.isEmpty()) {
+            applicationEventPublisher.publishEvent(new UndeliveredEmailsFound(List.copyOf(batch)));
+            batch.clear();
+        }
+    }
+
+    private static String nextPage(NotificationList page, ZonedDateTime createdFrom) {
+        List<Notification> failedEmails = page.getNotifications();
+        if (page.getNextPageLink().isEmpty() || failedEmails.isEmpty()) {
+            return null;
+        }
+        Notification oldest = failedEmails.get(failedEmails.size() - 1);
+        return oldest.getCreatedAt().isAfter(createdFrom) ? oldest.getId().toString() : null;
+    }
 }
@@ -9,6 +9,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.fpl.config.scheduler.SummaryTabJobConfiguration;
 import uk.gov.hmcts.reform.fpl.enums.State;
 import uk.gov.hmcts.reform.fpl.model.CaseData;
 import uk.gov.hmcts.reform.fpl.model.summary.SyntheticCaseSummary;
@@ -17,6 +18,7 @@ import uk.gov.hmcts.reform.fpl.service.FeatureToggleService;
 import uk.gov.hmcts.reform.fpl.service.ccd.CoreCaseDataService;
 import uk.gov.hmcts.reform.fpl.service.search.SearchService;
 import uk.gov.hmcts.reform.fpl.service.summary.CaseSummaryService;
+import uk.gov.hmcts.reform.fpl.utils.RateLimitedWorkerPool;
 import uk.gov.hmcts.reform.fpl.utils.elasticsearch.BooleanQuery;
 import uk.gov.hmcts.reform.fpl.utils.elasticsearch.ESQuery;
 import uk.gov.hmcts.reform.fpl.utils.elasticsearch.MatchQuery;
@@ -24,13 +26,15 @@ import uk.gov.hmcts.reform.fpl.utils.elasticsearch.Must;
 import uk.gov.hmcts.reform.fpl.utils.elasticsearch.MustNot;
 import uk.gov.hmcts.reform.fpl.utils.elasticsearch.RangeQuery;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static uk.gov.hmcts.reform.fpl.service.search.SearchService.ES_DEFAULT_SIZE;
 import static uk.gov.hmcts.reform.fpl.utils.JobHelper.buildStats;
-import static uk.gov.hmcts.reform.fpl.utils.JobHelper.paginate;
 
 @Slf4j
 @Component
@@ -38,7 +42,10 @@ import static uk.gov.hmcts.reform.fpl.utils.JobHelper.paginate;
 @RequiredArgsConstructor(onConstructor_ = {@Autowired})
 public class UpdateSummaryCaseDetails implements Job {
     private static final String EVENT_NAME = "internal-update-case-summary";
+    private static final int MAX_ATTEMPTS = 5;
     private static final String RANGE_FIELD = "data.caseSummaryNextHearingDate";
+    // the summary is generated from the case returned by start event, the search only needs the case references
+    private static final List<String> ES_SEARCH_SOURCES = List.of("reference");
 
     private final CaseConverter converter;
     private final ObjectMapper mapper;
@@ -46,6 +53,7 @@ public class UpdateSummaryCaseDetails implements Job {
     private final CoreCaseDataService ccdService;
     private final FeatureToggleService toggleService;
     private final CaseSummaryService summaryService;
+    private final SummaryTabJobConfiguration jobConfiguration;
 
     public Map<String, Object> getUpdates(CaseDetails caseDetails) {
         CaseData caseData = converter.convert(caseDetails);
@@ -78,36 +86,81 @@ public class UpdateSummaryCaseDetails implements Job {
             return;
         }
 
-        int updated = 0;
-        int failed = 0;
+        final AtomicInteger updated = new AtomicInteger();
+        final AtomicInteger skipped = new AtomicInteger();
+        final AtomicInteger failed = new AtomicInteger();
 
-        int pages = paginate(total);
-        log.debug("Job '{}' split the search query over {} pages", jobName, pages);
-        for (int i = 0; i < pages; i++) {
+        log.debug("Job '{}' updating cases using {} workers", jobName, jobConfiguration.getWorkers());
+
+        try (RateLimitedWorkerPool workers = new RateLimitedWorkerPool(jobName,
+            jobConfiguration.getWorkers(),
+            jobConfiguration.getPermitsPerSecond(),
+            jobConfiguration.getMinBackoff(),
+            jobConfiguration.getMaxBackoff())) {
+
+            int queued = 0;
             try {
-                List<CaseDetails> cases = searchService.search(query, ES_DEFAULT_SIZE, i * ES_DEFAULT_SIZE);
-                for (CaseDetails caseDetails : cases) {
-                    final Long caseId = caseDetails.getId();
-                    try {
-                        log.debug("Job '{}' updating case {}", jobName, caseId);
-                        ccdService.performPostSubmitCallback(
-                            caseId,
-                            EVENT_NAME,
-                            this::getUpdates
-                        );
-                    } catch (Exception e) {
-                        log.error("Job '{}' could not update case {} due to {}", jobName, caseId, e.getMessage(), e);
-                        failed++;
-                        Thread.sleep(3000); // give ccd time to recover in case it was getting too many request
+                Iterator<List<CaseDetails>> pages = searchService.searchAll(query, ES_DEFAULT_SIZE, ES_SEARCH_SOURCES);
+                while (pages.hasNext()) {
+                    for (CaseDetails caseDetails : pages.next()) {
+                        final Long caseId = caseDetails.getId();
+                        workers.submit(() -> updateCase(jobName, caseId, workers, updated, skipped, failed));
+                        queued++;
                     }
                 }
-            } catch (Exception e) {
+            } catch (RuntimeException e) {
                 log.error("Job '{}' could not search for cases due to {}", jobName, e.getMessage(), e);
-                failed += ES_DEFAULT_SIZE;
+                failed.addAndGet(Math.max(total - queued, 0));
             }
+
+            workers.shutdown(jobConfiguration.getCompletionTimeout());
+        } catch (InterruptedException e) {
+            log.error("Job '{}' was interrupted before all cases were updated", jobName, e);
+            Thread.currentThread().interrupt();
         }
 
-        log.info("Job '{}' finished. {}", jobName, buildStats(total, 0, updated, failed));
+        log.info("Job '{}' finished. {}", jobName, buildStats(total, skipped.get(), updated.get(), failed.get()));
+    }
+
+    private void updateCase(String jobName, Long caseId, RateLimitedWorkerPool workers,
+                            AtomicInteger updated, AtomicInteger skipped, AtomicInteger failed) {
+        final AtomicBoolean changed = new AtomicBoolean();
+        final AtomicBoolean summaryFailed = new AtomicBoolean();
+        int attempt = 1;
+        while (true) {
+            try {
+                log.debug("Job '{}' updating case {}", jobName, caseId);
+                // retried here rather than by ccdService so every attempt waits its turn in the pool
+                ccdService.performPostSubmitCallbackWithoutRetry(caseId, EVENT_NAME, caseDetails -> {
+                    summaryFailed.set(true);
+                    Map<String, Object> updates = getUpdates(caseDetails);
+                    summaryFailed.set(false);
+                    changed.set(!updates.isEmpty());
+                    return updates;
+                });
+                workers.recover();
+                if (changed.get()) {
+                    updated.incrementAndGet();
+                } else {
+                    skipped.incrementAndGet();
+                }
+                return;
+            } catch (Exception e) {
+                if (RateLimitedWorkerPool.isThrottled(e)) {
+                    // give ccd time to recover in case it was getting too many requests
+                    workers.backOff();
+                }
+                // a case whose summary cannot be generated will fail the same way every time
+                if (attempt >= MAX_ATTEMPTS || summaryFailed.get() || !workers.awaitTurn()) {
+                    log.error("Job '{}' could not update case {} due to {}", jobName, caseId, e.getMessage(), e);
+                    failed.incrementAndGet();
+                    return;
+                }
+                log.warn("Job '{}' retrying case {} after attempt {} failed due to {}", jobName, caseId, attempt,
+                    e.getMessage());
+                attempt++;
+            }
+        }
     }
 
     private boolean shouldUpdate(Map<String, Object> updatedData, CaseData oldData) {
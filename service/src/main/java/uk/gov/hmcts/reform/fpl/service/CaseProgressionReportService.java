@@ -28,11 +28,11 @@ import uk.gov.hmcts.reform.fpl.utils.elasticsearch.TermsQuery;
 
 import java.io.File;
 import java.io.IOException;
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -43,7 +43,6 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 
-import static java.math.RoundingMode.UP;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.maxBy;
 import static uk.gov.hmcts.reform.fpl.enums.CaseProgressionReportType.AT_RISK;
@@ -53,6 +52,7 @@ import static uk.gov.hmcts.reform.fpl.enums.HearingType.FINAL;
 import static uk.gov.hmcts.reform.fpl.enums.HearingType.ISSUE_RESOLUTION;
 import static uk.gov.hmcts.reform.fpl.service.search.SearchService.ES_DEFAULT_SIZE;
 import static uk.gov.hmcts.reform.fpl.utils.DateFormatterHelper.formatLocalDateToString;
+import static uk.gov.hmcts.reform.fpl.utils.DateFormatterHelper.parseLocalDateFromStringUsingFormat;
 
 @Service
 @RequiredArgsConstructor
@@ -73,6 +73,11 @@ public class CaseProgressionReportService {
             "submitted","gatekeeping","prepare_for_hearing","final_hearing"
     );
 
+    // only the case fields read by getHearingInfo are fetched from elastic search
+    public static final List<String> ES_SEARCH_SOURCES = List.of(
+            "data.hearingDetails", "data.dateSubmitted", "data.familyManCaseNumber"
+    );
+
     private final SearchService searchService;
     private final CaseConverter converter;
     private final CourtService courtService;
@@ -127,7 +132,8 @@ public class CaseProgressionReportService {
         SearchResult searchResult = searchService.search(esQuery,
                 100,
                 0,
-                buildSortClause());
+                buildSortClause(),
+                ES_SEARCH_SOURCES);
         log.info("record count {}", searchResult.getTotal());
 
         StringBuilder courtTable = new StringBuilder();
@@ -220,47 +226,33 @@ public class CaseProgressionReportService {
     private Optional<File> getFileReport(CaseData caseDataSelected, Function<LocalDate, RangeQuery> rangeQueryFunction)
             throws IOException {
         String courtId = getCourt(caseDataSelected.getCaseProgressionReportEventData());
-        Optional<File> optFile = Optional.empty();
 
         ESQuery esQuery = buildQuery(courtId, rangeQueryFunction.apply(getComplianceDeadline.get()));
         log.info("query {}", esQuery.toMap());
 
-        SearchResult searchResult = searchService.search(esQuery,
-                ES_DEFAULT_SIZE,
-                0,
-                buildSortClause());
+        List<HearingInfo> hearingInfoList = new ArrayList<>();
+        int total = 0;
+        Iterator<List<CaseDetails>> pages = searchService.searchAll(esQuery, ES_DEFAULT_SIZE, ES_SEARCH_SOURCES);
+        while (pages.hasNext()) {
+            for (CaseDetails caseDetails : pages.next()) {
+                total++;
+                CaseData caseData = converter.convert(caseDetails);
 
-        int total = searchResult.getTotal();
+                Optional<HearingInfo> optionalHearingInfo = getHearingInfo(caseData);
+                optionalHearingInfo.ifPresent(hearingInfoList::add);
+            }
+        }
         log.info("record count {}", total);
-        if (total > 0) {
-            int pages = paginate(searchResult.getTotal());
 
-            List<HearingInfo> hearingInfoList = new ArrayList<>();
-            int counter = 0;
-            do {
-                for (CaseDetails caseDetails : searchResult.getCases()) {
-                    CaseData caseData = converter.convert(caseDetails);
-
-                    Optional<HearingInfo> optionalHearingInfo = getHearingInfo(caseData);
-                    optionalHearingInfo.ifPresent(hearingInfoList::add);
-                }
-                if (++counter  < pages) {
-                    searchResult = searchService.search(esQuery,
-                            ES_DEFAULT_SIZE,
-                            counter * ES_DEFAULT_SIZE,
-                            buildSortClause());
-                }
-            } while (counter  < pages);
-
-            if (!hearingInfoList.isEmpty()) {
-                optFile = Optional.of(CsvWriter.writeHearingInfoToCsv(hearingInfoList));
-            }
+        if (hearingInfoList.isEmpty()) {
+            return Optional.empty();
         }
-        return optFile;
-    }
 
-    private int paginate(int total) {
-        return new BigDecimal(total).divide(new BigDecimal(ES_DEFAULT_SIZE), UP).intValue();
+        // cases are paged through in reference order, the report lists the most recently submitted first
+        hearingInfoList.sort(Comparator.comparing(
+            (HearingInfo hearingInfo) -> parseLocalDateFromStringUsingFormat(hearingInfo.getDateSubmitted(),
+                DATE_FORMAT)).reversed());
+        return Optional.of(CsvWriter.writeHearingInfoToCsv(hearingInfoList));
     }
 
     public Optional<HearingInfo> getHearingInfo(CaseData caseData) {
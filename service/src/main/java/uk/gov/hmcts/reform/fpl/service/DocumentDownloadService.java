@@ -1,5 +1,6 @@
 package uk.gov.hmcts.reform.fpl.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -34,9 +35,13 @@ public class DocumentDownloadService {
     private final SecureDocStoreService secureDocStoreService;
     private final FeatureToggleService featureToggleService;
     private final SystemUserService systemUserService;
+    private final MeterRegistry meterRegistry;
 
     public byte[] downloadDocument(final String documentUrlString) {
-        return new SecureDocStoreHelper(secureDocStoreService, featureToggleService).download(documentUrlString, () -> {
+        SecureDocStoreHelper secureDocStoreHelper = new SecureDocStoreHelper(secureDocStoreService,
+            featureToggleService, meterRegistry);
+
+        return secureDocStoreHelper.download(documentUrlString, () -> {
             String userRoles = "caseworker-publiclaw-systemupdate";
             boolean useSystemUser = false;
             try {
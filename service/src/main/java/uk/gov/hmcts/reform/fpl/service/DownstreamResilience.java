@@ -0,0 +1,133 @@
+package uk.gov.hmcts.reform.fpl.service;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.fpl.config.ResilienceConfiguration;
+
+import java.time.Duration;
+import java.util.function.Predicate;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Gives each downstream service its own circuit breaker and bulkhead, so a slow or failing dependency can only tie up
+ * a bounded number of request threads, and once it keeps failing is not called at all for a while. Callbacks that do
+ * not need the dependency carry on as normal.
+ *
+ * <p>A call refused because the circuit is open throws {@link CallNotPermittedException}. A call made while the
+ * dependency already has its maximum number of calls in flight waits for one to finish, and throws
+ * {@link BulkheadFullException} if none does within the configured wait. Breaker state
+ * and bulkhead usage are published under the resilience4j metrics, tagged with the name of the dependency.
+ */
+@Component
+public class DownstreamResilience {
+
+    public static final String NOTIFY = "notify";
+
+    private final ResilienceConfiguration configuration;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+
+    @Autowired
+    public DownstreamResilience(ResilienceConfiguration configuration, MeterRegistry meterRegistry) {
+        this.configuration = configuration;
+        this.circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+            .failureRateThreshold(configuration.getFailureRateThreshold())
+            .slowCallRateThreshold(configuration.getSlowCallRateThreshold())
+            .slowCallDurationThreshold(configuration.getSlowCallDuration())
+            .slidingWindowSize(configuration.getSlidingWindowSize())
+            .minimumNumberOfCalls(configuration.getMinimumNumberOfCalls())
+            .waitDurationInOpenState(configuration.getWaitInOpenState())
+            .build());
+        this.bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+            .maxConcurrentCalls(configuration.getMaxConcurrentCalls())
+            .maxWaitDuration(configuration.getMaxWaitForCall())
+            .build());
+
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+    }
+
+    public <T, E extends Exception> T call(String dependency, DownstreamCall<T, E> call) throws E {
+        return call(dependency, call, result -> false, error -> true);
+    }
+
+    public <T, E extends Exception> T call(String dependency, DownstreamCall<T, E> call,
+                                           Predicate<? super T> isErrorResponse) throws E {
+        return call(dependency, call, isErrorResponse, error -> true);
+    }
+
+    /**
+     * Calls the dependency through its circuit breaker and bulkhead. Responses and errors matching the predicates
+     * count as failures of the dependency, other errors, such as a request the dependency rejected as invalid, show
+     * the dependency is up and count as successes.
+     */
+    public <T, E extends Exception> T call(String dependency, DownstreamCall<T, E> call,
+                                           Predicate<? super T> isErrorResponse,
+                                           Predicate<Throwable> isError) throws E {
+        if (!configuration.isEnabled()) {
+            return call.call();
+        }
+
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(dependency);
+        circuitBreaker.acquirePermission();
+
+        Bulkhead bulkhead = bulkhead(dependency);
+        try {
+            bulkhead.acquirePermission();
+        } catch (BulkheadFullException e) {
+            circuitBreaker.releasePermission();
+            throw e;
+        }
+
+        long start = System.nanoTime();
+        try {
+            T result = call.call();
+            if (isErrorResponse.test(result)) {
+                circuitBreaker.onError(System.nanoTime() - start, NANOSECONDS,
+                    new IllegalStateException(dependency + " responded with an error"));
+            } else {
+                circuitBreaker.onSuccess(System.nanoTime() - start, NANOSECONDS);
+            }
+            return result;
+        } catch (Throwable error) {
+            if (isError.test(error)) {
+                circuitBreaker.onError(System.nanoTime() - start, NANOSECONDS, error);
+            } else {
+                circuitBreaker.onSuccess(System.nanoTime() - start, NANOSECONDS);
+            }
+            throw error;
+        } finally {
+            bulkhead.onComplete();
+        }
+    }
+
+    /**
+     * How long a single call to the dependency may wait for its response.
+     */
+    public Duration timeout(String dependency) {
+        return configuration.getTimeout(dependency);
+    }
+
+    private Bulkhead bulkhead(String dependency) {
+        return bulkheadRegistry.bulkhead(dependency, () -> BulkheadConfig.from(bulkheadRegistry.getDefaultConfig())
+            .maxConcurrentCalls(configuration.getMaxConcurrentCalls(dependency))
+            .build());
+    }
+
+    @FunctionalInterface
+    public interface DownstreamCall<T, E extends Exception> {
+        T call() throws E;
+    }
+}
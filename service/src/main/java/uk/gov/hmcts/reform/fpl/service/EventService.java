@@ -5,6 +5,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.fpl.service.outbox.EventOutbox;
+
+import java.util.Optional;
 
 @Service
 @Slf4j
@@ -12,8 +15,24 @@ import org.springframework.stereotype.Service;
 public class EventService {
 
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final Optional<EventOutbox> eventOutbox;
 
+    /**
+     * Publishes the event to its handlers. Events configured as durable are stored in the outbox instead and
+     * published from there, if storing one fails it is published straight away rather than lost.
+     */
     public void publishEvent(Object event) {
+        if (eventOutbox.isPresent() && eventOutbox.get().isDurable(event)) {
+            try {
+                eventOutbox.get().add(event);
+                log.debug("Stored event {} in the outbox", event.getClass().getSimpleName());
+                return;
+            } catch (Exception e) {
+                log.error("Could not store event {} in the outbox, publishing it directly",
+                    event.getClass().getSimpleName(), e);
+            }
+        }
+
         log.debug("Publishing event {}", event.getClass().getSimpleName());
         applicationEventPublisher.publishEvent(event);
     }
@@ -0,0 +1,108 @@
+package uk.gov.hmcts.reform.fpl.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.rendering.PDFRenderer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.fpl.model.common.DocmosisDocument;
+import uk.gov.hmcts.reform.fpl.model.document.SealType;
+import uk.gov.hmcts.reform.fpl.service.docmosis.DocmosisDocumentGeneratorService;
+import uk.gov.hmcts.reform.fpl.service.docmosis.DocumentConversionService;
+import uk.gov.hmcts.reform.fpl.service.time.Time;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+import javax.imageio.ImageIO;
+
+import static uk.gov.hmcts.reform.fpl.enums.DocmosisTemplates.HIGH_COURT_SEAL;
+import static uk.gov.hmcts.reform.fpl.utils.DateFormatterHelper.DATE;
+import static uk.gov.hmcts.reform.fpl.utils.DateFormatterHelper.formatLocalDateToString;
+import static uk.gov.hmcts.reform.fpl.utils.ResourceReader.readBytes;
+
+/**
+ * Renders the High Court seal, which shows the date of issue, once per day rather than once per sealed document.
+ * Seals are cached against their type and date of issue, so the first seal requested after midnight is rendered
+ * with the new date while the previous day's seal ages out of the cache.
+ */
+@Slf4j
+@Service
+public class HighCourtSealService {
+
+    private static final SealType SEAL_TYPE = SealType.HIGHCOURT_ENGLISH;
+
+    private final DocmosisDocumentGeneratorService docmosisDocumentGeneratorService;
+    private final DocumentConversionService documentConversionService;
+    private final Time time;
+    private final Cache<Seal, byte[]> seals = Caffeine.newBuilder()
+        .maximumSize(10)
+        .expireAfterWrite(Duration.ofDays(1))
+        .recordStats()
+        .build();
+
+    @Autowired
+    public HighCourtSealService(DocmosisDocumentGeneratorService docmosisDocumentGeneratorService,
+                                DocumentConversionService documentConversionService,
+                                Time time,
+                                MeterRegistry meterRegistry) {
+        this.docmosisDocumentGeneratorService = docmosisDocumentGeneratorService;
+        this.documentConversionService = documentConversionService;
+        this.time = time;
+        CaffeineCacheMetrics.monitor(meterRegistry, seals, "highCourtSealCache");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void prewarm() {
+        try {
+            getSeal();
+            log.info("Rendered High Court seal for {}", today());
+        } catch (Exception e) {
+            log.warn("Could not render High Court seal on startup, it will be rendered when first needed", e);
+        }
+    }
+
+    public byte[] getSeal() {
+        // a seal that failed to render is not cached, so the next document tries to render it again
+        return Optional.ofNullable(seals.get(new Seal(SEAL_TYPE, today()), this::render))
+            .orElseGet(() -> readBytes(SEAL_TYPE.getImage()));
+    }
+
+    private byte[] render(Seal seal) {
+        DocmosisDocument docmosisDocument = docmosisDocumentGeneratorService.generateDocmosisDocument(
+            Map.of("dateOfIssue", formatLocalDateToString(seal.dateOfIssue(), DATE)),
+            HIGH_COURT_SEAL);
+        byte[] bytes = documentConversionService.convertToPdf(
+            docmosisDocument.getBytes(),
+            docmosisDocument.getDocumentTitle()
+        );
+        try (PDDocument document = PDDocument.load(bytes)) {
+            PDFRenderer renderer = new PDFRenderer(document);
+            BufferedImage image = renderer.renderImage(0);
+
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            ImageIO.write(image, "PNG", baos);
+            return baos.toByteArray();
+        } catch (IOException e) {
+            log.error(e.getMessage(), e);
+            return null;
+        }
+    }
+
+    private LocalDate today() {
+        return time.now().toLocalDate();
+    }
+
+    private record Seal(SealType type, LocalDate dateOfIssue) {
+    }
+}
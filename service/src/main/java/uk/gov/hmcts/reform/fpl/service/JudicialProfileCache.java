@@ -0,0 +1,118 @@
+package uk.gov.hmcts.reform.fpl.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.rd.model.JudicialUserProfile;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Remembers judicial profiles looked up in JRD by personal code, so validating the same judge again, as happens every
+ * time a hearing or allocation page is resubmitted, does not call JRD. Personal codes JRD does not know are remembered
+ * too, for a shorter time, so a judge added to JRD since can still be found soon after.
+ *
+ * <p>Lookups are published as metrics, whether they were answered from the judges loaded up front, from the cache or
+ * by JRD, and how long each call to JRD took.
+ */
+@Component
+public class JudicialProfileCache {
+
+    public static final String CACHE_METRIC = "fpl.judicial_profile_cache.requests";
+    public static final String JRD_METRIC = "fpl.jrd.find_users";
+
+    private final boolean enabled;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, Optional<JudicialUserProfile>> profiles;
+
+    @Autowired
+    public JudicialProfileCache(@Value("${fpl.judicial_profile_cache.enabled:true}") boolean enabled,
+                                @Value("${fpl.judicial_profile_cache.ttl:1h}") Duration ttl,
+                                @Value("${fpl.judicial_profile_cache.not_found_ttl:5m}") Duration notFoundTtl,
+                                @Value("${fpl.judicial_profile_cache.max_size:10000}") long maxSize,
+                                MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.meterRegistry = meterRegistry;
+        this.profiles = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfter(new Expiry<String, Optional<JudicialUserProfile>>() {
+                @Override
+                public long expireAfterCreate(String personalCode, Optional<JudicialUserProfile> profile,
+                                              long currentTime) {
+                    return (profile.isPresent() ? ttl : notFoundTtl).toNanos();
+                }
+
+                @Override
+                public long expireAfterUpdate(String personalCode, Optional<JudicialUserProfile> profile,
+                                              long currentTime, long currentDuration) {
+                    return expireAfterCreate(personalCode, profile, currentTime);
+                }
+
+                @Override
+                public long expireAfterRead(String personalCode, Optional<JudicialUserProfile> profile,
+                                            long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+    }
+
+    /**
+     * Gets the profile of the judge with the personal code, asking JRD only when it is not cached. Failed calls to JRD
+     * are not cached.
+     */
+    public Optional<JudicialUserProfile> get(String personalCode, Supplier<List<JudicialUserProfile>> jrd) {
+        if (!enabled) {
+            return findInJrd(jrd);
+        }
+
+        Optional<JudicialUserProfile> cached = profiles.getIfPresent(personalCode);
+        if (cached != null) {
+            record("hit");
+            return cached;
+        }
+
+        // lookups of the same personal code at the same time wait for a single call to JRD
+        return profiles.get(personalCode, missingCode -> {
+            record("miss");
+            return findInJrd(jrd);
+        });
+    }
+
+    /**
+     * Records a lookup answered from the publiclaw judges loaded up front, which never reaches the cache.
+     */
+    public void recordPreloaded() {
+        record("preloaded");
+    }
+
+    private void record(String result) {
+        meterRegistry.counter(CACHE_METRIC, "result", result).increment();
+    }
+
+    private Optional<JudicialUserProfile> findInJrd(Supplier<List<JudicialUserProfile>> jrd) {
+        long start = System.nanoTime();
+        String outcome = "failed";
+        try {
+            Optional<JudicialUserProfile> profile = jrd.get().stream().findFirst();
+            outcome = profile.isPresent() ? "found" : "not_found";
+            return profile;
+        } finally {
+            Timer.builder(JRD_METRIC)
+                .description("Time taken to look judges up in JRD by personal code")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, NANOSECONDS);
+        }
+    }
+}
@@ -88,6 +88,7 @@ public class JudicialService {
     private final JudicialUsersConfiguration judicialUsersConfiguration;
     private final LegalAdviserUsersConfiguration legalAdviserUsersConfiguration;
     private final ElinksService elinksService;
+    private final JudicialProfileCache judicialProfileCache;
 
     /**
      * Delete a set of allocated-[users] on a specific case.
@@ -232,17 +233,7 @@ public class JudicialService {
      */
     @Retryable(value = {FeignException.class}, label = "Check a judge exists in JRD")
     public boolean checkJudgeExists(String personalCode) {
-        if (isEmpty(personalCode)) {
-            return false;
-        }
-        String systemUserToken = systemUserService.getSysUserToken();
-        List<JudicialUserProfile> judges = judicialApi.findUsers(systemUserToken,
-            authTokenGenerator.generate(),
-            JUDICIAL_PAGE_SIZE,
-            elinksService.getElinksAcceptHeader(),
-            JudicialUserRequest.fromPersonalCode(personalCode));
-
-        return !judges.isEmpty();
+        return findJudge(personalCode).isPresent();
     }
 
     /**
@@ -271,21 +262,7 @@ public class JudicialService {
      */
     @Retryable(value = {FeignException.class}, label = "Search JRD for a judge by personal code")
     public Optional<JudicialUserProfile> getJudge(String personalCode) {
-        if (isEmpty(personalCode)) {
-            return Optional.empty();
-        }
-        String systemUserToken = systemUserService.getSysUserToken();
-        List<JudicialUserProfile> judges = judicialApi.findUsers(systemUserToken,
-            authTokenGenerator.generate(),
-            JUDICIAL_PAGE_SIZE,
-            elinksService.getElinksAcceptHeader(),
-            JudicialUserRequest.fromPersonalCode(personalCode));
-
-        if (judges.isEmpty()) {
-            return Optional.empty();
-        } else {
-            return Optional.of(judges.get(0));
-        }
+        return findJudge(personalCode);
     }
 
     /**
@@ -469,6 +446,25 @@ public class JudicialService {
         return List.of();
     }
 
+    private Optional<JudicialUserProfile> findJudge(String personalCode) {
+        if (isEmpty(personalCode)) {
+            return Optional.empty();
+        }
+
+        // publiclaw judges are already loaded, others are looked up in JRD and cached for a while
+        Optional<JudicialUserProfile> preloaded = judicialUsersConfiguration.getJudgeByPersonalCode(personalCode);
+        if (preloaded.isPresent()) {
+            judicialProfileCache.recordPreloaded();
+            return preloaded;
+        }
+        return judicialProfileCache.get(personalCode, () -> judicialApi.findUsers(
+            systemUserService.getSysUserToken(),
+            authTokenGenerator.generate(),
+            JUDICIAL_PAGE_SIZE,
+            elinksService.getElinksAcceptHeader(),
+            JudicialUserRequest.fromPersonalCode(personalCode)));
+    }
+
     private ZonedDateTime currentTimeUK() {
         return ZonedDateTime.now(LONDON_TIMEZONE);
     }
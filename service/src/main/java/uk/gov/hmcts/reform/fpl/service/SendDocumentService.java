@@ -6,6 +6,7 @@ import org.apache.commons.lang3.ObjectUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.fpl.enums.IsAddressKnowType;
+import uk.gov.hmcts.reform.fpl.exceptions.LetterSendException;
 import uk.gov.hmcts.reform.fpl.model.Address;
 import uk.gov.hmcts.reform.fpl.model.CaseData;
 import uk.gov.hmcts.reform.fpl.model.Recipient;
@@ -70,13 +71,26 @@ public class SendDocumentService {
 
         if (isNotEmpty(deliverableRecipients) && isNotEmpty(documentToBeSent)) {
             // Perform sendLetter calls
-            List<SentDocument> docs = documentToBeSent.stream()
-                .flatMap(document -> sendLetters.send(document.getDocumentReference(),
-                    deliverableRecipients,
-                    caseData.getId(),
-                    caseData.getFamilyManCaseNumber(),
-                    document.getLanguage()).stream())
-                .collect(toList());
+            List<SentDocument> docs = new ArrayList<>();
+            LetterSendException failure = null;
+            for (DocumentReferenceWithLanguage document : documentToBeSent) {
+                try {
+                    docs.addAll(sendLetters.send(document.getDocumentReference(),
+                        deliverableRecipients,
+                        caseData.getId(),
+                        caseData.getFamilyManCaseNumber(),
+                        document.getLanguage()));
+                } catch (LetterSendException e) {
+                    // letters already posted cannot be taken back, so they still go in the audit trail
+                    docs.addAll(e.getSentDocuments());
+                    failure = e;
+                    break;
+                }
+            }
+
+            if (failure != null && docs.isEmpty()) {
+                throw failure;
+            }
 
             // Pop the audit trail on the case data if successful
             caseService.performPostSubmitCallback(caseData.getId(), UPDATE_CASE_EVENT,
@@ -87,6 +101,10 @@ public class SendDocumentService {
 
                     return Map.of("documentsSentToParties", documentsSent);
                 });
+
+            if (failure != null) {
+                throw failure;
+            }
         }
     }
 
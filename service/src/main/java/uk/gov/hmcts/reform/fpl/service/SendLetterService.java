@@ -1,15 +1,23 @@
 package uk.gov.hmcts.reform.fpl.service;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
 import uk.gov.hmcts.reform.ccd.document.am.model.Document;
+import uk.gov.hmcts.reform.fpl.exceptions.LetterSendException;
 import uk.gov.hmcts.reform.fpl.model.Recipient;
 import uk.gov.hmcts.reform.fpl.model.SentDocument;
 import uk.gov.hmcts.reform.fpl.model.common.DocumentReference;
 import uk.gov.hmcts.reform.fpl.model.configuration.Language;
+import uk.gov.hmcts.reform.fpl.request.RequestData;
+import uk.gov.hmcts.reform.fpl.request.RequestDataCache;
+import uk.gov.hmcts.reform.fpl.request.SimpleRequestData;
 import uk.gov.hmcts.reform.fpl.service.docmosis.DocmosisCoverDocumentsService;
 import uk.gov.hmcts.reform.fpl.service.docmosis.DocumentConversionService;
 import uk.gov.hmcts.reform.fpl.service.time.Time;
@@ -17,12 +25,23 @@ import uk.gov.hmcts.reform.sendletter.api.LetterWithPdfsRequest;
 import uk.gov.hmcts.reform.sendletter.api.SendLetterApi;
 import uk.gov.hmcts.reform.sendletter.api.SendLetterResponse;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static uk.gov.hmcts.reform.fpl.model.common.DocumentReference.buildFromDocument;
 import static uk.gov.hmcts.reform.fpl.service.docmosis.DocumentConversionService.PDF;
@@ -31,9 +50,10 @@ import static uk.gov.hmcts.reform.fpl.utils.DocumentsHelper.updateExtension;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor(onConstructor = @__(@Autowired))
 public class SendLetterService {
 
+    public static final String SEND_METRIC = "fpl.send_letter.send";
+
     private static final String SEND_LETTER_TYPE = "FPLA001";
     private static final String COVERSHEET_FILENAME = "Coversheet.pdf";
 
@@ -44,23 +64,117 @@ public class SendLetterService {
     private final DocmosisCoverDocumentsService docmosisCoverDocumentsService;
     private final AuthTokenGenerator authTokenGenerator;
     private final UploadDocumentService uploadDocumentService;
+    private final RequestData requestData;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService workers;
+    private final Duration timeout;
+
+    @Autowired
+    public SendLetterService(Time time,
+                             SendLetterApi sendLetterApi,
+                             DocumentDownloadService documentDownloadService,
+                             DocumentConversionService documentConversionService,
+                             DocmosisCoverDocumentsService docmosisCoverDocumentsService,
+                             AuthTokenGenerator authTokenGenerator,
+                             UploadDocumentService uploadDocumentService,
+                             RequestData requestData,
+                             MeterRegistry meterRegistry,
+                             @Value("${fpl.send_letter.workers:4}") int workers,
+                             @Value("${fpl.send_letter.queue_capacity:20}") int queueCapacity,
+                             @Value("${fpl.send_letter.timeout_ms:300000}") long timeoutMillis) {
+        this.time = time;
+        this.sendLetterApi = sendLetterApi;
+        this.documentDownloadService = documentDownloadService;
+        this.documentConversionService = documentConversionService;
+        this.docmosisCoverDocumentsService = docmosisCoverDocumentsService;
+        this.authTokenGenerator = authTokenGenerator;
+        this.uploadDocumentService = uploadDocumentService;
+        this.requestData = requestData;
+        this.meterRegistry = meterRegistry;
+        // letters that do not fit in the queue are rejected rather than prepared by the caller, outside the timeout
+        this.workers = new ThreadPoolExecutor(workers, workers, 0L, MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("send-letter-"),
+            new ThreadPoolExecutor.AbortPolicy());
+        this.timeout = Duration.ofMillis(timeoutMillis);
+    }
 
+    /**
+     * Posts the document to each recipient with their own cover sheet. Recipients are handled side by side on the
+     * send letter workers, the main document is converted, uploaded and encoded once for all of them. A letter that
+     * cannot be sent is logged and left out, as are letters still outstanding once the timeout has passed.
+     *
+     * @return the documents sent, in the order of the recipients, leaving out recipients whose letter failed
+     * @throws LetterSendException once every other letter has been sent, if a letter could not be prepared or queued,
+     *     carrying the letters that were sent
+     */
     public List<SentDocument> send(DocumentReference mainDocument, List<Recipient> recipients, Long caseId,
                                    String familyManCaseNumber, Language language) {
-        List<SentDocument> sentDocuments = new ArrayList<>();
         // make sure mainDocument is in PDF format
         byte[] mainDocumentPDFBinary = documentConversionService.convertToPdfBytes(mainDocument);
         var mainDocumentCopy = uploadDocument(mainDocumentPDFBinary, updateExtension(mainDocument.getFilename(), PDF));
 
         String mainDocumentEncoded = Base64.getEncoder().encodeToString(mainDocumentPDFBinary);
-        for (Recipient recipient : recipients) {
+        // workers cannot see the request, so they run as the user the request is made for
+        SimpleRequestData userRequestData = new SimpleRequestData(requestData);
+
+        List<Future<Optional<SentDocument>>> letters = new ArrayList<>();
+        List<Throwable> failures = new ArrayList<>();
+        try {
+            long deadline = System.nanoTime() + timeout.toNanos();
+            for (Recipient recipient : recipients) {
+                try {
+                    letters.add(workers.submit(() -> withRequestData(userRequestData, () -> sendLetter(mainDocument,
+                        mainDocumentCopy, mainDocumentEncoded, recipient, caseId, familyManCaseNumber, language))));
+                } catch (RejectedExecutionException e) {
+                    failures.add(e);
+                }
+            }
+
+            List<SentDocument> sentDocuments = new ArrayList<>();
+            for (Future<Optional<SentDocument>> letter : letters) {
+                try {
+                    awaitLetter(letter, deadline, caseId).ifPresent(sentDocuments::add);
+                } catch (ExecutionException e) {
+                    failures.add(e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    failures.add(e);
+                    break;
+                }
+            }
+
+            if (!failures.isEmpty()) {
+                LetterSendException exception = new LetterSendException(
+                    "Letters for case id " + caseId + " could not all be sent, " + sentDocuments.size() + " of "
+                        + recipients.size() + " were", failures.get(0), sentDocuments);
+                failures.subList(1, failures.size()).forEach(exception::addSuppressed);
+                throw exception;
+            }
+            return sentDocuments;
+        } finally {
+            // nothing is waiting for the letters still outstanding after a timeout or interrupt
+            letters.forEach(letter -> letter.cancel(true));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private Optional<SentDocument> sendLetter(DocumentReference mainDocument, DocumentReference mainDocumentCopy,
+                                              String mainDocumentEncoded, Recipient recipient, Long caseId,
+                                              String familyManCaseNumber, Language language) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failed";
+        try {
+            // a cover sheet that cannot be prepared fails the send, only letters failing to post are left out
             byte[] coverDocument = docmosisCoverDocumentsService.createCoverDocuments(familyManCaseNumber,
                 caseId,
                 recipient, language).getBytes();
 
             String coverDocumentEncoded = Base64.getEncoder().encodeToString(coverDocument);
             var coversheet = uploadDocument(coverDocument, COVERSHEET_FILENAME);
-            String letterId = EMPTY;
             try {
                 SendLetterResponse response = sendLetterApi.sendLetter(authTokenGenerator.generate(),
                     new LetterWithPdfsRequest(List.of(coverDocumentEncoded, mainDocumentEncoded),
@@ -69,9 +183,10 @@ public class SendLetterService {
                             "caseId", caseId,
                             "documentName", mainDocument.getFilename(),
                             "recipients", List.of(recipient.getFullName()))));
-                letterId = Optional.ofNullable(response).map(r -> r.letterId.toString()).orElse(EMPTY);
+                String letterId = Optional.ofNullable(response).map(r -> r.letterId.toString()).orElse(EMPTY);
+                outcome = "sent";
 
-                sentDocuments.add(SentDocument.builder()
+                return Optional.of(SentDocument.builder()
                     .partyName(recipient.getFullName())
                     .document(mainDocumentCopy)
                     .coversheet(coversheet)
@@ -81,9 +196,15 @@ public class SendLetterService {
             } catch (Exception exception) {
                 log.error("Exception raised when sending letter for case id {} and document {}.",
                     caseId, mainDocument.getFilename(), exception);
+                return Optional.empty();
             }
+        } finally {
+            sample.stop(Timer.builder(SEND_METRIC)
+                .description("Time taken to prepare and send a letter to one recipient")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
         }
-        return sentDocuments;
     }
 
     private DocumentReference uploadDocument(byte[] documentBinary, String filename) {
@@ -91,4 +212,26 @@ public class SendLetterService {
 
         return buildFromDocument(uploadedDocument);
     }
+
+    private static <T> T withRequestData(SimpleRequestData data, Supplier<T> task) {
+        // workers are shared between requests, so whatever the thread had before is put back afterwards
+        Optional<RequestData> previous = RequestDataCache.get();
+        RequestDataCache.add(data);
+        try {
+            return task.get();
+        } finally {
+            previous.ifPresentOrElse(request -> RequestDataCache.add(new SimpleRequestData(request)),
+                RequestDataCache::remove);
+        }
+    }
+
+    private Optional<SentDocument> awaitLetter(Future<Optional<SentDocument>> letter, long deadline, Long caseId)
+        throws ExecutionException, InterruptedException {
+        try {
+            return letter.get(Math.max(0, deadline - System.nanoTime()), NANOSECONDS);
+        } catch (TimeoutException e) {
+            log.error("Letter for case id {} not sent within {}, it may still have been posted", caseId, timeout);
+            return Optional.empty();
+        }
+    }
 }
@@ -1,37 +1,103 @@
 package uk.gov.hmcts.reform.fpl.service;
 
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.fpl.config.SystemUpdateUserConfiguration;
 import uk.gov.hmcts.reform.idam.client.IdamClient;
 
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
 import static uk.gov.hmcts.reform.fpl.config.CacheConfiguration.LOCAL_CACHE_MANAGER;
+import static uk.gov.hmcts.reform.fpl.config.CacheConfiguration.SYSTEM_USER_CACHE_EXPIRY;
+import static uk.gov.hmcts.reform.fpl.config.CacheConfiguration.SYSTEM_USER_TOKEN_REFRESH;
 import static uk.gov.hmcts.reform.fpl.config.CacheConfiguration.SYS_USER_CACHE;
 
 @Slf4j
 @Service
 @EnableCaching
-@RequiredArgsConstructor(onConstructor_ = {@Autowired})
 public class SystemUserService {
 
     public static final String SYS_USER_TOKEN_CACHE_KEY = "sysUserToken";
+    public static final String IDAM_REQUESTS_METRIC = "fpl.idam.requests";
 
     private final SystemUpdateUserConfiguration userConfig;
     private final IdamClient idamClient;
+    private final CacheManager localCacheManager;
+    private final Counter tokenRequests;
+    private final Counter userInfoRequests;
+    private final LoadingCache<String, String> tokenCache;
+
+    @Autowired
+    public SystemUserService(SystemUpdateUserConfiguration userConfig, IdamClient idamClient,
+                             @Qualifier(LOCAL_CACHE_MANAGER) CacheManager localCacheManager,
+                             MeterRegistry meterRegistry) {
+        this(userConfig, idamClient, localCacheManager, meterRegistry, Ticker.systemTicker(),
+            ForkJoinPool.commonPool());
+    }
+
+    SystemUserService(SystemUpdateUserConfiguration userConfig, IdamClient idamClient,
+                      CacheManager localCacheManager, MeterRegistry meterRegistry,
+                      Ticker ticker, Executor refreshExecutor) {
+        this.userConfig = userConfig;
+        this.idamClient = idamClient;
+        this.localCacheManager = localCacheManager;
+        this.tokenRequests = meterRegistry.counter(IDAM_REQUESTS_METRIC, "request", "systemUserToken");
+        this.userInfoRequests = meterRegistry.counter(IDAM_REQUESTS_METRIC, "request", "systemUserInfo");
+
+        // The token is renewed in the background once it is old enough, while callers keep using the current one.
+        // Only a token nobody asked for during the refresh window expires and has to be fetched synchronously.
+        this.tokenCache = Caffeine.newBuilder()
+            .ticker(ticker)
+            .executor(refreshExecutor)
+            .refreshAfterWrite(Duration.ofMinutes(SYSTEM_USER_TOKEN_REFRESH))
+            .expireAfterWrite(Duration.ofMinutes(SYSTEM_USER_CACHE_EXPIRY))
+            .build(new SystemUserTokenLoader());
+    }
 
-    @Cacheable(cacheManager = LOCAL_CACHE_MANAGER, cacheNames = SYS_USER_CACHE, unless = "#result == null",
-        key = "#root.target.SYS_USER_TOKEN_CACHE_KEY")
     public String getSysUserToken() {
-        log.info("Requesting system-user token from IDAM");
-        return idamClient.getAccessToken(userConfig.getUserName(), userConfig.getPassword());
+        return tokenCache.get(SYS_USER_TOKEN_CACHE_KEY);
     }
 
+    @Cacheable(cacheManager = LOCAL_CACHE_MANAGER, cacheNames = SYS_USER_CACHE, unless = "#result == null")
     public String getUserId(String userToken) {
+        userInfoRequests.increment();
         return idamClient.getUserInfo(userToken).getUid();
     }
 
+    private String requestSysUserToken() {
+        log.info("Requesting system-user token from IDAM");
+        tokenRequests.increment();
+        return idamClient.getAccessToken(userConfig.getUserName(), userConfig.getPassword());
+    }
+
+    private class SystemUserTokenLoader implements CacheLoader<String, String> {
+
+        @Override
+        public String load(String key) {
+            return requestSysUserToken();
+        }
+
+        @Override
+        public String reload(String key, String oldToken) {
+            String token = requestSysUserToken();
+            // user ids are cached against the token they were looked up with
+            Optional.ofNullable(localCacheManager.getCache(SYS_USER_CACHE))
+                .ifPresent(cache -> cache.evict(oldToken));
+            return token;
+        }
+    }
 }
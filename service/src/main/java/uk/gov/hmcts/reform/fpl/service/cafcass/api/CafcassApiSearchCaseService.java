@@ -1,5 +1,7 @@
 package uk.gov.hmcts.reform.fpl.service.cafcass.api;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -21,7 +23,9 @@ import uk.gov.hmcts.reform.fpl.utils.elasticsearch.TermQuery;
 import uk.gov.hmcts.reform.fpl.utils.elasticsearch.TermsQuery;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import static org.apache.commons.lang3.ObjectUtils.isNotEmpty;
@@ -41,15 +45,19 @@ public class CafcassApiSearchCaseService {
     private final SearchService searchService;
     private final List<CafcassApiCaseDataConverter> cafcassApiCaseDataConverters;
     private final FeatureToggleService featureToggleService;
+    private final ObjectMapper objectMapper;
     private final List<String> sources;
+    private final List<String> sourceFields;
 
     CafcassApiSearchCaseService(@Autowired CaseConverter caseConverter, @Autowired SearchService searchService,
                                 @Autowired List<CafcassApiCaseDataConverter> cafcassApiCaseDataConverters,
-                                @Autowired FeatureToggleService featureToggleService) {
+                                @Autowired FeatureToggleService featureToggleService,
+                                @Autowired ObjectMapper objectMapper) {
         this.caseConverter = caseConverter;
         this.searchService = searchService;
         this.cafcassApiCaseDataConverters = cafcassApiCaseDataConverters;
         this.featureToggleService = featureToggleService;
+        this.objectMapper = objectMapper;
 
         this.sources = cafcassApiCaseDataConverters.stream()
             .map(CafcassApiCaseDataConverter::getEsSearchSources)
@@ -57,6 +65,13 @@ public class CafcassApiSearchCaseService {
             .flatMap(List::stream)
             .distinct()
             .toList();
+
+        // nested sources such as data.hearingDocuments.courtBundleListV2 are compared on their top level field
+        this.sourceFields = sources.stream()
+            .map(source -> source.startsWith("data.") ? source.substring("data.".length()) : source)
+            .map(field -> field.contains(".") ? field.substring(0, field.indexOf('.')) : field)
+            .distinct()
+            .toList();
     }
 
     public List<CafcassApiCase> searchCaseByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
@@ -105,6 +120,35 @@ public class CafcassApiSearchCaseService {
             .build();
     }
 
+    /**
+     * Checks whether anything the converters read has changed between the two versions of a case, without building
+     * either projection. Only the case metadata and the data fields behind the converters' search sources are
+     * compared, so a change reported here may still leave the {@link CafcassApiCase} itself unchanged.
+     */
+    public boolean hasSourceChanged(CaseDetails caseDetailsBefore, CaseDetails caseDetailsAfter) {
+        if (!Objects.equals(caseDetailsBefore.getId(), caseDetailsAfter.getId())
+            || !Objects.equals(caseDetailsBefore.getJurisdiction(), caseDetailsAfter.getJurisdiction())
+            || !Objects.equals(caseDetailsBefore.getState(), caseDetailsAfter.getState())
+            || !Objects.equals(caseDetailsBefore.getCaseTypeId(), caseDetailsAfter.getCaseTypeId())
+            || !Objects.equals(caseDetailsBefore.getCreatedDate(), caseDetailsAfter.getCreatedDate())) {
+            return true;
+        }
+
+        // The data after the callback may hold typed values rather than the raw json ones, so compare as json
+        return !getSourceFields(caseDetailsBefore).equals(getSourceFields(caseDetailsAfter));
+    }
+
+    private JsonNode getSourceFields(CaseDetails caseDetails) {
+        Map<String, Object> data = caseDetails.getData() == null ? Map.of() : caseDetails.getData();
+        Map<String, Object> fields = new HashMap<>();
+
+        sourceFields.stream()
+            .filter(data::containsKey)
+            .forEach(field -> fields.put(field, data.get(field)));
+
+        return objectMapper.valueToTree(fields);
+    }
+
     private CafcassApiCaseData getCafcassApiCaseData(CaseData caseData) {
         CafcassApiCaseData.CafcassApiCaseDataBuilder builder = CafcassApiCaseData.builder();
 
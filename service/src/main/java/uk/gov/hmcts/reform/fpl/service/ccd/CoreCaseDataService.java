@@ -56,6 +56,13 @@ public class CoreCaseDataService {
         return self.performPostSubmitCallback(caseId, eventName, changeFunction, false);
     }
 
+    public CaseDetails performPostSubmitCallbackWithoutRetry(Long caseId,
+                                                             String eventName,
+                                                             Function<CaseDetails, Map<String, Object>> changeFunction) {
+        // called on this rather than self so the retry is skipped, for callers that pace their own retries
+        return performPostSubmitCallback(caseId, eventName, changeFunction, false);
+    }
+
     @Retryable(recover = "recover", maxAttempts = 5, backoff = @Backoff(delay = 2000))
     public CaseDetails performPostSubmitCallback(Long caseId,
                                                  String eventName,
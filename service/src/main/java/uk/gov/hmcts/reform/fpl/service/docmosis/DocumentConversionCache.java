@@ -0,0 +1,233 @@
+package uk.gov.hmcts.reform.fpl.service.docmosis;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.google.common.hash.Hashing;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Remembers documents converted by Docmosis against a hash of their content and the formats converted between, so
+ * the same document downloaded again for sealing, merging, counting words or posting reaches Docmosis only once.
+ *
+ * <p>Conversions are held in memory up to a total size, least recently used first out. When a disk directory is
+ * configured, conversions leaving memory are written to a directory of the cache's own inside it, again up to a total
+ * size, and read back when needed.
+ * Cached conversions are shared between callers, which must not change them.
+ */
+@Slf4j
+@Component
+public class DocumentConversionCache {
+
+    public static final String CACHE_METRIC = "fpl.document_conversions.cache";
+
+    static final String DIRECTORY_NAME = "fpl-conversion-cache";
+    // a content hash and the formats converted between, written via a temporary file with a random suffix
+    private static final Pattern CACHE_FILE = Pattern.compile("[0-9a-f]{64}-[a-z0-9]*-[a-z0-9]*(\\d+\\.tmp)?");
+
+    private final boolean enabled;
+    private final Path diskDirectory;
+    private final long maxDiskBytes;
+    private final AtomicLong diskBytes = new AtomicLong();
+    private final MeterRegistry meterRegistry;
+    private final AsyncCache<String, byte[]> memory;
+
+    @Autowired
+    public DocumentConversionCache(@Value("${fpl.document_conversion_cache.enabled:true}") boolean enabled,
+                                   @Value("${fpl.document_conversion_cache.max_memory:50MB}") DataSize maxMemory,
+                                   @Value("${fpl.document_conversion_cache.disk_directory:}") String diskDirectory,
+                                   @Value("${fpl.document_conversion_cache.max_disk:500MB}") DataSize maxDisk,
+                                   MeterRegistry meterRegistry) {
+        this(enabled, maxMemory, diskDirectory, maxDisk, meterRegistry, ForkJoinPool.commonPool());
+    }
+
+    DocumentConversionCache(boolean enabled, DataSize maxMemory, String diskDirectory, DataSize maxDisk,
+                            MeterRegistry meterRegistry, Executor executor) {
+        this.enabled = enabled;
+        this.diskDirectory = enabled && StringUtils.isNotBlank(diskDirectory) ? createDirectory(diskDirectory) : null;
+        this.maxDiskBytes = maxDisk.toBytes();
+        this.meterRegistry = meterRegistry;
+        this.memory = Caffeine.newBuilder()
+            .maximumWeight(maxMemory.toBytes())
+            // conversions leaving memory are written to disk off the caller's thread
+            .executor(executor)
+            .<String, byte[]>weigher((key, conversion) -> conversion.length)
+            .removalListener((String key, byte[] conversion, RemovalCause cause) -> {
+                if (cause == RemovalCause.SIZE && conversion != null) {
+                    spill(key, conversion);
+                }
+            })
+            .buildAsync();
+    }
+
+    public byte[] get(byte[] contents, String sourceFormat, String targetFormat, Supplier<byte[]> converter) {
+        if (!enabled) {
+            return converter.get();
+        }
+
+        String key = key(contents, sourceFormat, targetFormat);
+        CompletableFuture<byte[]> conversion = new CompletableFuture<>();
+        CompletableFuture<byte[]> cached = memory.asMap().putIfAbsent(key, conversion);
+        if (cached != null) {
+            // conversions of the same document requested at the same time wait for a single conversion
+            record("hit", "memory");
+            return join(cached);
+        }
+
+        // the conversion is made on the caller's thread outside the cache, so it only holds up callers wanting it
+        try {
+            byte[] converted = readFromDisk(key)
+                .map(fromDisk -> {
+                    record("hit", "disk");
+                    return fromDisk;
+                })
+                .orElseGet(() -> {
+                    record("miss", "docmosis");
+                    return converter.get();
+                });
+            conversion.complete(converted);
+            return converted;
+        } catch (RuntimeException | Error e) {
+            // failed conversions are dropped from the cache, callers waiting on them see the same failure
+            conversion.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static byte[] join(CompletableFuture<byte[]> conversion) {
+        try {
+            return conversion.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static String key(byte[] contents, String sourceFormat, String targetFormat) {
+        return String.join("-", Hashing.sha256().hashBytes(contents).toString(),
+            StringUtils.lowerCase(sourceFormat), StringUtils.lowerCase(targetFormat));
+    }
+
+    private void record(String result, String source) {
+        meterRegistry.counter(CACHE_METRIC, "result", result, "source", source).increment();
+    }
+
+    private Optional<byte[]> readFromDisk(String key) {
+        if (diskDirectory == null) {
+            return Optional.empty();
+        }
+
+        Path file = diskDirectory.resolve(key);
+        try {
+            byte[] conversion = Files.readAllBytes(file);
+            Files.setLastModifiedTime(file, FileTime.from(Instant.now()));
+            return Optional.of(conversion);
+        } catch (IOException e) {
+            // usually the conversion was never spilled or has since been evicted from disk
+            return Optional.empty();
+        }
+    }
+
+    private void spill(String key, byte[] conversion) {
+        if (diskDirectory == null || conversion.length > maxDiskBytes) {
+            return;
+        }
+
+        Path file = diskDirectory.resolve(key);
+        try {
+            Path temporaryFile = Files.createTempFile(diskDirectory, key, ".tmp");
+            Files.write(temporaryFile, conversion);
+            long replacedBytes = Files.exists(file) ? Files.size(file) : 0;
+            Files.move(temporaryFile, file, ATOMIC_MOVE, REPLACE_EXISTING);
+            diskBytes.addAndGet(conversion.length - replacedBytes);
+            evictFromDisk();
+        } catch (IOException e) {
+            log.warn("Could not write document conversion {} to disk", key, e);
+        }
+    }
+
+    private synchronized void evictFromDisk() throws IOException {
+        if (diskBytes.get() <= maxDiskBytes) {
+            return;
+        }
+
+        List<Path> leastRecentlyUsedFirst;
+        try (Stream<Path> files = Files.list(diskDirectory)) {
+            leastRecentlyUsedFirst = files
+                .filter(DocumentConversionCache::isCacheFile)
+                .filter(file -> !file.getFileName().toString().endsWith(".tmp"))
+                .sorted(Comparator.comparing(DocumentConversionCache::lastModified))
+                .toList();
+        }
+
+        for (Path file : leastRecentlyUsedFirst) {
+            if (diskBytes.get() <= maxDiskBytes) {
+                break;
+            }
+            long size = Files.size(file);
+            if (Files.deleteIfExists(file)) {
+                diskBytes.addAndGet(-size);
+            }
+        }
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static boolean isCacheFile(Path file) {
+        return Files.isRegularFile(file, LinkOption.NOFOLLOW_LINKS)
+            && CACHE_FILE.matcher(file.getFileName().toString()).matches();
+    }
+
+    private static Path createDirectory(String directory) {
+        try {
+            // the configured directory may be shared, so the cache only ever touches files in its own directory
+            Path path = Files.createDirectories(Paths.get(directory).resolve(DIRECTORY_NAME));
+            // conversions left by a previous run are not counted towards the limit, so they are removed
+            try (Stream<Path> files = Files.list(path)) {
+                for (Path file : files.filter(DocumentConversionCache::isCacheFile).toList()) {
+                    Files.deleteIfExists(file);
+                }
+            }
+            return path;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create document conversion cache in " + directory, e);
+        }
+    }
+}
@@ -19,6 +19,7 @@ import uk.gov.hmcts.reform.fpl.service.DocumentDownloadService;
 import uk.gov.hmcts.reform.fpl.service.UploadDocumentService;
 
 import static com.google.common.net.HttpHeaders.CONTENT_DISPOSITION;
+import static org.apache.commons.io.FilenameUtils.getExtension;
 import static org.springframework.http.MediaType.MULTIPART_FORM_DATA;
 import static uk.gov.hmcts.reform.fpl.utils.DocumentsHelper.hasExtension;
 import static uk.gov.hmcts.reform.fpl.utils.DocumentsHelper.updateExtension;
@@ -31,6 +32,7 @@ public class DocumentConversionService {
     private final DocmosisConfiguration configuration;
     private final DocumentDownloadService downloadService;
     private final UploadDocumentService uploadService;
+    private final DocumentConversionCache conversionCache;
     public static final String PDF = "pdf";
 
     public DocumentReference convertToPdf(DocumentReference document) {
@@ -47,7 +49,8 @@ public class DocumentConversionService {
 
     public byte[] convertToPdf(byte[] documentContents, String filename) {
         if (!hasExtension(filename, PDF)) {
-            return convertDocument(documentContents, filename, updateExtension(filename, PDF));
+            return conversionCache.get(documentContents, getExtension(filename), PDF,
+                () -> convertDocument(documentContents, filename, updateExtension(filename, PDF)));
         }
 
         return documentContents;
@@ -0,0 +1,103 @@
+package uk.gov.hmcts.reform.fpl.service.document;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Decides how much heap pdfbox may use while reading and writing a pdf. Documents up to the main memory threshold
+ * are processed in memory, larger ones keep at most the threshold in memory and spill the rest of pdfbox's scratch
+ * data to temporary files, so a large bundle does not hold several full copies of itself on the heap.
+ *
+ * <p>An estimate of the bytes each operation holds on the heap is recorded against the operation: its input plus
+ * twice its output, for the output buffer and the copy returned from it. Pdfbox's own scratch data is not included.
+ */
+@Component
+public class PdfMemoryPolicy {
+
+    public static final String ESTIMATED_PEAK_BYTES_METRIC = "fpl.pdf.estimated_peak_bytes";
+
+    private static final int MAX_BUFFER_SIZE = Integer.MAX_VALUE - 8;
+
+    private final long mainMemoryThreshold;
+    private final File scratchDirectory;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public PdfMemoryPolicy(@Value("${fpl.pdf.main_memory_threshold:20MB}") DataSize mainMemoryThreshold,
+                           @Value("${fpl.pdf.scratch_directory:}") String scratchDirectory,
+                           MeterRegistry meterRegistry) {
+        this.mainMemoryThreshold = mainMemoryThreshold.toBytes();
+        this.scratchDirectory = StringUtils.isBlank(scratchDirectory) ? null : new File(scratchDirectory);
+        this.meterRegistry = meterRegistry;
+    }
+
+    public MemoryUsageSetting memoryUsageSetting(long documentSize) {
+        if (documentSize <= mainMemoryThreshold) {
+            return MemoryUsageSetting.setupMainMemoryOnly();
+        }
+        // without a scratch directory pdfbox writes to java.io.tmpdir
+        return MemoryUsageSetting.setupMixed(mainMemoryThreshold).setTempDir(scratchDirectory);
+    }
+
+    /**
+     * Loads the pdf, applies the change to it and returns the changed pdf.
+     */
+    public byte[] transform(String operation, byte[] pdf, PdfTransformation transformation) throws IOException {
+        return write(operation, pdf.length, (memoryUsageSetting, output) -> {
+            try (PDDocument document = PDDocument.load(pdf, "", null, null, memoryUsageSetting)) {
+                transformation.apply(document);
+                document.save(output);
+            }
+        });
+    }
+
+    /**
+     * Runs a pdf operation reading the given number of bytes and returns the pdf it writes.
+     */
+    public byte[] write(String operation, long inputSize, PdfWriter writer) throws IOException {
+        MemoryUsageSetting memoryUsageSetting = memoryUsageSetting(inputSize);
+        // output is usually about the size of the input, sizing the buffer for it avoids repeatedly copying it, but
+        // documents too large to process in memory grow their buffer as needed instead of claiming it all up front
+        ByteArrayOutputStream output = memoryUsageSetting.useTempFile()
+            ? new ByteArrayOutputStream()
+            : new ByteArrayOutputStream((int) Math.min(inputSize, MAX_BUFFER_SIZE));
+        long estimatedPeakBytes = inputSize;
+        try {
+            writer.write(memoryUsageSetting, output);
+            // the buffer and the array copied from it are both held until the operation returns
+            estimatedPeakBytes += 2L * output.size();
+            return output.toByteArray();
+        } finally {
+            DistributionSummary.builder(ESTIMATED_PEAK_BYTES_METRIC)
+                .description("Estimated bytes held on the heap by a pdf operation, its input plus twice its output")
+                .baseUnit(BaseUnits.BYTES)
+                .tag("operation", operation)
+                .tag("memory", memoryUsageSetting.useTempFile() ? "mixed" : "main")
+                .register(meterRegistry)
+                .record(estimatedPeakBytes);
+        }
+    }
+
+    @FunctionalInterface
+    public interface PdfTransformation {
+        void apply(PDDocument document) throws IOException;
+    }
+
+    @FunctionalInterface
+    public interface PdfWriter {
+        void write(MemoryUsageSetting memoryUsageSetting, OutputStream output) throws IOException;
+    }
+}
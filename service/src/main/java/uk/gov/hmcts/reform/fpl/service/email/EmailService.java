@@ -5,6 +5,7 @@ import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
@@ -12,6 +13,11 @@ import uk.gov.hmcts.reform.fpl.exceptions.EmailFailedSendException;
 import uk.gov.hmcts.reform.fpl.model.email.EmailAttachment;
 import uk.gov.hmcts.reform.fpl.model.email.EmailData;
 
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 
 @Service
 @RequiredArgsConstructor(onConstructor = @__(@Autowired))
@@ -21,27 +27,66 @@ public class EmailService {
 
     public void sendEmail(final String from, final EmailData emailData) {
         try {
-            MimeMessage message = mailSender.createMimeMessage();
+            mailSender.send(createMessage(from, emailData));
+        } catch (MessagingException | MailException e) {
+            throw new EmailFailedSendException(e);
+        }
+    }
 
-            MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(message, true);
+    /**
+     * Sends the emails over a single connection to the mail server, rather than connecting once for each email.
+     *
+     * @return the positions in the list of the emails that could not be sent, with the reason for each, empty when
+     *     all of them were sent. Identical emails are told apart by their position
+     */
+    public Map<Integer, Exception> sendEmails(final String from, final List<EmailData> emails) {
+        Map<MimeMessage, Integer> messages = new IdentityHashMap<>();
+        Map<Integer, Exception> failures = new LinkedHashMap<>();
 
-            mimeMessageHelper.setTo(emailData.getRecipient());
-            mimeMessageHelper.setFrom(from);
-            mimeMessageHelper.setSubject(emailData.getSubject());
-            mimeMessageHelper.setText(emailData.getMessage());
+        for (int index = 0; index < emails.size(); index++) {
+            try {
+                messages.put(createMessage(from, emails.get(index)), index);
+            } catch (MessagingException | IllegalArgumentException e) {
+                failures.put(index, e);
+            }
+        }
+
+        if (messages.isEmpty()) {
+            return failures;
+        }
 
-            if (emailData.hasAttachments()) {
-                // preferring for loop here so we don't have to catch exceptions twice
-                for (EmailAttachment attachment : emailData.getAttachments()) {
-                    mimeMessageHelper.addAttachment(attachment.getFilename(),
-                        attachment.getData(), attachment.getContentType());
-                }
+        try {
+            mailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            // without failed messages the whole batch failed, for example because the server could not be reached
+            if (e.getFailedMessages().isEmpty()) {
+                messages.values().forEach(index -> failures.put(index, e));
+            } else {
+                e.getFailedMessages().forEach((message, error) -> failures.put(messages.get(message), error));
             }
+        } catch (MailException e) {
+            messages.values().forEach(index -> failures.put(index, e));
+        }
+        return failures;
+    }
 
-            mailSender.send(message);
+    private MimeMessage createMessage(final String from, final EmailData emailData) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
 
-        } catch (MessagingException | MailException e) {
-            throw new EmailFailedSendException(e);
+        MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(message, true);
+
+        mimeMessageHelper.setTo(emailData.getRecipient());
+        mimeMessageHelper.setFrom(from);
+        mimeMessageHelper.setSubject(emailData.getSubject());
+        mimeMessageHelper.setText(emailData.getMessage());
+
+        if (emailData.hasAttachments()) {
+            // preferring for loop here so we don't have to catch exceptions twice
+            for (EmailAttachment attachment : emailData.getAttachments()) {
+                mimeMessageHelper.addAttachment(attachment.getFilename(),
+                    attachment.getData(), attachment.getContentType());
+            }
         }
+        return message;
     }
 }
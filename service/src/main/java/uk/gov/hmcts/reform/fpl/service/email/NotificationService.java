@@ -2,57 +2,233 @@ package uk.gov.hmcts.reform.fpl.service.email;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.fpl.model.notify.NotifyData;
+import uk.gov.hmcts.reform.fpl.service.DownstreamResilience;
+import uk.gov.hmcts.reform.fpl.utils.RateLimitedWorkerPool;
 import uk.gov.service.notify.NotificationClient;
 import uk.gov.service.notify.NotificationClientException;
 
+import java.time.Duration;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
+import static uk.gov.hmcts.reform.fpl.service.DownstreamResilience.NOTIFY;
 import static uk.gov.hmcts.reform.fpl.utils.MaskHelper.maskEmail;
 
 @Slf4j
 @Service
 public class NotificationService {
     public static final String SEPARATOR = "/";
+    public static final String SEND_METRIC = "fpl.notify.send";
+    private static final int BUSY_ATTEMPTS = 3;
 
     private final NotificationClient notificationClient;
     private final ObjectMapper mapper;
     private final String environment;
+    private final DownstreamResilience downstreamResilience;
+    private final MeterRegistry meterRegistry;
+    private final RateLimitedWorkerPool workerPool;
+    private final Duration batchTimeout;
 
     @Autowired
     public NotificationService(NotificationClient notificationClient,
                                ObjectMapper mapper,
-                               @Value("${fpl.env}") String environment) {
+                               @Value("${fpl.env}") String environment,
+                               DownstreamResilience downstreamResilience,
+                               MeterRegistry meterRegistry,
+                               @Value("${fpl.notify.workers:8}") int workers,
+                               @Value("${fpl.notify.permits_per_second:50}") double permitsPerSecond,
+                               @Value("${fpl.notify.batch_timeout_ms:60000}") long batchTimeoutMillis) {
         this.notificationClient = notificationClient;
         this.mapper = mapper;
         this.environment = environment;
+        this.downstreamResilience = downstreamResilience;
+        this.meterRegistry = meterRegistry;
+        this.workerPool = new RateLimitedWorkerPool("notify", workers, permitsPerSecond,
+            Duration.ofMillis(500), Duration.ofSeconds(30));
+        this.batchTimeout = Duration.ofMillis(batchTimeoutMillis);
     }
 
     public void sendEmail(String templateId, String recipient, NotifyData data, String reference) {
-        Map<String, Object> personalisation = mapper.convertValue(data, new TypeReference<>() {
+        send(templateId, recipient, personalisation(data), reference, false);
+    }
+
+    public void sendEmail(String templateId, Collection<String> emails, NotifyData data, String reference) {
+        sendEmails(templateId, emails, data, reference);
+    }
+
+    public void sendEmail(String templateId, Collection<String> emails, NotifyData data, Long reference) {
+        sendEmail(templateId, emails, data, String.valueOf(reference));
+    }
+
+    public void sendEmail(String templateId, String recipient, NotifyData data, Long reference) {
+        sendEmail(templateId, recipient, data, reference.toString());
+    }
+
+    /**
+     * Sends the same email to every recipient, at most once each. The personalisation is built once and the emails
+     * sent side by side on the notify workers, within the rate Notify allows, returning once every email has been
+     * sent or failed, or the batch timeout has passed. Emails still waiting for a worker, or for room to queue for
+     * one, at that point are not sent.
+     *
+     * @return the outcome for each recipient, in the order given
+     */
+    public Map<String, EmailOutcome> sendEmails(String templateId, Collection<String> emails, NotifyData data,
+                                                String reference) {
+        List<String> recipients = emails.stream().distinct().toList();
+        Map<String, Object> personalisation = personalisation(data);
+
+        if (recipients.size() <= 1) {
+            Map<String, EmailOutcome> outcomes = new LinkedHashMap<>();
+            recipients.forEach(recipient ->
+                outcomes.put(recipient, send(templateId, recipient, personalisation, reference, false)));
+            return outcomes;
+        }
+
+        // each recipient is claimed once, either by its task when it starts sending or here when the batch times out
+        Map<String, EmailOutcome> sent = new ConcurrentHashMap<>();
+        CountDownLatch finished = new CountDownLatch(recipients.size());
+        long deadline = System.nanoTime() + batchTimeout.toNanos();
+        try {
+            for (String recipient : recipients) {
+                // recipients left when the workers stay busy until the deadline are not queued at all
+                boolean queued = workerPool.submit(() -> {
+                    try {
+                        if (sent.putIfAbsent(recipient, EmailOutcome.SENDING) == null) {
+                            sent.put(recipient, send(templateId, recipient, personalisation, reference, true));
+                        }
+                    } catch (RuntimeException e) {
+                        log.error("Failed to send email (with template id: {}) to {}", templateId,
+                            maskEmail(recipient), e);
+                        sent.put(recipient, EmailOutcome.FAILED);
+                    } finally {
+                        finished.countDown();
+                    }
+                }, Duration.ofNanos(deadline - System.nanoTime()));
+                if (!queued) {
+                    break;
+                }
+            }
+            if (!finished.await(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                log.error("Emails (with template id: {}) to {} recipient(s) not sent within {}", templateId,
+                    finished.getCount(), batchTimeout);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Interrupted sending emails (with template id: {})", templateId, e);
+        }
+
+        Map<String, EmailOutcome> outcomes = new LinkedHashMap<>();
+        recipients.forEach(recipient -> {
+            EmailOutcome outcome = sent.putIfAbsent(recipient, EmailOutcome.TIMED_OUT);
+            outcomes.put(recipient, outcome == null ? EmailOutcome.TIMED_OUT : outcome);
+        });
+        return outcomes;
+    }
+
+    public Map<String, EmailOutcome> sendEmails(String templateId, Collection<String> emails, NotifyData data,
+                                                Long reference) {
+        return sendEmails(templateId, emails, data, String.valueOf(reference));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workerPool.close();
+    }
+
+    private Map<String, Object> personalisation(NotifyData data) {
+        return mapper.convertValue(data, new TypeReference<>() {
         });
+    }
+
+    // only emails sent on the notify workers wait their turn to try again when Notify is busy, the callers sending
+    // others directly are not held up any longer than the bulkhead's own wait
+    private EmailOutcome send(String templateId, String recipient, Map<String, Object> personalisation,
+                              String reference, boolean onWorker) {
         log.debug("Sending email (with template id: {}) to {}", templateId, maskEmail(recipient));
+        Timer.Sample sample = Timer.start(meterRegistry);
+        EmailOutcome outcome = EmailOutcome.FAILED;
         try {
-            notificationClient.sendEmail(templateId, recipient, personalisation, environment + SEPARATOR + reference);
+            callNotify(templateId, recipient, personalisation, reference, onWorker ? BUSY_ATTEMPTS : 1);
+            workerPool.recover();
+            outcome = EmailOutcome.SENT;
         } catch (NotificationClientException e) {
             log.error("Failed to send email (with template id: {}) to {}", templateId, maskEmail(recipient), e);
+            if (isNotifyFailure(e) || e.getHttpResult() == 429) {
+                workerPool.backOff();
+                outcome = EmailOutcome.FAILED;
+            } else {
+                outcome = EmailOutcome.REJECTED;
+            }
+        } catch (CallNotPermittedException e) {
+            // emails are sent on a best effort basis, so one sent while Notify is failing is dropped the same way
+            log.error("Did not send email (with template id: {}) to {} as Notify is unavailable", templateId,
+                maskEmail(recipient), e);
+            outcome = EmailOutcome.UNAVAILABLE;
+        } catch (BulkheadFullException e) {
+            log.error("Did not send email (with template id: {}) to {} as Notify is busy", templateId,
+                maskEmail(recipient), e);
+            outcome = EmailOutcome.FAILED;
+        } finally {
+            sample.stop(Timer.builder(SEND_METRIC)
+                .description("Time taken to send an email through Notify")
+                .tag("outcome", outcome.name())
+                .publishPercentileHistogram()
+                .register(meterRegistry));
         }
+        return outcome;
     }
 
-    public void sendEmail(String templateId, Collection<String> emails, NotifyData data, String reference) {
-        emails.stream().distinct().forEach(email -> sendEmail(templateId, email, data, reference));
+    private void callNotify(String templateId, String recipient, Map<String, Object> personalisation,
+                            String reference, int busyAttempts) throws NotificationClientException {
+        int attempt = 1;
+        while (true) {
+            try {
+                downstreamResilience.call(NOTIFY,
+                    () -> notificationClient.sendEmail(templateId, recipient, personalisation,
+                        environment + SEPARATOR + reference),
+                    response -> false, NotificationService::isNotifyFailure);
+                return;
+            } catch (BulkheadFullException e) {
+                // Notify is working but already has as many emails in flight as allowed, so wait and try again
+                workerPool.backOff();
+                if (attempt >= busyAttempts || !workerPool.awaitTurn()) {
+                    throw e;
+                }
+                attempt++;
+            }
+        }
     }
 
-    public void sendEmail(String templateId, Collection<String> emails, NotifyData data, Long reference) {
-        sendEmail(templateId, emails, data, String.valueOf(reference));
+    private static boolean isNotifyFailure(Throwable error) {
+        // Notify rejecting the email, for example for an invalid address, does not mean Notify is failing
+        return !(error instanceof NotificationClientException notifyError) || notifyError.getHttpResult() >= 500;
     }
 
-    public void sendEmail(String templateId, String recipient, NotifyData data, Long reference) {
-        sendEmail(templateId, recipient, data, reference.toString());
+    public enum EmailOutcome {
+        SENT,
+        // Notify refused the email itself, for example because of an invalid address
+        REJECTED,
+        FAILED,
+        // not sent because Notify has been failing
+        UNAVAILABLE,
+        // still being sent when the batch timed out, so may yet be delivered
+        SENDING,
+        // still waiting for a worker when the batch timed out, and will not be sent
+        TIMED_OUT
     }
 }
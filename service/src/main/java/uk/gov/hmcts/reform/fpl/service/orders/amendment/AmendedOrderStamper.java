@@ -16,11 +16,11 @@ import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.fpl.exceptions.EncryptedPdfUploadedException;
 import uk.gov.hmcts.reform.fpl.model.common.DocumentReference;
 import uk.gov.hmcts.reform.fpl.service.DocumentDownloadService;
+import uk.gov.hmcts.reform.fpl.service.document.PdfMemoryPolicy;
 import uk.gov.hmcts.reform.fpl.service.time.Time;
 
 import java.awt.Color;
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.time.LocalDate;
@@ -43,6 +43,7 @@ public class AmendedOrderStamper {
 
     private final DocumentDownloadService downloadService;
     private final Time time;
+    private final PdfMemoryPolicy pdfMemoryPolicy;
 
     public byte[] amendDocument(DocumentReference original) {
         if (!hasExtension(original, PDF)) {
@@ -63,51 +64,10 @@ public class AmendedOrderStamper {
     }
 
     private byte[] amendDocument(byte[] binaries) throws IOException {
-        try (PDDocument document = PDDocument.load(binaries)) {
-            final ByteArrayInputStream font_binaries = new ByteArrayInputStream(readBytes(FONT_LOCATION));
-            final PDFont font = PDType0Font.load(document, font_binaries);
-
-            final PDPage page = document.getPage(0);
-
-            // build message
-            final LocalDate now = time.now().toLocalDate();
-            final String message = "Amended under the slip rule - " + formatLocalDateToString(now, DATE_SHORT);
-
-            // message properties
-            final PDRectangle pageSize = page.getMediaBox();
-            final float messageWidth = font.getStringWidth(message) * FONT_SIZE / 1000f;
-            final float messageHeight = font.getFontDescriptor().getFontBoundingBox().getHeight() * FONT_SIZE / 1000f;
-            final float x = (pageSize.getWidth() - messageWidth) / 2f; // centred
-            final float y = pageSize.getHeight() - messageHeight * 2f; // second line
-            final Matrix messageLocation = Matrix.getTranslateInstance(x, y);
-
-            final PDPageContentStream content = new PDPageContentStream(document, page, AppendMode.APPEND, true, true);
-
-            // hide previous amendment message
-            content.setNonStrokingColor(Color.WHITE);
-            content.addRect(x, y, messageWidth, messageHeight);
-            content.fill();
-
-            // write new amendment message
-            content.beginText();
-            content.setNonStrokingColor(Color.RED);
-            content.setFont(font, FONT_SIZE);
-            content.setTextMatrix(messageLocation);
-            content.showText(message);
-            content.endText();
-
-            content.close();
-
-            return save(document);
+        try {
+            return pdfMemoryPolicy.transform("amendment stamp", binaries, this::stamp);
         } catch (InvalidPasswordException ipe) {
             throw new EncryptedPdfUploadedException("Password protected PDF was uploaded.");
-        }
-    }
-
-    private static byte[] save(PDDocument document) throws IOException {
-        try (final ByteArrayOutputStream outputBytes = new ByteArrayOutputStream()) {
-            document.save(outputBytes);
-            return outputBytes.toByteArray();
         } catch (IllegalStateException ise) {
             if (defaultIfNull(ise.getMessage(), "").startsWith("PDF contains an encryption dictionary")) {
                 throw new EncryptedPdfUploadedException("Encrypted PDF was uploaded.");
@@ -116,4 +76,40 @@ public class AmendedOrderStamper {
             }
         }
     }
+
+    private void stamp(PDDocument document) throws IOException {
+        final ByteArrayInputStream font_binaries = new ByteArrayInputStream(readBytes(FONT_LOCATION));
+        final PDFont font = PDType0Font.load(document, font_binaries);
+
+        final PDPage page = document.getPage(0);
+
+        // build message
+        final LocalDate now = time.now().toLocalDate();
+        final String message = "Amended under the slip rule - " + formatLocalDateToString(now, DATE_SHORT);
+
+        // message properties
+        final PDRectangle pageSize = page.getMediaBox();
+        final float messageWidth = font.getStringWidth(message) * FONT_SIZE / 1000f;
+        final float messageHeight = font.getFontDescriptor().getFontBoundingBox().getHeight() * FONT_SIZE / 1000f;
+        final float x = (pageSize.getWidth() - messageWidth) / 2f; // centred
+        final float y = pageSize.getHeight() - messageHeight * 2f; // second line
+        final Matrix messageLocation = Matrix.getTranslateInstance(x, y);
+
+        final PDPageContentStream content = new PDPageContentStream(document, page, AppendMode.APPEND, true, true);
+
+        // hide previous amendment message
+        content.setNonStrokingColor(Color.WHITE);
+        content.addRect(x, y, messageWidth, messageHeight);
+        content.fill();
+
+        // write new amendment message
+        content.beginText();
+        content.setNonStrokingColor(Color.RED);
+        content.setFont(font, FONT_SIZE);
+        content.setTextMatrix(messageLocation);
+        content.showText(message);
+        content.endText();
+
+        content.close();
+    }
 }
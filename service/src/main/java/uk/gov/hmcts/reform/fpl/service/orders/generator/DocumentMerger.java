@@ -1,32 +1,86 @@
 package uk.gov.hmcts.reform.fpl.service.orders.generator;
 
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.pdfbox.multipdf.PDFMergerUtility;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.fpl.model.common.DocmosisDocument;
 import uk.gov.hmcts.reform.fpl.model.common.DocumentReference;
+import uk.gov.hmcts.reform.fpl.request.RequestData;
+import uk.gov.hmcts.reform.fpl.request.RequestDataCache;
+import uk.gov.hmcts.reform.fpl.request.SimpleRequestData;
 import uk.gov.hmcts.reform.fpl.service.DocumentDownloadService;
 import uk.gov.hmcts.reform.fpl.service.docmosis.DocumentConversionService;
+import uk.gov.hmcts.reform.fpl.service.document.PdfMemoryPolicy;
 
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import static io.jsonwebtoken.lang.Collections.isEmpty;
-import static org.apache.pdfbox.io.MemoryUsageSetting.setupMainMemoryOnly;
 
+/**
+ * Merges additional documents onto a generated document. The additional documents are downloaded and converted to
+ * pdf by a few workers from a shared pool, so the calling thread only waits for the slowest of them, up to a deadline,
+ * before merging them in their original order. Each merge uses at most a few workers so that one large bundle cannot
+ * hold up every other merge. The calling thread never fetches documents itself, so the deadline always applies, and a
+ * merge that cannot queue any worker because the pool's queue is full fails straight away.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor(onConstructor = @__(@Autowired))
 public class DocumentMerger {
 
     private final DocumentDownloadService documentDownloadService;
     private final DocumentConversionService documentConversionService;
+    private final RequestData requestData;
+    private final PdfMemoryPolicy pdfMemoryPolicy;
+    private final ExecutorService executor;
+    private final int workersPerMerge;
+    private final Duration timeout;
+
+    @Autowired
+    public DocumentMerger(DocumentDownloadService documentDownloadService,
+                          DocumentConversionService documentConversionService,
+                          RequestData requestData,
+                          PdfMemoryPolicy pdfMemoryPolicy,
+                          @Value("${fpl.document_merger.threads:4}") int threads,
+                          @Value("${fpl.document_merger.workers_per_merge:2}") int workersPerMerge,
+                          @Value("${fpl.document_merger.queue_capacity:20}") int queueCapacity,
+                          @Value("${fpl.document_merger.timeout:60s}") Duration timeout) {
+        this.documentDownloadService = documentDownloadService;
+        this.documentConversionService = documentConversionService;
+        this.requestData = requestData;
+        this.pdfMemoryPolicy = pdfMemoryPolicy;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("document-merger-"),
+            new ThreadPoolExecutor.AbortPolicy());
+        this.workersPerMerge = workersPerMerge;
+        this.timeout = timeout;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
 
     public DocmosisDocument mergeDocuments(DocmosisDocument originalDocument,
                                            List<DocumentReference> additionalDocuments) {
@@ -35,16 +89,18 @@ public class DocumentMerger {
             return originalDocument;
         }
 
-        ByteArrayOutputStream docOutputStream = new ByteArrayOutputStream();
-        List<InputStream> documents = getPdfFilesToMerge(originalDocument, additionalDocuments);
+        List<byte[]> documents = getPdfFilesToMerge(originalDocument, additionalDocuments);
+        long documentsSize = documents.stream().mapToLong(document -> document.length).sum();
 
         PDFMergerUtility pdfMergerUtility = new PDFMergerUtility();
-        pdfMergerUtility.addSources(documents);
-        pdfMergerUtility.setDestinationStream(docOutputStream);
+        documents.forEach(document -> pdfMergerUtility.addSource(new ByteArrayInputStream(document)));
         try {
-            pdfMergerUtility.mergeDocuments(setupMainMemoryOnly());
+            byte[] mergedDocument = pdfMemoryPolicy.write("merge", documentsSize, (memoryUsageSetting, output) -> {
+                pdfMergerUtility.setDestinationStream(output);
+                pdfMergerUtility.mergeDocuments(memoryUsageSetting);
+            });
             log.info("Merged {} documents", 1 + additionalDocuments.size());
-            return new DocmosisDocument(originalDocument.getDocumentTitle(), docOutputStream.toByteArray());
+            return new DocmosisDocument(originalDocument.getDocumentTitle(), mergedDocument);
         } catch (IOException e) {
             throw new DocumentMergeException(
                 "Exception occurred while merging documents for " + originalDocument.getDocumentTitle(), e
@@ -52,20 +108,105 @@ public class DocumentMerger {
         }
     }
 
-    private List<InputStream> getPdfFilesToMerge(DocmosisDocument originalDocument,
-                                                 List<DocumentReference> additionalDocuments) {
-        List<InputStream> documents = new ArrayList<>();
-        final byte[] convertedOriginalDocument = documentConversionService.convertToPdf(
-            originalDocument.getBytes(), originalDocument.getDocumentTitle());
+    private List<byte[]> getPdfFilesToMerge(DocmosisDocument originalDocument,
+                                            List<DocumentReference> additionalDocuments) {
+        List<Supplier<byte[]>> tasks = new ArrayList<>();
+        tasks.add(() -> documentConversionService.convertToPdf(
+            originalDocument.getBytes(), originalDocument.getDocumentTitle()));
+        additionalDocuments.forEach(documentReference -> tasks.add(() -> {
+            final byte[] document = documentDownloadService.downloadDocument(documentReference.getBinaryUrl());
+            return documentConversionService.convertToPdf(document, documentReference.getFilename());
+        }));
 
-        documents.add(new ByteArrayInputStream(convertedOriginalDocument));
+        Merge merge = new Merge(tasks, currentRequestData());
+        List<Future<?>> workers = new ArrayList<>();
+        try {
+            for (int i = 0; i < Math.min(workersPerMerge, tasks.size()); i++) {
+                try {
+                    workers.add(executor.submit(merge::fetch));
+                } catch (RejectedExecutionException e) {
+                    // the workers already queued fetch every document, just with fewer of them side by side
+                    if (workers.isEmpty()) {
+                        throw new DocumentMergeException("Too many documents being merged to fetch documents for "
+                            + originalDocument.getDocumentTitle(), e);
+                    }
+                    break;
+                }
+            }
+            awaitAll(merge.pdfs, originalDocument.getDocumentTitle());
+        } finally {
+            // stops the documents not yet started and interrupts those still being fetched after a failure
+            merge.cancelled.set(true);
+            workers.forEach(worker -> worker.cancel(true));
+        }
 
-        additionalDocuments.forEach(documentReference -> {
-            final byte[] document = documentDownloadService.downloadDocument(documentReference.getBinaryUrl());
-            final byte[] pdf = documentConversionService.convertToPdf(document, documentReference.getFilename());
-            documents.add(new ByteArrayInputStream(pdf));
-        });
-        return documents;
+        return merge.pdfs.stream()
+            .map(CompletableFuture::join)
+            .collect(Collectors.toList());
+    }
+
+    private void awaitAll(List<CompletableFuture<byte[]>> pdfs, String documentTitle) {
+        try {
+            CompletableFuture.allOf(pdfs.toArray(new CompletableFuture<?>[0]))
+                .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new DocumentMergeException("Exception occurred while fetching documents for " + documentTitle, e);
+        } catch (TimeoutException e) {
+            throw new DocumentMergeException(
+                "Documents to merge for " + documentTitle + " were not fetched within " + timeout, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DocumentMergeException("Interrupted while fetching documents for " + documentTitle, e);
+        }
+    }
+
+    private SimpleRequestData currentRequestData() {
+        try {
+            return new SimpleRequestData(requestData);
+        } catch (IllegalStateException e) {
+            // outside of a request, documents are downloaded as the system user
+            return null;
+        }
     }
 
+    private static final class Merge {
+        private final List<Supplier<byte[]>> tasks;
+        private final List<CompletableFuture<byte[]>> pdfs = new ArrayList<>();
+        private final SimpleRequestData requestData;
+        private final AtomicInteger next = new AtomicInteger();
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+
+        private Merge(List<Supplier<byte[]>> tasks, SimpleRequestData requestData) {
+            this.tasks = tasks;
+            this.requestData = requestData;
+            tasks.forEach(task -> pdfs.add(new CompletableFuture<>()));
+        }
+
+        private void fetch() {
+            // workers are shared between merges, so whatever request data the thread had before is put back
+            Optional<RequestData> previous = RequestDataCache.get();
+            if (requestData != null) {
+                RequestDataCache.add(requestData);
+            }
+            try {
+                while (!cancelled.get() && !Thread.currentThread().isInterrupted()) {
+                    int index = next.getAndIncrement();
+                    if (index >= tasks.size()) {
+                        return;
+                    }
+                    try {
+                        pdfs.get(index).complete(tasks.get(index).get());
+                    } catch (Exception e) {
+                        pdfs.get(index).completeExceptionally(e);
+                    }
+                }
+            } finally {
+                previous.ifPresentOrElse(request -> RequestDataCache.add(new SimpleRequestData(request)),
+                    RequestDataCache::remove);
+            }
+        }
+    }
 }
@@ -0,0 +1,138 @@
+package uk.gov.hmcts.reform.fpl.service.outbox;
+
+import uk.gov.hmcts.reform.fpl.exceptions.EventDeliveryException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Tracks the async work started while an event is published, so the outbox knows when every handler of the event has
+ * finished and whether any of them failed. Async tasks submitted while a delivery is current belong to it, as do the
+ * tasks those tasks submit in turn.
+ *
+ * <p>A delivery that times out is cancelled: tasks not yet started are skipped, running ones are interrupted and
+ * tracked futures cancelled, so they do not carry on alongside the retry. Work that ignores the interrupt, or has
+ * already reached a downstream service, can still happen twice, so handlers must be idempotent.
+ */
+public class EventDelivery {
+
+    private static final ThreadLocal<EventDelivery> CURRENT = new ThreadLocal<>();
+
+    private final List<Thread> running = new ArrayList<>();
+    private final List<CompletableFuture<?>> tracked = new ArrayList<>();
+    private int pendingTasks;
+    private Throwable failure;
+    private boolean cancelled;
+
+    public static Optional<EventDelivery> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /**
+     * Runs the action with this delivery current, so any async task it submits is tracked.
+     */
+    public void run(Runnable action) {
+        EventDelivery previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            action.run();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Runs a tracked async task with this delivery current, unless the delivery has been cancelled. The task is
+     * interrupted if the delivery is cancelled while it runs.
+     */
+    public void runTask(Runnable task) {
+        Thread thread = Thread.currentThread();
+        synchronized (this) {
+            if (cancelled) {
+                return;
+            }
+            running.add(thread);
+        }
+        try {
+            run(task);
+        } finally {
+            synchronized (this) {
+                running.remove(thread);
+                // an interrupt meant for the task must not reach whatever the thread runs next
+                if (cancelled && !running.contains(thread)) {
+                    Thread.interrupted();
+                }
+            }
+        }
+    }
+
+    /**
+     * Tracks work a handler hands to something other than the async executor, which finishes with the future.
+     */
+    public void track(CompletableFuture<?> task) {
+        synchronized (this) {
+            if (cancelled) {
+                task.cancel(true);
+            } else {
+                tracked.add(task);
+            }
+        }
+        taskSubmitted();
+        task.whenComplete((result, error) -> {
+            if (error != null) {
+                taskFailed(error);
+            }
+            taskFinished();
+        });
+    }
+
+    public synchronized void taskSubmitted() {
+        pendingTasks++;
+    }
+
+    public synchronized void taskFailed(Throwable error) {
+        if (failure == null) {
+            failure = error;
+        } else {
+            failure.addSuppressed(error);
+        }
+    }
+
+    public synchronized void taskFinished() {
+        pendingTasks--;
+        notifyAll();
+    }
+
+    /**
+     * Waits for every tracked task to finish, rethrowing the first failure of any of them. Cancels the delivery if
+     * they have not all finished within the timeout.
+     */
+    public synchronized void await(Duration timeout) throws InterruptedException, TimeoutException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (pendingTasks > 0) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                cancel();
+                throw new TimeoutException(pendingTasks + " event handler(s) did not finish within " + timeout);
+            }
+            wait(remaining / 1_000_000, (int) (remaining % 1_000_000));
+        }
+        if (failure != null) {
+            throw new EventDeliveryException(failure);
+        }
+    }
+
+    private synchronized void cancel() {
+        cancelled = true;
+        running.forEach(Thread::interrupt);
+        tracked.forEach(task -> task.cancel(true));
+    }
+}
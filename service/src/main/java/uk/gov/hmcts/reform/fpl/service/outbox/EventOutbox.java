@@ -0,0 +1,157 @@
+package uk.gov.hmcts.reform.fpl.service.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.fpl.config.scheduler.EventOutboxConfiguration;
+import uk.gov.hmcts.reform.fpl.request.RequestData;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import javax.sql.DataSource;
+
+import static java.util.stream.Collectors.toSet;
+import static org.apache.commons.lang3.StringUtils.abbreviate;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * Stores events in the scheduler database so they survive a restart of the instance that published them. Stored
+ * events are claimed by whichever instance polls first, any number of instances can claim at the same time without
+ * seeing each other's events. A claim lasts for the lease, an event whose claimant dies before finishing it becomes
+ * available again once the lease runs out, so every event is delivered at least once.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = {"scheduler.enabled", "scheduler.event-outbox.enabled"}, havingValue = "true")
+public class EventOutbox {
+
+    public static final String EVENTS_METRIC = "fpl.event_outbox.events";
+
+    private static final int MAX_ERROR_LENGTH = 4000;
+
+    private static final String INSERT = "INSERT INTO event_outbox "
+        + "(event_type, payload, user_id, user_roles, status, available_at) "
+        + "VALUES (?, ?, ?, ?, 'PENDING', now())";
+
+    // claims expired in progress events too, their claimant went away before finishing them
+    private static final String CLAIM = "UPDATE event_outbox "
+        + "SET status = 'IN_PROGRESS', attempts = attempts + 1, claimed_by = ?, "
+        + "available_at = now() + make_interval(secs => ?) "
+        + "WHERE id IN (SELECT id FROM event_outbox "
+        + "WHERE status IN ('PENDING', 'IN_PROGRESS') AND available_at <= now() "
+        + "ORDER BY available_at LIMIT ? FOR UPDATE SKIP LOCKED) "
+        + "RETURNING id, event_type, payload, user_id, user_roles, attempts";
+
+    // the attempt identifies the claim, an instance whose lease ran out must not touch the event any more
+    private static final String COMPLETE = "DELETE FROM event_outbox WHERE id = ? AND attempts = ?";
+
+    private static final String RETRY = "UPDATE event_outbox "
+        + "SET status = 'PENDING', claimed_by = NULL, last_error = ?, available_at = now() + make_interval(secs => ?) "
+        + "WHERE id = ? AND attempts = ?";
+
+    private static final String DEAD_LETTER = "UPDATE event_outbox "
+        + "SET status = 'DEAD', claimed_by = NULL, last_error = ? "
+        + "WHERE id = ? AND attempts = ?";
+
+    private static final RowMapper<OutboxEvent> EVENT_MAPPER = (resultSet, row) -> OutboxEvent.builder()
+        .id(resultSet.getLong("id"))
+        .eventType(resultSet.getString("event_type"))
+        .payload(resultSet.getString("payload"))
+        .userId(resultSet.getString("user_id"))
+        .userRoles(toRoles(resultSet.getString("user_roles")))
+        .attempts(resultSet.getInt("attempts"))
+        .build();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper mapper;
+    private final RequestData requestData;
+    private final EventOutboxConfiguration configuration;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public EventOutbox(DataSource dataSource, ObjectMapper mapper, RequestData requestData,
+                       EventOutboxConfiguration configuration, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.mapper = mapper;
+        this.requestData = requestData;
+        this.configuration = configuration;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public boolean isDurable(Object event) {
+        return configuration.getEventTypes().contains(event.getClass().getSimpleName());
+    }
+
+    /**
+     * Stores the event along with the user who triggered it. The user's token is not stored, it would have expired
+     * long before a retry, handlers of stored events run with the system user's token instead.
+     */
+    public void add(Object event) throws JsonProcessingException {
+        String payload = mapper.writeValueAsString(event);
+        jdbcTemplate.update(INSERT, event.getClass().getName(), payload, requestData.userId(),
+            String.join(",", requestData.userRoles()));
+        count(event.getClass().getSimpleName(), "stored");
+    }
+
+    /**
+     * Claims up to the limit of events that are due, oldest first, for the lease.
+     */
+    public List<OutboxEvent> claim(String claimant, int limit, Duration lease) {
+        return jdbcTemplate.query(CLAIM, EVENT_MAPPER, claimant, lease.toMillis() / 1000.0, limit);
+    }
+
+    public void complete(OutboxEvent event) {
+        jdbcTemplate.update(COMPLETE, event.getId(), event.getAttempts());
+        count(simpleName(event), "delivered");
+    }
+
+    /**
+     * Makes the event available again after a backoff, or dead letters it once it has used all its attempts. Dead
+     * lettered events stay in the table, with the last error, until someone looks into them.
+     */
+    public void fail(OutboxEvent event, Throwable error) {
+        String lastError = abbreviate(String.valueOf(error), MAX_ERROR_LENGTH);
+
+        if (event.getAttempts() >= configuration.getMaxAttempts()) {
+            log.error("Event {} {} failed {} time(s), giving up", event.getId(), simpleName(event),
+                event.getAttempts(), error);
+            jdbcTemplate.update(DEAD_LETTER, lastError, event.getId(), event.getAttempts());
+            count(simpleName(event), "dead_lettered");
+        } else {
+            Duration backoff = configuration.getBackoff(event.getAttempts());
+            log.warn("Event {} {} failed on attempt {}, retrying in {}", event.getId(), simpleName(event),
+                event.getAttempts(), backoff, error);
+            jdbcTemplate.update(RETRY, lastError, backoff.toMillis() / 1000.0, event.getId(), event.getAttempts());
+            count(simpleName(event), "retried");
+        }
+    }
+
+    private void count(String eventType, String outcome) {
+        Counter.builder(EVENTS_METRIC)
+            .description("Events passing through the outbox")
+            .tag("type", eventType)
+            .tag("outcome", outcome)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    private static String simpleName(OutboxEvent event) {
+        return event.getEventType().substring(event.getEventType().lastIndexOf('.') + 1);
+    }
+
+    private static Set<String> toRoles(String roles) {
+        if (isBlank(roles)) {
+            return Set.of();
+        }
+        return Arrays.stream(roles.split(",")).collect(toSet());
+    }
+}
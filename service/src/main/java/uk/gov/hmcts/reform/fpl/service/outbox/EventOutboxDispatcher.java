@@ -0,0 +1,131 @@
+package uk.gov.hmcts.reform.fpl.service.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.fpl.config.scheduler.EventOutboxConfiguration;
+import uk.gov.hmcts.reform.fpl.request.RequestDataCache;
+import uk.gov.hmcts.reform.fpl.request.SimpleRequestData;
+import uk.gov.hmcts.reform.fpl.service.SystemUserService;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Delivers stored events on a pool of workers. Each event is published to its handlers as when it was first published,
+ * but with the system user's token, and only leaves the outbox once every handler, async ones included, has finished
+ * without error within the handler timeout.
+ *
+ * <p>Delivery is at least once: async handlers still running at the handler timeout are interrupted, but anything they
+ * have already done stays done and the retry runs every handler again, so handlers of stored events must be
+ * idempotent.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = {"scheduler.enabled", "scheduler.event-outbox.enabled"}, havingValue = "true")
+public class EventOutboxDispatcher {
+
+    public static final String DELIVERY_METRIC = "fpl.event_outbox.delivery";
+
+    private final EventOutbox outbox;
+    private final ApplicationEventPublisher publisher;
+    private final ObjectMapper mapper;
+    private final SystemUserService systemUserService;
+    private final EventOutboxConfiguration configuration;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService workers;
+    private final String claimant;
+
+    @Autowired
+    public EventOutboxDispatcher(EventOutbox outbox, ApplicationEventPublisher publisher, ObjectMapper mapper,
+                                 SystemUserService systemUserService, EventOutboxConfiguration configuration,
+                                 MeterRegistry meterRegistry) {
+        configuration.validate();
+        this.outbox = outbox;
+        this.publisher = publisher;
+        this.mapper = mapper;
+        this.systemUserService = systemUserService;
+        this.configuration = configuration;
+        this.meterRegistry = meterRegistry;
+        this.workers = Executors.newFixedThreadPool(configuration.getWorkers(),
+            new CustomizableThreadFactory("event-outbox-"));
+        this.claimant = System.getenv().getOrDefault("HOSTNAME", "fpl") + "-" + UUID.randomUUID();
+    }
+
+    /**
+     * Claims a batch of due events and delivers them, returning once they have all been delivered or failed.
+     *
+     * @return the number of events claimed, fewer than the batch size when the outbox has been drained
+     */
+    public int dispatch() throws InterruptedException {
+        List<OutboxEvent> events = outbox.claim(claimant, configuration.getBatchSize(), configuration.getLease());
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        String systemUserToken = systemUserService.getSysUserToken();
+        List<Callable<Void>> deliveries = events.stream()
+            .map(event -> (Callable<Void>) () -> {
+                deliver(event, systemUserToken);
+                return null;
+            })
+            .toList();
+
+        workers.invokeAll(deliveries);
+        return events.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    void deliver(OutboxEvent event, String systemUserToken) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "delivered";
+        try {
+            Object payload = read(event);
+            RequestDataCache.add(new SimpleRequestData(systemUserToken, event.getUserId(), event.getUserRoles()));
+
+            EventDelivery delivery = new EventDelivery();
+            delivery.run(() -> publisher.publishEvent(payload));
+            delivery.await(configuration.getHandlerTimeout());
+
+            outbox.complete(event);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            outcome = "failed";
+            outbox.fail(event, e);
+        } catch (Exception e) {
+            outcome = "failed";
+            outbox.fail(event, e);
+        } finally {
+            RequestDataCache.remove();
+            sample.stop(Timer.builder(DELIVERY_METRIC)
+                .description("Time taken to deliver stored events to all their handlers")
+                .tag("type", event.getEventType().substring(event.getEventType().lastIndexOf('.') + 1))
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+        }
+    }
+
+    private Object read(OutboxEvent event) throws ClassNotFoundException, JsonProcessingException {
+        Class<?> eventType = Class.forName(event.getEventType());
+        // only events configured as durable are ever stored, anything else in the table did not come from us
+        if (!configuration.getEventTypes().contains(eventType.getSimpleName())) {
+            throw new IllegalStateException("Event type " + event.getEventType() + " is not stored in the outbox");
+        }
+        return mapper.readValue(event.getPayload(), eventType);
+    }
+}
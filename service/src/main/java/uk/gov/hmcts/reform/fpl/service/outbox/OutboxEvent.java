@@ -0,0 +1,17 @@
+package uk.gov.hmcts.reform.fpl.service.outbox;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Set;
+
+@Value
+@Builder
+public class OutboxEvent {
+    long id;
+    String eventType;
+    String payload;
+    String userId;
+    Set<String> userRoles;
+    int attempts;
+}
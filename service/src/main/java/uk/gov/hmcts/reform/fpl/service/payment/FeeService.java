@@ -1,9 +1,16 @@
 package uk.gov.hmcts.reform.fpl.service.payment;
 
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import feign.FeignException;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.fnp.client.FeesRegisterApi;
 import uk.gov.hmcts.reform.fnp.exception.FeeRegisterException;
@@ -17,24 +24,85 @@ import uk.gov.hmcts.reform.fpl.model.FeesData;
 import uk.gov.hmcts.reform.fpl.model.Orders;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static com.google.common.collect.ImmutableList.toImmutableList;
 import static java.util.Optional.ofNullable;
 import static uk.gov.hmcts.reform.fnp.model.fee.FeeType.fromOrderType;
 import static uk.gov.hmcts.reform.fnp.model.fee.FeeType.fromSecureAccommodationOrder;
 
+/**
+ * Looks up fees in the fees register. Fees change rarely, so each fee found is remembered against the parameters it
+ * was looked up with. Once older than the refresh interval it is looked up again in the background the next time it
+ * is asked for, while the remembered fee is still returned, and once older than the time to live it is forgotten.
+ *
+ * <p>Fees not remembered yet are looked up side by side on the fee workers. How often fees are found in the cache and
+ * the age of the oldest fee remembered are published as metrics.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor(onConstructor = @__(@Autowired))
 public class FeeService {
 
+    public static final String CACHE_METRIC = "fpl.fee_cache.requests";
+    public static final String AGE_METRIC = "fpl.fee_cache.age";
+
     private final FeesConfig feesConfig;
     private final FeesRegisterApi feesRegisterApi;
+    private final boolean cacheEnabled;
+    private final ExecutorService workers;
+    private final AsyncLoadingCache<FeeParameters, CachedFee> cache;
+
+    @Autowired
+    public FeeService(FeesConfig feesConfig,
+                      FeesRegisterApi feesRegisterApi,
+                      MeterRegistry meterRegistry,
+                      @Value("${fpl.fee_cache.enabled:true}") boolean cacheEnabled,
+                      @Value("${fpl.fee_cache.refresh:1h}") Duration refresh,
+                      @Value("${fpl.fee_cache.ttl:1d}") Duration ttl,
+                      @Value("${fpl.fee_cache.workers:4}") int workers) {
+        this(feesConfig, feesRegisterApi, meterRegistry, cacheEnabled, refresh, ttl,
+            Executors.newFixedThreadPool(workers, new CustomizableThreadFactory("fee-register-")));
+    }
+
+    FeeService(FeesConfig feesConfig, FeesRegisterApi feesRegisterApi, MeterRegistry meterRegistry,
+               boolean cacheEnabled, Duration refresh, Duration ttl, ExecutorService workers) {
+        this.feesConfig = feesConfig;
+        this.feesRegisterApi = feesRegisterApi;
+        this.cacheEnabled = cacheEnabled;
+        this.workers = workers;
+        this.cache = Caffeine.newBuilder()
+            .refreshAfterWrite(refresh)
+            .expireAfterWrite(ttl)
+            // lookups and refreshes run on the fee workers, each missing fee on its own
+            .executor(workers)
+            .recordStats()
+            .buildAsync(this::lookUp);
+
+        FunctionCounter.builder(CACHE_METRIC, cache, fees -> fees.synchronous().stats().hitCount())
+            .description("Fees asked for, by whether they were found in the cache")
+            .tag("result", "hit")
+            .register(meterRegistry);
+        FunctionCounter.builder(CACHE_METRIC, cache, fees -> fees.synchronous().stats().missCount())
+            .description("Fees asked for, by whether they were found in the cache")
+            .tag("result", "miss")
+            .register(meterRegistry);
+        Gauge.builder(AGE_METRIC, cache, FeeService::oldestFeeAge)
+            .description("Age of the oldest fee in the cache")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+    }
 
     public FeesData getFeesDataForOrders(Orders orders) {
         return Optional.ofNullable(orders)
@@ -59,15 +127,21 @@ public class FeeService {
     }
 
     public List<FeeResponse> getFees(List<FeeType> feeTypes) {
-        return ofNullable(feeTypes).stream()
+        List<FeeParameters> parameters = ofNullable(feeTypes).stream()
             .flatMap(Collection::stream)
-            .map(this::makeRequest)
+            .map(feesConfig::getFeeParametersByFeeType)
+            .toList();
+
+        Map<FeeParameters, FeeResponse> fees = findFees(parameters);
+
+        return parameters.stream()
+            .map(fees::get)
             .filter(Objects::nonNull)
             .collect(toImmutableList());
     }
 
     public FeesData getFeesDataForC2(C2ApplicationType c2ApplicationType) {
-        FeeResponse feeResponse = makeRequest(FeeType.fromC2ApplicationType(c2ApplicationType));
+        FeeResponse feeResponse = getFee(FeeType.fromC2ApplicationType(c2ApplicationType));
 
         return FeesData.builder()
             .totalAmount(feeResponse.getAmount())
@@ -77,7 +151,7 @@ public class FeeService {
 
     public FeesData getFeesDataForPlacement() {
 
-        final FeeResponse feeResponse = makeRequest(FeeType.PLACEMENT);
+        final FeeResponse feeResponse = getFee(FeeType.PLACEMENT);
 
         return FeesData.builder()
             .totalAmount(feeResponse.getAmount())
@@ -92,8 +166,35 @@ public class FeeService {
             .orElse(FeesData.builder().totalAmount(BigDecimal.ZERO).build());
     }
 
-    private FeeResponse makeRequest(FeeType feeType) {
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private FeeResponse getFee(FeeType feeType) {
         FeeParameters parameters = feesConfig.getFeeParametersByFeeType(feeType);
+        return findFees(List.of(parameters)).get(parameters);
+    }
+
+    private Map<FeeParameters, FeeResponse> findFees(List<FeeParameters> parameters) {
+        Map<FeeParameters, FeeResponse> fees = new HashMap<>();
+        if (!cacheEnabled) {
+            parameters.forEach(feeParameters -> fees.put(feeParameters, makeRequest(feeParameters)));
+            return fees;
+        }
+
+        // fees found in the register are never null, so missing fees are simply not in the map
+        await(cache.getAll(parameters)).forEach((feeParameters, fee) -> fees.put(feeParameters, fee.response()));
+        return fees;
+    }
+
+    private CachedFee lookUp(FeeParameters parameters) {
+        FeeResponse fee = makeRequest(parameters);
+        // a fee the register did not return is not remembered, so it is looked up again next time
+        return fee == null ? null : new CachedFee(fee, Instant.now());
+    }
+
+    private FeeResponse makeRequest(FeeParameters parameters) {
         try {
             log.debug("Making request to Fee Register with parameters : {} ", parameters);
 
@@ -126,4 +227,26 @@ public class FeeService {
             .fees(List.of(feeDto))
             .build();
     }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static double oldestFeeAge(AsyncLoadingCache<FeeParameters, CachedFee> cache) {
+        Instant now = Instant.now();
+        return cache.synchronous().asMap().values().stream()
+            .mapToLong(fee -> Duration.between(fee.loadedAt(), now).toSeconds())
+            .max()
+            .orElse(0);
+    }
+
+    private record CachedFee(FeeResponse response, Instant loadedAt) {
+    }
 }
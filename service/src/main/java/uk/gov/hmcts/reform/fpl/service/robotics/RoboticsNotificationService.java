@@ -11,7 +11,10 @@ import uk.gov.hmcts.reform.fpl.exceptions.robotics.RoboticsDataException;
 import uk.gov.hmcts.reform.fpl.model.CaseData;
 import uk.gov.hmcts.reform.fpl.model.email.EmailData;
 import uk.gov.hmcts.reform.fpl.model.robotics.RoboticsData;
-import uk.gov.hmcts.reform.fpl.service.email.EmailService;
+import uk.gov.hmcts.reform.fpl.service.outbox.EventDelivery;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static java.util.Set.of;
 import static org.apache.commons.lang3.ObjectUtils.isNotEmpty;
@@ -23,15 +26,20 @@ import static uk.gov.hmcts.reform.fpl.model.email.EmailAttachment.json;
 @Service
 @RequiredArgsConstructor(onConstructor = @__(@Autowired))
 public class RoboticsNotificationService {
-    private final EmailService emailService;
     private final RoboticsDataService roboticsDataService;
     private final RoboticsEmailConfiguration roboticsEmailConfiguration;
+    private final RoboticsSubmissionQueue submissionQueue;
 
     @EventListener
     public void notifyRoboticsOfSubmittedCaseData(final CaseNumberAdded event) {
         sendSubmittedCaseData(event.getCaseData());
     }
 
+    /**
+     * Queues the robotics email for the case and returns without waiting for the mail server. Delivered from the
+     * outbox, the email is tried once and the outbox retries the event until it has been sent, otherwise the queue
+     * retries the email itself.
+     */
     public void sendSubmittedCaseData(final CaseData caseData) {
         if (isNotEmpty(caseData)) {
             try {
@@ -39,10 +47,12 @@ public class RoboticsNotificationService {
 
                 EmailData emailData = prepareEmailData(roboticsData);
 
-                emailService.sendEmail(roboticsEmailConfiguration.getSender(), emailData);
-                log.info("Robotics email notification successful for case with caseId {} and familyManNumber {}",
-                    caseData.getId(), caseData.getFamilyManCaseNumber());
+                Optional<EventDelivery> delivery = EventDelivery.current();
+                CompletableFuture<Void> sent = delivery.isPresent()
+                    ? submissionQueue.submitOnce(emailData) : submissionQueue.submit(emailData);
+                delivery.ifPresent(current -> current.track(sent));
 
+                sent.whenComplete((result, error) -> logOutcome(caseData, error));
             } catch (Exception exc) {
                 log.error("Robotics email notification failed for case with caseId {} and familyManNumber {} due to {}",
                     caseData.getId(), caseData.getFamilyManCaseNumber(), exc.getMessage());
@@ -52,6 +62,16 @@ public class RoboticsNotificationService {
         }
     }
 
+    private void logOutcome(final CaseData caseData, final Throwable error) {
+        if (error == null) {
+            log.info("Robotics email notification successful for case with caseId {} and familyManNumber {}",
+                caseData.getId(), caseData.getFamilyManCaseNumber());
+        } else {
+            log.error("Robotics email notification failed for case with caseId {} and familyManNumber {} due to {}",
+                caseData.getId(), caseData.getFamilyManCaseNumber(), error.getMessage());
+        }
+    }
+
     private EmailData prepareEmailData(final RoboticsData roboticsData) {
         final String roboticsJsonData = roboticsDataService.convertRoboticsDataToJson(roboticsData);
 
@@ -0,0 +1,224 @@
+package uk.gov.hmcts.reform.fpl.service.robotics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.fpl.config.robotics.RoboticsEmailConfiguration;
+import uk.gov.hmcts.reform.fpl.config.scheduler.EventOutboxConfiguration;
+import uk.gov.hmcts.reform.fpl.exceptions.EmailFailedSendException;
+import uk.gov.hmcts.reform.fpl.model.email.EmailData;
+import uk.gov.hmcts.reform.fpl.service.email.EmailService;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Sends robotics emails in batches, each batch over a single connection to the mail server. Emails queued within the
+ * batch delay of each other go out together, up to the batch size.
+ *
+ * <p>Callers are not held up by the mail server, they get a future for the outcome instead. An attempt that has not
+ * been sent within the timeout fails, and a failed attempt is queued again after the retry delay until the email has
+ * used all its attempts.
+ */
+@Slf4j
+@Component
+public class RoboticsSubmissionQueue {
+
+    public static final String LAG_METRIC = "fpl.robotics.submission.lag";
+    public static final String PENDING_METRIC = "fpl.robotics.submission.pending";
+
+    private final EmailService emailService;
+    private final RoboticsEmailConfiguration configuration;
+    private final int batchSize;
+    private final Duration batchDelay;
+    private final Duration timeout;
+    private final int maxAttempts;
+    private final Duration retryDelay;
+    private final Timer lagTimer;
+    private final BlockingQueue<Attempt> pending = new LinkedBlockingQueue<>();
+    private final ExecutorService sender = Executors.newSingleThreadExecutor(
+        new CustomizableThreadFactory("robotics-"));
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+        new CustomizableThreadFactory("robotics-retry-"));
+
+    @Autowired
+    public RoboticsSubmissionQueue(EmailService emailService, RoboticsEmailConfiguration configuration,
+                                   EventOutboxConfiguration outboxConfiguration, MeterRegistry meterRegistry,
+                                   @Value("${robotics.submission.batch_size:10}") int batchSize,
+                                   @Value("${robotics.submission.batch_delay:500ms}") Duration batchDelay,
+                                   @Value("${robotics.submission.timeout:20s}") Duration timeout,
+                                   @Value("${robotics.submission.max_attempts:3}") int maxAttempts,
+                                   @Value("${robotics.submission.retry_delay:1m}") Duration retryDelay) {
+        this.emailService = emailService;
+        this.configuration = configuration;
+        this.batchSize = Math.max(1, batchSize);
+        this.batchDelay = batchDelay;
+        this.timeout = timeout;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryDelay = retryDelay;
+        this.lagTimer = Timer.builder(LAG_METRIC)
+            .description("Time from a robotics submission being queued to its email being sent")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        Gauge.builder(PENDING_METRIC, pending, BlockingQueue::size)
+            .description("Robotics submissions waiting to be sent")
+            .register(meterRegistry);
+
+        // when delivered from the outbox each attempt must finish before the outbox stops waiting for it
+        outboxConfiguration.registerHandlerAttempt("Robotics submission", timeout);
+
+        sender.execute(this::sendBatches);
+    }
+
+    /**
+     * Queues the email, retrying it until it has used all its attempts.
+     *
+     * @return completes once the email has been sent, or with an {@link EmailFailedSendException} once every attempt
+     *     has failed. Cancelling it stops any attempt not yet started
+     */
+    public CompletableFuture<Void> submit(EmailData email) {
+        return submit(email, maxAttempts);
+    }
+
+    /**
+     * Queues the email for a single attempt, for callers that retry it themselves.
+     */
+    public CompletableFuture<Void> submitOnce(EmailData email) {
+        return submit(email, 1);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+        scheduler.shutdownNow();
+        List<Attempt> unsent = new ArrayList<>();
+        pending.drainTo(unsent);
+        unsent.forEach(attempt -> attempt.submission().result().completeExceptionally(
+            new EmailFailedSendException(new IllegalStateException("Shutting down"))));
+    }
+
+    private CompletableFuture<Void> submit(EmailData email, int attempts) {
+        Submission submission = new Submission(email, attempts, System.nanoTime(), new CompletableFuture<>());
+        enqueue(submission, 1);
+        return submission.result();
+    }
+
+    private void enqueue(Submission submission, int number) {
+        if (submission.result().isDone()) {
+            return;
+        }
+        Attempt attempt = new Attempt(submission, number, new AtomicBoolean(), new AtomicBoolean());
+        pending.add(attempt);
+        scheduler.schedule(() -> timeOut(attempt), timeout.toMillis(), MILLISECONDS);
+    }
+
+    private void timeOut(Attempt attempt) {
+        // an attempt still queued is withdrawn, one being sent is left to finish but no longer waited for
+        if (attempt.claim()) {
+            pending.remove(attempt);
+        }
+        finish(attempt, new TimeoutException("Robotics email was not sent within " + timeout));
+    }
+
+    private void finish(Attempt attempt, Exception failure) {
+        if (!attempt.finish()) {
+            return;
+        }
+
+        Submission submission = attempt.submission();
+        if (failure == null) {
+            lagTimer.record(System.nanoTime() - submission.submittedAt(), NANOSECONDS);
+            submission.result().complete(null);
+        } else if (attempt.number() < submission.maxAttempts() && !submission.result().isDone()) {
+            log.warn("Robotics email {} failed on attempt {}, retrying in {}", submission.email().getSubject(),
+                attempt.number(), retryDelay, failure);
+            scheduler.schedule(() -> enqueue(submission, attempt.number() + 1), retryDelay.toMillis(),
+                MILLISECONDS);
+        } else {
+            submission.result().completeExceptionally(failure instanceof EmailFailedSendException
+                ? failure : new EmailFailedSendException(failure));
+        }
+    }
+
+    private void sendBatches() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                List<Attempt> batch = new ArrayList<>();
+                batch.add(pending.take());
+
+                long deadline = System.nanoTime() + batchDelay.toNanos();
+                while (batch.size() < batchSize) {
+                    Attempt next = pending.poll(deadline - System.nanoTime(), NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                send(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Throwable e) {
+                // the sender is the only thread sending submissions, so it carries on whatever went wrong
+                log.error("Robotics sender failed, carrying on with the next batch", e);
+            }
+        }
+    }
+
+    private void send(List<Attempt> batch) {
+        // attempts that timed out, and submissions their callers cancelled, are left out
+        batch.removeIf(attempt -> attempt.submission().result().isDone() || !attempt.claim());
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, Exception> failures;
+        try {
+            failures = emailService.sendEmails(configuration.getSender(),
+                batch.stream().map(attempt -> attempt.submission().email()).toList());
+        } catch (RuntimeException e) {
+            log.error("Robotics batch of {} email(s) failed", batch.size(), e);
+            batch.forEach(attempt -> finish(attempt, e));
+            return;
+        }
+
+        for (int index = 0; index < batch.size(); index++) {
+            finish(batch.get(index), failures.get(index));
+        }
+    }
+
+    private record Submission(EmailData email, int maxAttempts, long submittedAt, CompletableFuture<Void> result) {
+    }
+
+    private record Attempt(Submission submission, int number, AtomicBoolean claimed, AtomicBoolean finished) {
+
+        // whoever claims the attempt first, the sender or the timeout, decides whether it is sent
+        boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+
+        // whoever finishes the attempt first, the sender or the timeout, decides its outcome
+        boolean finish() {
+            return finished.compareAndSet(false, true);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package uk.gov.hmcts.reform.fpl.service.search;
+
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.ccd.client.model.SearchResult;
+import uk.gov.hmcts.reform.fpl.utils.elasticsearch.ESQuery;
+import uk.gov.hmcts.reform.fpl.utils.elasticsearch.Sort;
+import uk.gov.hmcts.reform.fpl.utils.elasticsearch.SortOrder;
+import uk.gov.hmcts.reform.fpl.utils.elasticsearch.SortQuery;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Walks through every case matching a query, one page at a time, using elasticsearch's search_after on the case
+ * reference rather than from offsets. Each page costs the same to fetch however deep into the results it is, and
+ * cases created or updated during the walk cannot shift earlier pages and cause cases to be skipped or repeated.
+ */
+class SearchAfterCursor implements Iterator<List<CaseDetails>> {
+
+    static final Sort BY_REFERENCE = Sort.builder()
+        .clauses(List.of(SortQuery.of("reference", SortOrder.ASC)))
+        .build();
+
+    private final ESQuery query;
+    private final int pageSize;
+    private final List<String> source;
+    private final Function<String, SearchResult> search;
+
+    private List<CaseDetails> nextPage;
+    private Long lastReference;
+    private boolean exhausted;
+
+    SearchAfterCursor(ESQuery query, int pageSize, List<String> source, Function<String, SearchResult> search) {
+        this.query = query;
+        this.pageSize = pageSize;
+        this.source = source;
+        this.search = search;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextPage == null && !exhausted) {
+            fetchNextPage();
+        }
+        return nextPage != null;
+    }
+
+    @Override
+    public List<CaseDetails> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more cases match the query");
+        }
+        List<CaseDetails> page = nextPage;
+        nextPage = null;
+        return page;
+    }
+
+    private void fetchNextPage() {
+        List<Object> searchAfter = lastReference == null ? List.of() : List.of(lastReference);
+        String context = query.toQueryContext(pageSize, BY_REFERENCE, searchAfter, source).toString();
+        List<CaseDetails> cases = search.apply(context).getCases();
+
+        if (cases == null || cases.isEmpty()) {
+            exhausted = true;
+            return;
+        }
+
+        nextPage = cases;
+        lastReference = cases.get(cases.size() - 1).getId();
+        exhausted = cases.size() < pageSize;
+    }
+}
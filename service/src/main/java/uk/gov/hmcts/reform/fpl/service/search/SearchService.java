@@ -12,8 +12,12 @@ import uk.gov.hmcts.reform.fpl.utils.elasticsearch.ESQuery;
 import uk.gov.hmcts.reform.fpl.utils.elasticsearch.Sort;
 
 import java.time.LocalDate;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.util.Map.of;
 import static java.util.Objects.requireNonNull;
@@ -33,6 +37,28 @@ public class SearchService {
         return search(query.toQueryContext(1, 0).toString()).getTotal();
     }
 
+    /**
+     * Lazily pages through every case matching the query, ordered by case reference.
+     */
+    public Iterator<List<CaseDetails>> searchAll(ESQuery query, int pageSize) {
+        return searchAll(query, pageSize, List.of());
+    }
+
+    /**
+     * Lazily pages through every case matching the query, ordered by case reference, fetching only the given
+     * source paths of each case (e.g. "data.hearingDetails"). The case reference is always returned.
+     */
+    public Iterator<List<CaseDetails>> searchAll(ESQuery query, int pageSize, List<String> source) {
+        requireNonNull(query);
+        requireNonNull(source);
+        return new SearchAfterCursor(query, pageSize, source, this::search);
+    }
+
+    public Stream<CaseDetails> streamAll(ESQuery query, int pageSize) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(searchAll(query, pageSize), 0), false)
+            .flatMap(List::stream);
+    }
+
     public List<CaseDetails> search(ESQuery query, int size, int from) {
         requireNonNull(query);
         return search(query.toQueryContext(size, from).toString()).getCases();
@@ -49,6 +75,11 @@ public class SearchService {
         return search(query.toQueryContext(size, from, sort).toString());
     }
 
+    public SearchResult search(ESQuery query, int size, int from, Sort sort, List<String> source) {
+        requireNonNull(query);
+        return search(query.toQueryContext(size, from, sort, source).toString());
+    }
+
     public List<CaseDetails> search(String property, LocalDate day) {
         requireNonNull(property);
         requireNonNull(day);
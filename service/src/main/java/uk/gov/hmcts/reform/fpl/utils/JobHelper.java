@@ -1,10 +1,5 @@
 package uk.gov.hmcts.reform.fpl.utils;
 
-import java.math.BigDecimal;
-
-import static java.math.RoundingMode.UP;
-import static uk.gov.hmcts.reform.fpl.service.search.SearchService.ES_DEFAULT_SIZE;
-
 public class JobHelper {
 
     private JobHelper() {
@@ -24,8 +19,4 @@ public class JobHelper {
         );
     }
 
-    public static int paginate(int total) {
-        return new BigDecimal(total).divide(new BigDecimal(ES_DEFAULT_SIZE), UP).intValue();
-    }
-
 }
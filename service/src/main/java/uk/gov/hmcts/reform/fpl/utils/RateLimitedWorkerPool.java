@@ -0,0 +1,152 @@
+package uk.gov.hmcts.reform.fpl.utils;
+
+import com.google.common.util.concurrent.RateLimiter;
+import feign.FeignException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Runs tasks on a fixed number of workers, limiting how often they can start to a configured rate. Callers signal
+ * when a downstream service is struggling via {@link #backOff()} and every worker then waits an exponentially
+ * growing delay before starting its next task, shrinking again as calls succeed ({@link #recover()}).
+ */
+@Slf4j
+public class RateLimitedWorkerPool implements AutoCloseable {
+
+    private static final int QUEUED_TASKS_PER_WORKER = 2;
+
+    private final String name;
+    private final ExecutorService executor;
+    private final Semaphore capacity;
+    private final RateLimiter rateLimiter;
+    private final long minBackoffMillis;
+    private final long maxBackoffMillis;
+    private final AtomicLong backoffMillis = new AtomicLong();
+
+    public RateLimitedWorkerPool(String name, int workers, double permitsPerSecond,
+                                 Duration minBackoff, Duration maxBackoff) {
+        checkArgument(workers > 0, "Worker pool %s needs at least one worker", name);
+        checkArgument(!minBackoff.isNegative() && minBackoff.compareTo(maxBackoff) <= 0,
+            "Worker pool %s has an invalid backoff range", name);
+
+        this.name = name;
+        this.executor = Executors.newFixedThreadPool(workers, new CustomizableThreadFactory(name + "-"));
+        this.capacity = new Semaphore(workers * QUEUED_TASKS_PER_WORKER);
+        this.rateLimiter = permitsPerSecond > 0 ? RateLimiter.create(permitsPerSecond) : null;
+        this.minBackoffMillis = Math.max(1, minBackoff.toMillis());
+        this.maxBackoffMillis = Math.max(minBackoffMillis, maxBackoff.toMillis());
+    }
+
+    /**
+     * Queues the task, blocking the caller while every worker is busy and the queue is full. Once queued the task
+     * always runs, if the worker is interrupted while waiting its turn the task runs straight away with the
+     * interrupt left set, so it can give up early but still cleans up after itself.
+     */
+    public void submit(Runnable task) throws InterruptedException {
+        capacity.acquire();
+        execute(task);
+    }
+
+    /**
+     * Queues the task as {@link #submit(Runnable)} does, but waits at most the timeout for room in the queue.
+     *
+     * @return false if the task was not queued in time, in which case it never runs
+     */
+    public boolean submit(Runnable task, Duration timeout) throws InterruptedException {
+        if (!capacity.tryAcquire(Math.max(0, timeout.toNanos()), TimeUnit.NANOSECONDS)) {
+            return false;
+        }
+        execute(task);
+        return true;
+    }
+
+    private void execute(Runnable task) {
+        try {
+            executor.execute(() -> {
+                try {
+                    awaitTurn();
+                    task.run();
+                } finally {
+                    capacity.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            capacity.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Waits out the current backoff and then for the rate limiter. Tasks wait once before they start, and call this
+     * again before retrying a request themselves so retries are paced like any other request.
+     *
+     * @return false if interrupted while waiting
+     */
+    public boolean awaitTurn() {
+        long delay = backoffMillis.get();
+        try {
+            if (delay > 0) {
+                Thread.sleep(delay);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        if (rateLimiter != null) {
+            rateLimiter.acquire();
+        }
+        return true;
+    }
+
+    public void backOff() {
+        long delay = backoffMillis.updateAndGet(current ->
+            current == 0 ? minBackoffMillis : Math.min(current * 2, maxBackoffMillis));
+        log.warn("Worker pool {} backing off for {}ms before next request", name, delay);
+    }
+
+    public void recover() {
+        backoffMillis.updateAndGet(current -> current <= minBackoffMillis ? 0 : current / 2);
+    }
+
+    public long getBackoffMillis() {
+        return backoffMillis.get();
+    }
+
+    /**
+     * Waits for every submitted task to finish, interrupting any still running once the timeout has passed.
+     */
+    public void shutdown(Duration timeout) throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            log.error("Worker pool {} did not finish within {}, cancelling remaining tasks", name, timeout);
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    public static boolean isThrottled(Throwable throwable) {
+        Throwable current = throwable;
+        while (current != null) {
+            if (current instanceof FeignException feignException) {
+                int status = feignException.status();
+                return status == 429 || status >= 500;
+            }
+            current = current.getCause();
+        }
+        return false;
+    }
+}
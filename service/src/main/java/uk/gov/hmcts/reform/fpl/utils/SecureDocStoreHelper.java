@@ -1,15 +1,21 @@
 package uk.gov.hmcts.reform.fpl.utils;
 
+import feign.FeignException;
+import feign.RetryableException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.BaseUnits;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
 import uk.gov.hmcts.reform.ccd.document.am.model.Classification;
 import uk.gov.hmcts.reform.ccd.document.am.model.Document;
 import uk.gov.hmcts.reform.fpl.model.common.DocumentReference;
 import uk.gov.hmcts.reform.fpl.service.FeatureToggleService;
 import uk.gov.hmcts.reform.fpl.service.SecureDocStoreService;
 
+import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.Callable;
 import java.util.function.Supplier;
@@ -19,13 +25,30 @@ import static org.apache.commons.lang3.ObjectUtils.isEmpty;
 @Slf4j
 public class SecureDocStoreHelper {
 
+    public static final String DOWNLOAD_TIME_METRIC = "fpl.documents.download";
+    public static final String DOWNLOAD_BYTES_METRIC = "fpl.documents.download.size";
+    public static final String BACKEND_TAG = "backend";
+    public static final String SECURE_DOC_STORE = "secure-doc-store";
+    public static final String DM_STORE = "dm-store";
+
+    private static final int DOWNLOAD_ATTEMPTS = 5;
+    private static final Duration RETRY_DELAY = Duration.ofMillis(500);
+
     private FeatureToggleService featureToggleService;
     private SecureDocStoreService secureDocStoreService;
+    private MeterRegistry meterRegistry;
 
     public SecureDocStoreHelper(SecureDocStoreService secureDocStoreService,
                                 FeatureToggleService featureToggleService) {
+        this(secureDocStoreService, featureToggleService, Metrics.globalRegistry);
+    }
+
+    public SecureDocStoreHelper(SecureDocStoreService secureDocStoreService,
+                                FeatureToggleService featureToggleService,
+                                MeterRegistry meterRegistry) {
         this.featureToggleService = featureToggleService;
         this.secureDocStoreService = secureDocStoreService;
+        this.meterRegistry = meterRegistry;
     }
 
     public byte[] download(final String documentUrlString) {
@@ -33,35 +56,65 @@ public class SecureDocStoreHelper {
     }
 
     /**
-     * If secure doc store toggle is off, attempt to fire the API and log any exceptions caught.
+     * Downloads the document from exactly one store, the secure doc store when its toggle is on and the old dm store
+     * otherwise, recording the time taken and the size of the document against the store used. Server errors and
+     * requests that got no response are retried, anything else fails straight away.
      * @param documentUrlString  document url in string
      * @param oldDmStoreApproach if featureToggleService.isSecureDocstoreEnabled() = false, it is a mandatory parameter.
      *                           otherwise, UnsupportedOperationException will be thrown.
      * @return byte array of the file
      */
-    @Retryable(value = UnsupportedOperationException.class, maxAttempts = 5, backoff = @Backoff(delay = 500))
     @SneakyThrows
     public byte[] download(final String documentUrlString, Callable<byte[]> oldDmStoreApproach) {
-        try {
-            log.info("Downloading document: {}", documentUrlString);
-            byte[] bytesFromSecureDocStore = secureDocStoreService.downloadDocument(documentUrlString);
-            if (featureToggleService.isSecureDocstoreEnabled()) {
-                return bytesFromSecureDocStore;
-            }
-        } catch (Exception t) {
-            if (!featureToggleService.isSecureDocstoreEnabled()) {
-                log.error("↑ ↑ ↑ ↑ ↑ ↑ ↑ EXCEPTION CAUGHT (SECURE DOC STORE: DISABLED) ↑ ↑ ↑ ↑ ↑ ↑ ↑", t);
-            } else {
-                log.error("↑ ↑ ↑ ↑ ↑ ↑ ↑ EXCEPTION CAUGHT (SECURE DOC STORE: ENABLED) ↑ ↑ ↑ ↑ ↑ ↑ ↑", t);
-                if (oldDmStoreApproach == null) {
-                    throw t;
+        log.info("Downloading document: {}", documentUrlString);
+        if (featureToggleService.isSecureDocstoreEnabled()) {
+            return fetchWithRetry(SECURE_DOC_STORE, () -> secureDocStoreService.downloadDocument(documentUrlString));
+        }
+        if (isEmpty(oldDmStoreApproach)) {
+            throw new UnsupportedOperationException();
+        }
+        return fetchWithRetry(DM_STORE, oldDmStoreApproach);
+    }
+
+    // this helper is created by hand rather than as a bean, so retries are made here rather than with @Retryable
+    private byte[] fetchWithRetry(String backend, Callable<byte[]> download) throws Exception {
+        int attempt = 1;
+        while (true) {
+            try {
+                return fetch(backend, download);
+            } catch (Exception e) {
+                if (attempt >= DOWNLOAD_ATTEMPTS || !isTransient(e)) {
+                    throw e;
                 }
+                log.warn("Download from {} failed on attempt {}, retrying", backend, attempt, e);
+                Thread.sleep(RETRY_DELAY.toMillis());
+                attempt++;
             }
         }
-        if (!featureToggleService.isSecureDocstoreEnabled() && !isEmpty(oldDmStoreApproach)) {
-            return oldDmStoreApproach.call();
+    }
+
+    private byte[] fetch(String backend, Callable<byte[]> download) throws Exception {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        try {
+            byte[] bytes = download.call();
+            outcome = "success";
+            DistributionSummary.builder(DOWNLOAD_BYTES_METRIC)
+                .baseUnit(BaseUnits.BYTES)
+                .tag(BACKEND_TAG, backend)
+                .register(meterRegistry)
+                .record(bytes == null ? 0 : bytes.length);
+            return bytes;
+        } finally {
+            sample.stop(meterRegistry.timer(DOWNLOAD_TIME_METRIC, BACKEND_TAG, backend, "outcome", outcome));
         }
-        throw new UnsupportedOperationException();
+    }
+
+    private static boolean isTransient(Exception error) {
+        // a request the store rejected, for a missing document or without access, fails the same way every time
+        return error instanceof RetryableException
+            || error instanceof FeignException feignException
+            && (feignException.status() >= 500 || feignException.status() == 429);
     }
 
     private static Supplier<IllegalArgumentException> exceptionSupplier(String documentUrlString) {
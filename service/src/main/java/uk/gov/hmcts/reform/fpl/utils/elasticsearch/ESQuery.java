@@ -2,6 +2,7 @@ package uk.gov.hmcts.reform.fpl.utils.elasticsearch;
 
 import org.json.JSONObject;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -26,4 +27,32 @@ public interface ESQuery extends ESClause {
             "query", this.toMap(),
             "_source", source));
     }
+
+    default JSONObject toQueryContext(int size, int from, Sort sort, List<String> source) {
+        return new JSONObject(Map.of(
+            "size", size,
+            "from", from,
+            "query", this.toMap(),
+            "sort", sort.toMap(),
+            "_source", source));
+    }
+
+    default JSONObject toQueryContext(int size, Sort sort, List<Object> searchAfter) {
+        return toQueryContext(size, sort, searchAfter, List.of());
+    }
+
+    default JSONObject toQueryContext(int size, Sort sort, List<Object> searchAfter, List<String> source) {
+        Map<String, Object> context = new HashMap<>(Map.of(
+            "size", size,
+            "query", this.toMap(),
+            "sort", sort.toMap()));
+
+        if (!searchAfter.isEmpty()) {
+            context.put("search_after", searchAfter);
+        }
+        if (!source.isEmpty()) {
+            context.put("_source", source);
+        }
+        return new JSONObject(context);
+    }
 }
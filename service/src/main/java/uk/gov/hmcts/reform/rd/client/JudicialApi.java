@@ -35,4 +35,16 @@ public interface JudicialApi {
         @RequestBody JudicialUserRequest request
     );
 
+    /**
+     * Same as {@link #findUsers}, without the request scoped cache, so users can be looked up outside of a request.
+     */
+    @PostMapping("/refdata/judicial/users")
+    List<JudicialUserProfile> findUsersWithoutCache(
+        @RequestHeader(AUTHORIZATION) String authorisation,
+        @RequestHeader(SERVICE_AUTHORIZATION) String serviceAuthorization,
+        @RequestHeader("page_size") int pageSize,
+        @RequestHeader(value = ACCEPT, required = false) String accept,
+        @RequestBody JudicialUserRequest request
+    );
+
 }
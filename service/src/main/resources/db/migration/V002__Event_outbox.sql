@@ -0,0 +1,16 @@
+CREATE TABLE event_outbox
+(
+  ID BIGSERIAL PRIMARY KEY,
+  EVENT_TYPE VARCHAR(250) NOT NULL,
+  PAYLOAD TEXT NOT NULL,
+  USER_ID VARCHAR(100) NULL,
+  USER_ROLES TEXT NULL,
+  STATUS VARCHAR(20) NOT NULL,
+  ATTEMPTS INTEGER NOT NULL DEFAULT 0,
+  AVAILABLE_AT TIMESTAMP WITH TIME ZONE NOT NULL,
+  CLAIMED_BY VARCHAR(200) NULL,
+  LAST_ERROR TEXT NULL,
+  CREATED_AT TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX idx_event_outbox_available ON event_outbox (STATUS, AVAILABLE_AT);
@@ -0,0 +1,6 @@
+CREATE TABLE job_high_water_mark
+(
+  JOB_NAME VARCHAR(200) PRIMARY KEY,
+  MARK TIMESTAMP WITH TIME ZONE NOT NULL,
+  UPDATED_AT TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW()
+);
@@ -0,0 +1,83 @@
+package uk.gov.hmcts.reform.fpl.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationContext;
+import uk.gov.hmcts.reform.fpl.config.AsyncConfiguration.AsyncTaskDecorator;
+import uk.gov.hmcts.reform.fpl.request.RequestData;
+import uk.gov.hmcts.reform.fpl.request.RequestDataCache;
+import uk.gov.hmcts.reform.fpl.request.SimpleRequestData;
+import uk.gov.hmcts.reform.fpl.service.outbox.EventDelivery;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.reform.fpl.config.AsyncConfiguration.EXECUTOR_NAME;
+
+class AsyncConfigurationTest {
+
+    private static final RequestData REQUEST_DATA = new SimpleRequestData("token", "user", Set.of("role"));
+    private static final RequestData CALLER_REQUEST_DATA = new SimpleRequestData("token2", "user2", Set.of("role"));
+
+    private final ApplicationContext context = mock(ApplicationContext.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AsyncTaskDecorator underTest = new AsyncTaskDecorator(context, meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        RequestDataCache.remove();
+    }
+
+    @Test
+    void shouldRunTaskWithRequestDataOfSubmittingThread() {
+        when(context.getBean(RequestData.class)).thenReturn(REQUEST_DATA);
+        AtomicReference<String> userId = new AtomicReference<>();
+
+        Runnable task = underTest.decorate(() -> userId.set(RequestDataCache.get().orElseThrow().userId()));
+        task.run();
+
+        assertThat(userId).hasValue("user");
+        assertThat(RequestDataCache.get()).isEmpty();
+    }
+
+    @Test
+    void shouldKeepRequestDataOfThreadRunningRejectedTask() {
+        when(context.getBean(RequestData.class)).thenReturn(REQUEST_DATA);
+        RequestDataCache.add(new SimpleRequestData(CALLER_REQUEST_DATA));
+
+        underTest.decorate(() -> { }).run();
+
+        assertThat(RequestDataCache.get()).hasValueSatisfying(data -> assertThat(data.userId()).isEqualTo("user2"));
+    }
+
+    @Test
+    void shouldRecordTimeTasksWaitAndRun() {
+        when(context.getBean(RequestData.class)).thenReturn(REQUEST_DATA);
+
+        underTest.decorate(() -> { }).run();
+
+        assertThat(meterRegistry.get("executor.idle").tag("name", EXECUTOR_NAME).timer().count()).isOne();
+        assertThat(meterRegistry.get("executor").tag("name", EXECUTOR_NAME).timer().count()).isOne();
+    }
+
+    @Test
+    void shouldTrackTasksSubmittedWhileDeliveringEvent() throws Exception {
+        when(context.getBean(RequestData.class)).thenReturn(REQUEST_DATA);
+        EventDelivery delivery = new EventDelivery();
+        AtomicReference<Runnable> task = new AtomicReference<>();
+
+        delivery.run(() -> task.set(underTest.decorate(() -> { })));
+
+        assertThatThrownBy(() -> delivery.await(Duration.ZERO)).isInstanceOf(TimeoutException.class);
+        task.get().run();
+        delivery.await(Duration.ZERO);
+    }
+}
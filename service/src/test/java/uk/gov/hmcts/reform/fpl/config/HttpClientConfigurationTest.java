@@ -0,0 +1,78 @@
+package uk.gov.hmcts.reform.fpl.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.http.HttpHost;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.fpl.config.HttpClientPoolConfiguration.Pool;
+import uk.gov.hmcts.reform.fpl.config.HttpClientPoolConfiguration.Route;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.reform.fpl.config.HttpClientConfiguration.DOCMOSIS_POOL;
+
+class HttpClientConfigurationTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldLimitConnectionsPerPool() throws IOException {
+        Pool pool = pool(List.of());
+
+        try (PoolingHttpClientConnectionManager connectionManager =
+                 HttpClientConfiguration.buildConnectionManager(pool)) {
+            assertThat(connectionManager.getMaxTotal()).isEqualTo(60);
+            assertThat(connectionManager.getDefaultMaxPerRoute()).isEqualTo(30);
+        }
+    }
+
+    @Test
+    void shouldLimitConnectionsToConfiguredHosts() throws IOException {
+        Pool pool = pool(List.of(new Route("http://dm-store:4455", 40), new Route("https://docmosis", 50)));
+
+        try (PoolingHttpClientConnectionManager connectionManager =
+                 HttpClientConfiguration.buildConnectionManager(pool)) {
+            assertThat(connectionManager.getMaxPerRoute(new HttpRoute(new HttpHost("http", "dm-store", 4455))))
+                .isEqualTo(40);
+            assertThat(connectionManager.getMaxPerRoute(new HttpRoute(new HttpHost("https", "docmosis", 443),
+                (InetAddress) null, true))).isEqualTo(50);
+            assertThat(connectionManager.getMaxPerRoute(new HttpRoute(new HttpHost("http", "ccd", 4452))))
+                .isEqualTo(30);
+        }
+    }
+
+    @Test
+    void shouldIgnoreHostsWithoutUrl() throws IOException {
+        Pool pool = pool(List.of(new Route("", 40)));
+
+        try (PoolingHttpClientConnectionManager connectionManager =
+                 HttpClientConfiguration.buildConnectionManager(pool)) {
+            assertThat(connectionManager.getMaxPerRoute(new HttpRoute(new HttpHost("http", "localhost", 80))))
+                .isEqualTo(30);
+        }
+    }
+
+    @Test
+    void shouldPublishPoolMetricsForClient() throws IOException {
+        try (CloseableHttpClient ignored = HttpClientConfiguration.buildHttpClient(DOCMOSIS_POOL, pool(List.of()),
+            meterRegistry)) {
+            assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.max")
+                .tag("httpclient", DOCMOSIS_POOL).gauge().value()).isEqualTo(60);
+            assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.connections")
+                .tags("httpclient", DOCMOSIS_POOL, "state", "leased").gauge().value()).isZero();
+            assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.pending")
+                .tag("httpclient", DOCMOSIS_POOL).gauge().value()).isZero();
+        }
+    }
+
+    private static Pool pool(List<Route> routes) {
+        return new Pool(60, 30, Duration.ofSeconds(30), Duration.ofMinutes(1), routes);
+    }
+}
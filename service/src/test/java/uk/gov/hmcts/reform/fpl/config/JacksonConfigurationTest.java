@@ -0,0 +1,75 @@
+package uk.gov.hmcts.reform.fpl.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.fpl.model.CaseData;
+import uk.gov.hmcts.reform.fpl.service.CaseConverter;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.reform.fpl.utils.CoreCaseDataStoreLoader.callbackRequest;
+import static uk.gov.hmcts.reform.fpl.utils.CoreCaseDataStoreLoader.emptyCaseDetails;
+import static uk.gov.hmcts.reform.fpl.utils.CoreCaseDataStoreLoader.populatedCaseDetails;
+
+class JacksonConfigurationTest {
+
+    // the object mapper as the application configures it, see spring.jackson in application.yaml
+    private static final ApplicationContextRunner CONTEXT = new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class))
+        .withUserConfiguration(JacksonConfiguration.class)
+        .withPropertyValues("spring.jackson.generator.auto-close-json-content=false");
+
+    private static CaseConverter defaultConverter;
+    private static CaseConverter blackbirdConverter;
+
+    @BeforeAll
+    static void setUp() {
+        defaultConverter = new CaseConverter(objectMapper(false));
+        blackbirdConverter = new CaseConverter(objectMapper(true));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("recordedCases")
+    void shouldConvertCaseDetailsToSameCaseDataWithBlackbird(String name, CaseDetails caseDetails) {
+        CaseData expected = defaultConverter.convert(caseDetails);
+        CaseData actual = blackbirdConverter.convert(caseDetails);
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("recordedCases")
+    void shouldConvertCaseDataToSameMapWithBlackbird(String name, CaseDetails caseDetails) {
+        CaseData caseData = defaultConverter.convert(caseDetails);
+
+        assertThat(blackbirdConverter.toMap(caseData)).isEqualTo(defaultConverter.toMap(caseData));
+    }
+
+    private static Stream<Arguments> recordedCases() {
+        return Stream.of(
+            Arguments.of("empty case", emptyCaseDetails()),
+            Arguments.of("populated case", populatedCaseDetails()),
+            Arguments.of("callback request case", callbackRequest().getCaseDetails()),
+            Arguments.of("callback request case before", callbackRequest().getCaseDetailsBefore())
+        );
+    }
+
+    private static ObjectMapper objectMapper(boolean blackbird) {
+        AtomicReference<ObjectMapper> objectMapper = new AtomicReference<>();
+        CONTEXT.withPropertyValues("fpl.jackson.blackbird.enabled=" + blackbird).run(context -> {
+            assertThat(context.getBeansOfType(BlackbirdModule.class)).hasSize(blackbird ? 1 : 0);
+            objectMapper.set(context.getBean(ObjectMapper.class));
+        });
+        return objectMapper.get();
+    }
+}
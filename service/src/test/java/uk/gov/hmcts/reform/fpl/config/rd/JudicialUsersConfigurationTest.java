@@ -1,5 +1,7 @@
 package uk.gov.hmcts.reform.fpl.config.rd;
 
+import feign.FeignException;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,13 +15,17 @@ import uk.gov.hmcts.reform.fpl.service.SystemUserService;
 import uk.gov.hmcts.reform.rd.client.JudicialApi;
 import uk.gov.hmcts.reform.rd.model.JudicialUserProfile;
 
+import java.time.Duration;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +35,7 @@ class JudicialUsersConfigurationTest {
     private static final JudicialUserProfile JUDGE = JudicialUserProfile.builder()
         .emailId("email@test.com")
         .sidamId("12345")
+        .personalCode("P12345")
         .build();
 
     private static final List<JudicialUserProfile> JUPS = List.of(JUDGE);
@@ -45,16 +52,25 @@ class JudicialUsersConfigurationTest {
     @Mock
     private ElinksService elinksService;
 
+    private JudicialUsersConfiguration config;
+
     @BeforeEach
     void beforeEach() {
         when(systemUserService.getSysUserToken()).thenReturn("token");
-        when(jrdApi.findUsers(any(), any(), anyInt(), any(), any())).thenReturn(JUPS);
+        when(jrdApi.findUsersWithoutCache(any(), any(), anyInt(), any(), any())).thenReturn(JUPS);
+        config = new JudicialUsersConfiguration(jrdApi, systemUserService, authTokenGenerator, elinksService, true,
+            Duration.ofMillis(10), Duration.ofMillis(10));
+    }
+
+    @AfterEach
+    void afterEach() {
+        config.stop();
     }
 
     @Test
     void shouldGetJudgeUUIDIfInMapping() {
-        JudicialUsersConfiguration config = new JudicialUsersConfiguration(jrdApi, systemUserService,
-            authTokenGenerator, elinksService, true);
+        config.loadJudges();
+        await().until(config::isLoaded);
 
         Optional<String> uuid = config.getJudgeUUID("email@test.com");
         assertThat(uuid.isPresent()).isTrue();
@@ -62,12 +78,51 @@ class JudicialUsersConfigurationTest {
     }
 
     @Test
-    void shouldGetAllJudges() {
-        JudicialUsersConfiguration config = new JudicialUsersConfiguration(jrdApi, systemUserService,
-            authTokenGenerator, elinksService, true);
+    void shouldGetJudgeByPersonalCodeOnceLoaded() {
+        config.loadJudges();
+        await().until(config::isLoaded);
+
+        assertThat(config.getJudgeByPersonalCode("P12345")).isEqualTo(Optional.of(JUDGE));
+        assertThat(config.getJudgeByPersonalCode("P99999").isPresent()).isFalse();
+    }
+
+    @Test
+    void shouldNotBeLoadedBeforeJudgesAreLoaded() {
+        assertThat(config.isLoaded()).isFalse();
+        assertThat(config.getJudgeUUID("email@test.com").isPresent()).isFalse();
+    }
+
+    @Test
+    void shouldKeepJudgesWhenReloadFails() {
+        when(jrdApi.findUsersWithoutCache(any(), any(), anyInt(), any(), any()))
+            .thenReturn(JUPS)
+            .thenThrow(mock(FeignException.class));
+
+        config.loadJudges();
+
+        await().untilAsserted(() -> verify(jrdApi, atLeast(3)).findUsersWithoutCache(any(), any(), anyInt(), any(),
+            any()));
+        assertThat(config.getJudgeUUID("email@test.com").isPresent()).isTrue();
+    }
+
+    @Test
+    void shouldBeLoadedOnceJudgesCouldNotBeLoadedOnStartup() {
+        when(jrdApi.findUsersWithoutCache(any(), any(), anyInt(), any(), any())).thenThrow(mock(FeignException.class));
+
+        config.loadJudges();
+
+        await().until(config::isLoaded);
+        assertThat(config.getJudgeUUID("email@test.com").isPresent()).isFalse();
+    }
+
+    @Test
+    void shouldBeLoadedWhenJrdIsDisabled() {
+        JudicialUsersConfiguration disabledConfig = new JudicialUsersConfiguration(jrdApi, systemUserService,
+            authTokenGenerator, elinksService, false, Duration.ofHours(1), Duration.ofHours(1));
 
-        Map<String, String> judges = config.getAllJudges();
-        assertThat(judges).isEqualTo(Map.of("email@test.com", "12345"));
+        disabledConfig.loadJudges();
 
+        assertThat(disabledConfig.isLoaded()).isTrue();
+        assertThat(disabledConfig.getJudgeUUID("email@test.com").isPresent()).isFalse();
     }
 }
@@ -1,5 +1,6 @@
 package uk.gov.hmcts.reform.fpl.config.rd;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,11 +13,13 @@ import uk.gov.hmcts.reform.fpl.service.SystemUserService;
 import uk.gov.hmcts.reform.rd.client.StaffApi;
 import uk.gov.hmcts.reform.rd.model.StaffProfile;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.when;
@@ -41,16 +44,25 @@ class LegalAdviserUsersConfigurationTest {
     @Mock
     private AuthTokenGenerator authTokenGenerator;
 
+    private LegalAdviserUsersConfiguration config;
+
     @BeforeEach
     void beforeEach() {
         when(systemUserService.getSysUserToken()).thenReturn("token");
         when(staffApi.getAllStaffResponseDetails(any(), any(), anyInt(), any(), any())).thenReturn(STAFF);
+        config = new LegalAdviserUsersConfiguration(systemUserService, authTokenGenerator, staffApi, true,
+            Duration.ofHours(1), Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void afterEach() {
+        config.stop();
     }
 
     @Test
     void shouldGetJudgeUUIDIfInMapping() {
-        LegalAdviserUsersConfiguration config = new LegalAdviserUsersConfiguration(systemUserService,
-            authTokenGenerator, staffApi, true);
+        config.loadLegalAdvisers();
+        await().until(config::isLoaded);
 
         Optional<String> uuid = config.getLegalAdviserUUID("email@test.com");
         assertThat(uuid.isPresent()).isTrue();
@@ -59,9 +71,6 @@ class LegalAdviserUsersConfigurationTest {
 
     @Test
     void shouldGetAllJudges() {
-        LegalAdviserUsersConfiguration config = new LegalAdviserUsersConfiguration(systemUserService,
-            authTokenGenerator, staffApi, true);
-
         Map<String, String> judges = config.getAllLegalAdvisers();
         assertThat(judges).isEqualTo(Map.of("email@test.com", "12345"));
 
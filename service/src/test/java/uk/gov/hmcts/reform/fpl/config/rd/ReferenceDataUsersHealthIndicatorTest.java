@@ -0,0 +1,60 @@
+package uk.gov.hmcts.reform.fpl.config.rd;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.SimpleHttpCodeStatusMapper;
+import org.springframework.boot.actuate.health.SimpleStatusAggregator;
+import org.springframework.boot.actuate.health.Status;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.reform.fpl.config.rd.ReferenceDataUsersHealthIndicator.LOADING;
+
+class ReferenceDataUsersHealthIndicatorTest {
+
+    private final JudicialUsersConfiguration judicialUsersConfiguration = mock(JudicialUsersConfiguration.class);
+    private final LegalAdviserUsersConfiguration legalAdviserUsersConfiguration =
+        mock(LegalAdviserUsersConfiguration.class);
+
+    private final ReferenceDataUsersHealthIndicator underTest = new ReferenceDataUsersHealthIndicator(
+        judicialUsersConfiguration, legalAdviserUsersConfiguration);
+
+    @Test
+    void shouldBeLoadingUntilJudgesAndLegalAdvisersAreLoaded() {
+        when(judicialUsersConfiguration.isLoaded()).thenReturn(true);
+        when(legalAdviserUsersConfiguration.isLoaded()).thenReturn(false);
+
+        Health health = underTest.health();
+
+        assertThat(health.getStatus()).isEqualTo(LOADING);
+        assertThat(health.getDetails()).isEqualTo(Map.of("judges", true, "legalAdvisers", false));
+    }
+
+    @Test
+    void shouldBeUpOnceJudgesAndLegalAdvisersAreLoaded() {
+        when(judicialUsersConfiguration.isLoaded()).thenReturn(true);
+        when(legalAdviserUsersConfiguration.isLoaded()).thenReturn(true);
+
+        assertThat(underTest.health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    // mirrors the status order and mappings in application.yaml
+    @Test
+    void shouldOnlyKeepReadinessUnavailableWhileLoading() {
+        Set<Status> statuses = Set.of(Status.UP, LOADING);
+
+        Status overall = new SimpleStatusAggregator("down", "out-of-service", "up", "loading", "unknown")
+            .getAggregateStatus(statuses);
+        Status readiness = new SimpleStatusAggregator("down", "out-of-service", "loading", "up", "unknown")
+            .getAggregateStatus(statuses);
+
+        assertThat(overall).isEqualTo(Status.UP);
+        assertThat(new SimpleHttpCodeStatusMapper().getStatusCode(overall)).isEqualTo(200);
+        assertThat(readiness).isEqualTo(LOADING);
+        assertThat(new SimpleHttpCodeStatusMapper(Map.of("loading", 503)).getStatusCode(readiness)).isEqualTo(503);
+    }
+}
@@ -0,0 +1,37 @@
+package uk.gov.hmcts.reform.fpl.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import uk.gov.hmcts.reform.fpl.model.CaseData;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.reform.fpl.utils.CoreCaseDataStoreLoader.populatedCaseData;
+
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = {JacksonAutoConfiguration.class})
+class CaseNumberAddedTest {
+
+    // the mapper the event outbox stores and reads events with
+    @Autowired
+    private ObjectMapper mapper;
+
+    @Test
+    void shouldRoundTripThroughEventOutboxMapper() throws Exception {
+        CaseData caseData = populatedCaseData().toBuilder()
+            .id(12345L)
+            .familyManCaseNumber("FM1234")
+            .build();
+
+        String payload = mapper.writeValueAsString(new CaseNumberAdded(caseData));
+        CaseNumberAdded stored = mapper.readValue(payload, CaseNumberAdded.class);
+
+        assertThat(stored.getCaseData().getId()).isEqualTo(12345L);
+        assertThat(stored.getCaseData().getFamilyManCaseNumber()).isEqualTo("FM1234");
+        assertThat(mapper.readTree(mapper.writeValueAsString(stored))).isEqualTo(mapper.readTree(payload));
+    }
+}
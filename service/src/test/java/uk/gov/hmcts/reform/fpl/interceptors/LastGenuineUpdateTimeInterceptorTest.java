@@ -31,7 +31,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -108,6 +110,8 @@ public class LastGenuineUpdateTimeInterceptorTest {
                     .caseDetailsBefore(CASE_DETAILS_BEFORE)
                     .caseDetails(CASE_DETAILS_AFTER)
                     .build());
+            when(cafcassApiSearchCaseService.hasSourceChanged(CASE_DETAILS_BEFORE, CASE_DETAILS_AFTER))
+                .thenReturn(true);
             when(cafcassApiSearchCaseService.convertToCafcassApiCase(CASE_DETAILS_BEFORE))
                 .thenReturn(CAFCASS_API_CASE_BEFORE);
             when(cafcassApiSearchCaseService.convertToCafcassApiCase(CASE_DETAILS_AFTER))
@@ -135,6 +139,8 @@ public class LastGenuineUpdateTimeInterceptorTest {
                     .caseDetailsBefore(CASE_DETAILS_BEFORE)
                     .caseDetails(CASE_DETAILS_BEFORE)
                     .build());
+            when(cafcassApiSearchCaseService.hasSourceChanged(CASE_DETAILS_BEFORE, CASE_DETAILS_AFTER))
+                .thenReturn(true);
             when(cafcassApiSearchCaseService.convertToCafcassApiCase(CASE_DETAILS_BEFORE))
                 .thenReturn(CAFCASS_API_CASE_BEFORE);
             when(cafcassApiSearchCaseService.convertToCafcassApiCase(CASE_DETAILS_AFTER))
@@ -162,6 +168,8 @@ public class LastGenuineUpdateTimeInterceptorTest {
                     .caseDetailsBefore(CASE_DETAILS_BEFORE)
                     .caseDetails(CASE_DETAILS_AFTER)
                     .build());
+            when(cafcassApiSearchCaseService.hasSourceChanged(CASE_DETAILS_BEFORE, CASE_DETAILS_AFTER))
+                .thenReturn(true);
             when(cafcassApiSearchCaseService.convertToCafcassApiCase(CASE_DETAILS_BEFORE))
                 .thenReturn(CAFCASS_API_CASE_BEFORE);
             when(cafcassApiSearchCaseService.convertToCafcassApiCase(CASE_DETAILS_AFTER))
@@ -179,6 +187,31 @@ public class LastGenuineUpdateTimeInterceptorTest {
             assertEquals(CASE_MAP_AFTER, interceptedResponse.getData());
         }
 
+        @Test
+        void shouldNotConvertCaseIfNoSourceFieldChanged() {
+            when(featureToggleService.isCafcassApiToggledOn()).thenReturn(true);
+            when(requestScopeStorage.getCallbackRequest())
+                .thenReturn(CallbackRequest.builder()
+                    .eventId(EVENT_ID)
+                    .caseDetailsBefore(CASE_DETAILS_BEFORE)
+                    .caseDetails(CASE_DETAILS_AFTER)
+                    .build());
+            when(cafcassApiSearchCaseService.hasSourceChanged(CASE_DETAILS_BEFORE, CASE_DETAILS_AFTER))
+                .thenReturn(false);
+
+            AboutToStartOrSubmitCallbackResponse controllerResponse = AboutToStartOrSubmitCallbackResponse.builder()
+                .data(new HashMap<>(CASE_MAP_AFTER))
+                .build();
+
+            AboutToStartOrSubmitCallbackResponse interceptedResponse = underTest.beforeBodyWrite(controllerResponse,
+                HANDLE_ABOUT_TO_SUBMIT_RETURN_TYPE, MediaType.APPLICATION_JSON, null,
+                REQUEST_WHITELISTED, RESPONSE);
+
+            assertNotNull(interceptedResponse);
+            assertEquals(CASE_MAP_AFTER, interceptedResponse.getData());
+            verify(cafcassApiSearchCaseService, never()).convertToCafcassApiCase(any());
+        }
+
         @Test
         void shouldNotUpdateTimestampIfEventExcluded() {
             when(featureToggleService.isCafcassApiToggledOn()).thenReturn(true);
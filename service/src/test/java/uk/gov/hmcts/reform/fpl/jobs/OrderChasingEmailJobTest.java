@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.quartz.JobDetail;
 import org.quartz.JobExecutionContext;
@@ -19,6 +20,7 @@ import uk.gov.hmcts.reform.fpl.events.cmo.SendOrderReminderEvent;
 import uk.gov.hmcts.reform.fpl.model.CaseData;
 import uk.gov.hmcts.reform.fpl.model.HearingBooking;
 import uk.gov.hmcts.reform.fpl.service.CaseConverter;
+import uk.gov.hmcts.reform.fpl.service.ccd.CoreCaseDataService;
 import uk.gov.hmcts.reform.fpl.service.cmo.SendOrderReminderService;
 import uk.gov.hmcts.reform.fpl.service.email.NotificationService;
 import uk.gov.hmcts.reform.fpl.service.search.SearchService;
@@ -29,6 +31,7 @@ import java.util.List;
 import java.util.Map;
 
 import static org.apache.commons.lang3.RandomUtils.nextLong;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
@@ -47,10 +50,13 @@ class OrderChasingEmailJobTest {
 
     private static final Long CASE_ID = 12345L;
     private static final int SEARCH_SIZE = 50;
+    private static final List<String> SEARCH_SOURCES = List.of("data.hearingDetails", "data.sealedCMOs");
 
     @Mock
     private SearchService searchService;
     @Mock
+    private CoreCaseDataService coreCaseDataService;
+    @Mock
     private SendOrderReminderService sendOrderReminderService;
     @Mock
     private NotificationService notificationService;
@@ -71,6 +77,7 @@ class OrderChasingEmailJobTest {
         CaseConverter converter = new CaseConverter(mapper);
         underTest = new OrderChasingEmailJob(converter,
             searchService,
+            coreCaseDataService,
             applicationEventPublisher,
             sendOrderReminderService);
 
@@ -86,7 +93,8 @@ class OrderChasingEmailJobTest {
     void shouldNotCallCCDWhenNothingToUpdate() {
         List<CaseDetails> caseDetails = List.of(CaseDetails.builder().data(Map.of()).build());
 
-        when(searchService.search(any(), eq(SEARCH_SIZE), eq(0))).thenReturn(caseDetails);
+        when(searchService.searchAll(any(), eq(SEARCH_SIZE), eq(SEARCH_SOURCES)))
+            .thenReturn(List.of(caseDetails).iterator());
 
         underTest.execute(executionContext);
 
@@ -108,13 +116,51 @@ class OrderChasingEmailJobTest {
             .data(mapper.convertValue(caseData, new TypeReference<>() {}))
             .build());
 
-        when(searchService.search(any(), eq(SEARCH_SIZE), eq(0))).thenReturn(caseDetails);
+        when(searchService.searchAll(any(), eq(SEARCH_SIZE), eq(SEARCH_SOURCES)))
+            .thenReturn(List.of(caseDetails).iterator());
 
         underTest.execute(executionContext);
 
         verify(applicationEventPublisher).publishEvent(new SendOrderReminderEvent(any()));
     }
 
+    @Test
+    void shouldFetchFullCaseOnlyForCasesBeingChased() {
+        CaseData caseToChase = CaseData.builder()
+            .hearingDetails(List.of(
+                element(HearingBooking.builder()
+                    .endDate(LocalDateTime.now().minusDays(5).minusHours(1))
+                    .build())
+            ))
+            .build();
+
+        CaseDetails projectedCase = CaseDetails.builder()
+            .id(CASE_ID)
+            .data(mapper.convertValue(caseToChase, new TypeReference<>() {}))
+            .build();
+        CaseDetails caseWithoutHearings = CaseDetails.builder()
+            .id(54321L)
+            .data(Map.of())
+            .build();
+        CaseDetails fullCase = CaseDetails.builder()
+            .id(CASE_ID)
+            .data(mapper.convertValue(caseToChase.toBuilder().familyManCaseNumber("FM123").build(),
+                new TypeReference<>() {}))
+            .build();
+
+        when(searchService.searchAll(any(), eq(SEARCH_SIZE), eq(SEARCH_SOURCES)))
+            .thenReturn(List.of(List.of(projectedCase, caseWithoutHearings)).iterator());
+        when(coreCaseDataService.findCaseDetailsByIdNonUser(CASE_ID.toString())).thenReturn(fullCase);
+
+        underTest.execute(executionContext);
+
+        verify(coreCaseDataService).findCaseDetailsByIdNonUser(CASE_ID.toString());
+        verifyNoMoreInteractions(coreCaseDataService);
+        ArgumentCaptor<SendOrderReminderEvent> event = ArgumentCaptor.forClass(SendOrderReminderEvent.class);
+        verify(applicationEventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getCaseData().getFamilyManCaseNumber()).isEqualTo("FM123");
+    }
+
     @Test
     void shouldGracefullyHandleErrorsFromCCDWhenUpdatingCaseDetails() {
         when(searchService.searchResultsSize(any())).thenReturn(2);
@@ -140,7 +186,8 @@ class OrderChasingEmailJobTest {
 
         List<CaseDetails> allCaseDetails = List.of(caseDetails, caseDetails2);
 
-        when(searchService.search(any(), eq(SEARCH_SIZE), eq(0))).thenReturn(allCaseDetails);
+        when(searchService.searchAll(any(), eq(SEARCH_SIZE), eq(SEARCH_SOURCES)))
+            .thenReturn(List.of(allCaseDetails).iterator());
 
         doThrow(feignException(500))
             .when(applicationEventPublisher).publishEvent(new SendOrderReminderEvent(any()));
@@ -175,8 +222,8 @@ class OrderChasingEmailJobTest {
         List<CaseDetails> firstSearchList = caseDetails.subList(0, 50);
         List<CaseDetails> secondSearchList = caseDetails.subList(50, 75);
 
-        when(searchService.search(any(), eq(SEARCH_SIZE), eq(0))).thenReturn(firstSearchList);
-        when(searchService.search(any(), eq(SEARCH_SIZE), eq(50))).thenReturn(secondSearchList);
+        when(searchService.searchAll(any(), eq(SEARCH_SIZE), eq(SEARCH_SOURCES)))
+            .thenReturn(List.of(firstSearchList, secondSearchList).iterator());
 
         underTest.execute(executionContext);
 
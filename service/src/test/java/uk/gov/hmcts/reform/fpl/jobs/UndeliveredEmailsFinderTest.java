@@ -3,6 +3,7 @@ package uk.gov.hmcts.reform.fpl.jobs;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -10,6 +11,7 @@ import org.quartz.JobDetail;
 import org.quartz.JobExecutionContext;
 import org.quartz.JobKey;
 import org.springframework.context.ApplicationEventPublisher;
+import uk.gov.hmcts.reform.fpl.config.scheduler.JobHighWaterMarks;
 import uk.gov.hmcts.reform.fpl.events.UndeliveredEmailsFound;
 import uk.gov.hmcts.reform.fpl.exceptions.JobException;
 import uk.gov.hmcts.reform.fpl.model.UndeliveredEmail;
@@ -23,10 +25,13 @@ import uk.gov.service.notify.NotificationList;
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -58,6 +63,9 @@ class UndeliveredEmailsFinderTest {
     @Mock
     private ApplicationEventPublisher applicationEventPublisher;
 
+    @Mock
+    private JobHighWaterMarks highWaterMarks;
+
     @TestLogs
     private TestLogger logs = new TestLogger(UndeliveredEmailsFinder.class);
 
@@ -165,4 +173,82 @@ class UndeliveredEmailsFinderTest {
 
         assertThat(logs.get()).doesNotContain("Job 'testName' finished");
     }
+
+    @Test
+    void shouldReadFailedEmailsPageByPage() throws Exception {
+        NotificationList secondPage = mock(NotificationList.class);
+        UUID lastIdOnFirstPage = UUID.randomUUID();
+
+        when(notificationList.getNotifications()).thenReturn(List.of(notification1));
+        when(notificationList.getNextPageLink()).thenReturn(Optional.of("next page"));
+        when(notification1.getCompletedAt()).thenReturn(Optional.of(ZonedDateTime.now().minusHours(2)));
+        when(notification1.getCreatedAt()).thenReturn(ZonedDateTime.now().minusHours(3));
+        when(notification1.getId()).thenReturn(lastIdOnFirstPage);
+        when(notification1.getEmailAddress()).thenReturn(Optional.of("test@test.com"));
+        when(notification1.getSubject()).thenReturn(Optional.of("Subject"));
+        when(notification1.getReference()).thenReturn(Optional.of("Reference"));
+
+        when(notificationClient.getNotifications("failed", "email", null, lastIdOnFirstPage.toString()))
+            .thenReturn(secondPage);
+        when(secondPage.getNotifications()).thenReturn(List.of(notification2));
+        when(notification2.getCompletedAt()).thenReturn(Optional.of(ZonedDateTime.now().minusHours(4)));
+        when(notification2.getEmailAddress()).thenReturn(Optional.of("test2@test.com"));
+        when(notification2.getSubject()).thenReturn(Optional.of("Subject 2"));
+        when(notification2.getReference()).thenReturn(Optional.of("Reference 2"));
+
+        underTest.execute(jobExecutionContext);
+
+        verify(applicationEventPublisher).publishEvent(new UndeliveredEmailsFound(List.of(
+            UndeliveredEmail.builder().recipient("test@test.com").subject("Subject").reference("Reference").build(),
+            UndeliveredEmail.builder().recipient("test2@test.com").subject("Subject 2").reference("Reference 2")
+                .build())));
+    }
+
+    @Test
+    void shouldStopReadingOnceEmailsWereCreatedTooLongAgoToHaveFailedSinceLastRun() {
+        when(notificationList.getNotifications()).thenReturn(List.of(notification1));
+        when(notificationList.getNextPageLink()).thenReturn(Optional.of("next page"));
+        when(notification1.getCompletedAt()).thenReturn(Optional.of(ZonedDateTime.now().minusDays(2)));
+        when(notification1.getCreatedAt()).thenReturn(ZonedDateTime.now().minusDays(5));
+
+        underTest.execute(jobExecutionContext);
+
+        verify(applicationEventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void shouldOnlyReportEmailsThatFailedSinceLastRun() {
+        ZonedDateTime lastRunFailure = ZonedDateTime.now().minusHours(5);
+        ZonedDateTime newFailure = ZonedDateTime.now().minusHours(1);
+        when(highWaterMarks.get("testName")).thenReturn(Optional.of(lastRunFailure));
+        when(notificationList.getNotifications()).thenReturn(List.of(notification1, notification2));
+
+        when(notification1.getCompletedAt()).thenReturn(Optional.of(newFailure));
+        when(notification1.getEmailAddress()).thenReturn(Optional.of("test@test.com"));
+        when(notification1.getSubject()).thenReturn(Optional.of("Subject"));
+        when(notification1.getReference()).thenReturn(Optional.of("Reference"));
+        when(notification2.getCompletedAt()).thenReturn(Optional.of(lastRunFailure));
+
+        underTest.execute(jobExecutionContext);
+
+        verify(applicationEventPublisher).publishEvent(new UndeliveredEmailsFound(List.of(
+            UndeliveredEmail.builder().recipient("test@test.com").subject("Subject").reference("Reference").build())));
+        verify(highWaterMarks).set("testName", newFailure);
+    }
+
+    @Test
+    void shouldNotMoveHighWaterMarkPastStartOfRun() {
+        ZonedDateTime startOfRun = ZonedDateTime.now();
+        when(notificationList.getNotifications()).thenReturn(List.of(notification1));
+        when(notification1.getCompletedAt()).thenReturn(Optional.of(startOfRun.plusMinutes(10)));
+        when(notification1.getEmailAddress()).thenReturn(Optional.of("test@test.com"));
+        when(notification1.getSubject()).thenReturn(Optional.of("Subject"));
+        when(notification1.getReference()).thenReturn(Optional.of("Reference"));
+
+        underTest.execute(jobExecutionContext);
+
+        ArgumentCaptor<ZonedDateTime> mark = ArgumentCaptor.forClass(ZonedDateTime.class);
+        verify(highWaterMarks).set(eq("testName"), mark.capture());
+        assertThat(mark.getValue()).isAfterOrEqualTo(startOfRun).isBefore(startOfRun.plusMinutes(10));
+    }
 }
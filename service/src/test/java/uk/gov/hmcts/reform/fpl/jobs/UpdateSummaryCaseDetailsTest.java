@@ -14,6 +14,7 @@ import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.fpl.config.scheduler.SummaryTabJobConfiguration;
 import uk.gov.hmcts.reform.fpl.model.CaseData;
 import uk.gov.hmcts.reform.fpl.model.event.CaseProgressionReportEventData;
 import uk.gov.hmcts.reform.fpl.model.event.ReviewDraftOrdersData;
@@ -31,10 +32,12 @@ import uk.gov.hmcts.reform.fpl.utils.elasticsearch.Must;
 import uk.gov.hmcts.reform.fpl.utils.elasticsearch.MustNot;
 import uk.gov.hmcts.reform.fpl.utils.elasticsearch.RangeQuery;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import static org.apache.commons.lang3.RandomUtils.nextLong;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -59,6 +62,7 @@ class UpdateSummaryCaseDetailsTest {
     private static final String EVENT_NAME = "internal-update-case-summary";
     private static final Long CASE_ID = 12345L;
     private static final int SEARCH_SIZE = 50;
+    private static final List<String> SEARCH_SOURCES = List.of("reference");
     private static final String RANGE_FIELD = "data.caseSummaryNextHearingDate";
 
     private static final ESQuery FIRST_RUN_ES_QUERY = BooleanQuery.builder()
@@ -123,7 +127,8 @@ class UpdateSummaryCaseDetailsTest {
             searchService,
             ccdService,
             toggleService,
-            summaryService);
+            summaryService,
+            new SummaryTabJobConfiguration(2, 0, Duration.ofMillis(1), Duration.ofMillis(10), Duration.ofMinutes(1)));
 
         caseSummaryData = mapper.convertValue(SUMMARY, new TypeReference<>() {
         });
@@ -181,7 +186,8 @@ class UpdateSummaryCaseDetailsTest {
 
         List<CaseDetails> caseDetails = List.of(CaseDetails.builder().data(Map.of()).build());
 
-        when(searchService.search(FIRST_RUN_ES_QUERY, SEARCH_SIZE, 0)).thenReturn(caseDetails);
+        when(searchService.searchAll(FIRST_RUN_ES_QUERY, SEARCH_SIZE, SEARCH_SOURCES))
+            .thenReturn(List.of(caseDetails).iterator());
         when(summaryService.generateSummaryFields(CaseData.builder()
             .caseProgressionReportEventData(CaseProgressionReportEventData
                 .builder()
@@ -190,7 +196,7 @@ class UpdateSummaryCaseDetailsTest {
 
         underTest.execute(executionContext);
 
-        verify(searchService).search(FIRST_RUN_ES_QUERY, SEARCH_SIZE, 0);
+        verify(searchService).searchAll(FIRST_RUN_ES_QUERY, SEARCH_SIZE, SEARCH_SOURCES);
     }
 
     @Test
@@ -199,7 +205,8 @@ class UpdateSummaryCaseDetailsTest {
 
         List<CaseDetails> caseDetails = List.of(CaseDetails.builder().data(Map.of()).build());
 
-        when(searchService.search(ES_QUERY, SEARCH_SIZE, 0)).thenReturn(caseDetails);
+        when(searchService.searchAll(ES_QUERY, SEARCH_SIZE, SEARCH_SOURCES))
+            .thenReturn(List.of(caseDetails).iterator());
         when(summaryService.generateSummaryFields(CaseData.builder()
             .caseProgressionReportEventData(CaseProgressionReportEventData
                 .builder()
@@ -208,7 +215,7 @@ class UpdateSummaryCaseDetailsTest {
 
         underTest.execute(executionContext);
 
-        verify(searchService).search(ES_QUERY, SEARCH_SIZE, 0);
+        verify(searchService).searchAll(ES_QUERY, SEARCH_SIZE, SEARCH_SOURCES);
     }
 
     @Test
@@ -234,11 +241,12 @@ class UpdateSummaryCaseDetailsTest {
 
         caseData = caseData.toBuilder().id(CASE_ID).build();
 
-        when(searchService.search(ES_QUERY, SEARCH_SIZE, 0)).thenReturn(caseDetails);
+        when(searchService.searchAll(ES_QUERY, SEARCH_SIZE, SEARCH_SOURCES))
+            .thenReturn(List.of(caseDetails).iterator());
 
         underTest.execute(executionContext);
 
-        verify(ccdService).performPostSubmitCallback(eq(CASE_ID), eq(EVENT_NAME), any());
+        verify(ccdService).performPostSubmitCallbackWithoutRetry(eq(CASE_ID), eq(EVENT_NAME), any());
     }
 
     @Test
@@ -266,16 +274,53 @@ class UpdateSummaryCaseDetailsTest {
 
         List<CaseDetails> allCaseDetails = List.of(caseDetails, caseDetails2);
 
-        when(searchService.search(ES_QUERY, SEARCH_SIZE, 0)).thenReturn(allCaseDetails);
+        when(searchService.searchAll(ES_QUERY, SEARCH_SIZE, SEARCH_SOURCES))
+            .thenReturn(List.of(allCaseDetails).iterator());
         when(summaryService.generateSummaryFields(any())).thenReturn(caseSummaryData);
         doThrow(feignException(500))
-            .when(ccdService).performPostSubmitCallback(eq(CASE_ID), eq(EVENT_NAME), any());
+            .when(ccdService).performPostSubmitCallbackWithoutRetry(eq(CASE_ID), eq(EVENT_NAME), any());
 
         underTest.execute(executionContext);
 
 
-        verify(ccdService).performPostSubmitCallback(eq(CASE_ID), eq(EVENT_NAME), any());
-        verify(ccdService).performPostSubmitCallback(eq(54321L), eq(EVENT_NAME), any());
+        verify(ccdService, times(5)).performPostSubmitCallbackWithoutRetry(eq(CASE_ID), eq(EVENT_NAME), any());
+        verify(ccdService).performPostSubmitCallbackWithoutRetry(eq(54321L), eq(EVENT_NAME), any());
+    }
+
+    @Test
+    void shouldRetryThrottledUpdatesThroughWorkerPool() {
+        when(toggleService.isSummaryTabFirstCronRunEnabled()).thenReturn(false);
+
+        CaseDetails caseDetails = CaseDetails.builder().id(CASE_ID).build();
+
+        when(searchService.searchAll(ES_QUERY, SEARCH_SIZE, SEARCH_SOURCES))
+            .thenReturn(List.of(List.of(caseDetails)).iterator());
+        when(ccdService.performPostSubmitCallbackWithoutRetry(eq(CASE_ID), eq(EVENT_NAME), any()))
+            .thenThrow(feignException(429))
+            .thenReturn(caseDetails);
+
+        underTest.execute(executionContext);
+
+        verify(ccdService, times(2)).performPostSubmitCallbackWithoutRetry(eq(CASE_ID), eq(EVENT_NAME), any());
+        verifyNoMoreInteractions(ccdService);
+    }
+
+    @Test
+    void shouldNotRetryCasesWhoseSummaryCannotBeGenerated() {
+        when(toggleService.isSummaryTabFirstCronRunEnabled()).thenReturn(false);
+
+        CaseDetails caseDetails = CaseDetails.builder().id(CASE_ID).data(Map.of()).build();
+
+        when(searchService.searchAll(ES_QUERY, SEARCH_SIZE, SEARCH_SOURCES))
+            .thenReturn(List.of(List.of(caseDetails)).iterator());
+        when(summaryService.generateSummaryFields(any())).thenThrow(new RuntimeException("boom"));
+        when(ccdService.performPostSubmitCallbackWithoutRetry(eq(CASE_ID), eq(EVENT_NAME), any()))
+            .thenAnswer(invocation -> invocation.<Function<CaseDetails, Map<String, Object>>>getArgument(2)
+                .apply(caseDetails));
+
+        underTest.execute(executionContext);
+
+        verify(ccdService).performPostSubmitCallbackWithoutRetry(eq(CASE_ID), eq(EVENT_NAME), any());
     }
 
     @Test
@@ -305,14 +350,15 @@ class UpdateSummaryCaseDetailsTest {
 
         List<CaseDetails> allCaseDetails = List.of(caseDetails, caseDetails2);
 
-        when(searchService.search(ES_QUERY, SEARCH_SIZE, 0)).thenReturn(allCaseDetails);
+        when(searchService.searchAll(ES_QUERY, SEARCH_SIZE, SEARCH_SOURCES))
+            .thenReturn(List.of(allCaseDetails).iterator());
         when(summaryService.generateSummaryFields(any()))
             .thenThrow(new RuntimeException("boom"))
             .thenReturn(caseSummaryData);
 
         underTest.execute(executionContext);
 
-        verify(ccdService, times(2)).performPostSubmitCallback(any(), eq(EVENT_NAME), any());
+        verify(ccdService, times(2)).performPostSubmitCallbackWithoutRetry(any(), eq(EVENT_NAME), any());
         verifyNoMoreInteractions(ccdService);
     }
 
@@ -341,12 +387,13 @@ class UpdateSummaryCaseDetailsTest {
 
         List<CaseDetails> allCaseDetails = List.of(caseDetails, caseDetails2);
 
-        when(searchService.search(ES_QUERY, SEARCH_SIZE, 0)).thenReturn(allCaseDetails);
+        when(searchService.searchAll(ES_QUERY, SEARCH_SIZE, SEARCH_SOURCES))
+            .thenReturn(List.of(allCaseDetails).iterator());
         when(summaryService.generateSummaryFields(any())).thenReturn(caseSummaryData);
 
         underTest.execute(executionContext);
 
-        verify(ccdService, times(2)).performPostSubmitCallback(any(), eq(EVENT_NAME), any());
+        verify(ccdService, times(2)).performPostSubmitCallbackWithoutRetry(any(), eq(EVENT_NAME), any());
         verifyNoMoreInteractions(summaryService, ccdService);
     }
 
@@ -375,13 +422,13 @@ class UpdateSummaryCaseDetailsTest {
         List<CaseDetails> firstSearchList = caseDetails.subList(0, 50);
         List<CaseDetails> secondSearchList = caseDetails.subList(50, 75);
 
-        when(searchService.search(ES_QUERY, SEARCH_SIZE, 0)).thenReturn(firstSearchList);
-        when(searchService.search(ES_QUERY, SEARCH_SIZE, 50)).thenReturn(secondSearchList);
+        when(searchService.searchAll(ES_QUERY, SEARCH_SIZE, SEARCH_SOURCES))
+            .thenReturn(List.of(firstSearchList, secondSearchList).iterator());
 
         underTest.execute(executionContext);
 
         verify(ccdService, times(75))
-            .performPostSubmitCallback(anyLong(), eq(EVENT_NAME), any());
+            .performPostSubmitCallbackWithoutRetry(anyLong(), eq(EVENT_NAME), any());
     }
 
     @Test
@@ -33,6 +33,7 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Random;
@@ -43,10 +44,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.AssertionsForClassTypes.tuple;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.reform.fpl.enums.CaseProgressionReportType.AT_RISK;
@@ -54,6 +53,7 @@ import static uk.gov.hmcts.reform.fpl.enums.CaseProgressionReportType.MISSING_TI
 import static uk.gov.hmcts.reform.fpl.enums.HearingType.CASE_MANAGEMENT;
 import static uk.gov.hmcts.reform.fpl.enums.HearingType.FINAL;
 import static uk.gov.hmcts.reform.fpl.enums.HearingType.ISSUE_RESOLUTION;
+import static uk.gov.hmcts.reform.fpl.service.CaseProgressionReportService.ES_SEARCH_SOURCES;
 import static uk.gov.hmcts.reform.fpl.service.search.SearchService.ES_DEFAULT_SIZE;
 import static uk.gov.hmcts.reform.fpl.utils.DateFormatterHelper.formatLocalDateToString;
 
@@ -108,7 +108,7 @@ class CaseProgressionReportServiceTest {
 
         when(courtService.getCourt(courtId)).thenReturn(court);
 
-        when(searchService.search(any(), eq(100), eq(0), isA(Sort.class)))
+        when(searchService.search(any(), eq(100), eq(0), isA(Sort.class), eq(ES_SEARCH_SOURCES)))
                 .thenReturn(searchResult);
 
         when(converter.convert(isA(CaseDetails.class))).thenReturn(
@@ -171,7 +171,7 @@ class CaseProgressionReportServiceTest {
         when(courtService.getCourt("344"))
                 .thenReturn(Optional.of(Court.builder().name("Family court Swansea").build()));
 
-        when(searchService.search(any(), eq(100), eq(0), isA(Sort.class)))
+        when(searchService.search(any(), eq(100), eq(0), isA(Sort.class), eq(ES_SEARCH_SOURCES)))
                 .thenReturn(searchResult);
 
 
@@ -204,7 +204,7 @@ class CaseProgressionReportServiceTest {
         when(courtService.getCourt("344"))
                 .thenReturn(Optional.of(Court.builder().name("Family court Swansea").build()));
 
-        when(searchService.search(any(), eq(100), eq(0), isA(Sort.class)))
+        when(searchService.search(any(), eq(100), eq(0), isA(Sort.class), eq(ES_SEARCH_SOURCES)))
                 .thenReturn(searchResult);
 
         assertThatThrownBy(() -> service.getHtmlReport(caseDataSelected))
@@ -257,7 +257,7 @@ class CaseProgressionReportServiceTest {
         when(courtService.getCourt("344"))
                 .thenReturn(Optional.of(Court.builder().name("Family court Swansea").build()));
 
-        when(searchService.search(any(), eq(100), eq(0), isA(Sort.class)))
+        when(searchService.search(any(), eq(100), eq(0), isA(Sort.class), eq(ES_SEARCH_SOURCES)))
                 .thenReturn(searchResult);
 
         when(converter.convert(isA(CaseDetails.class))).thenReturn(
@@ -324,17 +324,8 @@ class CaseProgressionReportServiceTest {
                 List.of(createHearingBooking(CASE_MANAGEMENT, firstCaseManagementHearing)));
         List<CaseDetails> caseDetails = List.of(createCaseDetails());
 
-        SearchResult searchResult = SearchResult.builder()
-                .total(150)
-                .cases(caseDetails)
-                .build();
-
-        when(searchService.search(any(), eq(ES_DEFAULT_SIZE), eq(0), isA(Sort.class)))
-            .thenReturn(searchResult);
-        when(searchService.search(any(), eq(ES_DEFAULT_SIZE), eq(ES_DEFAULT_SIZE), isA(Sort.class)))
-            .thenReturn(searchResult);
-        when(searchService.search(any(), eq(ES_DEFAULT_SIZE), eq(ES_DEFAULT_SIZE * 2), isA(Sort.class)))
-            .thenReturn(searchResult);
+        when(searchService.searchAll(any(), eq(ES_DEFAULT_SIZE), eq(ES_SEARCH_SOURCES)))
+            .thenReturn(List.of(caseDetails, caseDetails, caseDetails).iterator());
         when(converter.convert(isA(CaseDetails.class)))
             .thenReturn(
                 getCaseData(hearingDetails, submittedDate, "PO22ZA12345", 1663342447124290L),
@@ -355,15 +346,14 @@ class CaseProgressionReportServiceTest {
             ).containsExactly(
                 tuple("Case Number", "CCD Number","Receipt date", "Last PLO hearing", "Next hearing",
                         "Age of case (weeks)","PLO stage", "Expected FH date"),
+                tuple("AO88ZA56789", "1663342966000000", "04-07-2022", "22-08-2022",
+                        "-", getWeeks(submittedDate.plusMonths(2)), "Case management", "02-01-2023"),
                 tuple("PO22ZA12345", "1663342447124290", "04-05-2022", "22-09-2022",
                         "03-11-2022", getWeeks(submittedDate), "Final", "02-11-2022"),
                 tuple("ZO88ZA56789", "1663342966373807", "04-04-2022", "18-06-2022",
-                        "22-09-2022", getWeeks(submittedDate.minusMonths(1)), "Issue resolution", "03-10-2022"),
-                tuple("AO88ZA56789", "1663342966000000", "04-07-2022", "22-08-2022",
-                        "-", getWeeks(submittedDate.plusMonths(2)), "Case management", "02-01-2023")
+                        "22-09-2022", getWeeks(submittedDate.minusMonths(1)), "Issue resolution", "03-10-2022")
             );
-        verify(searchService, times(3))
-                .search(isA(ESQuery.class), anyInt(), anyInt(), isA(Sort.class));
+        verify(searchService).searchAll(isA(ESQuery.class), eq(ES_DEFAULT_SIZE), eq(ES_SEARCH_SOURCES));
     }
 
     @Test
@@ -389,13 +379,8 @@ class CaseProgressionReportServiceTest {
 
         List<CaseDetails> caseDetails = List.of(createCaseDetails());
 
-        SearchResult searchResult = SearchResult.builder()
-                .total(1)
-                .cases(caseDetails)
-                .build();
-
-        when(searchService.search(any(), eq(ES_DEFAULT_SIZE), eq(0), isA(Sort.class)))
-            .thenReturn(searchResult);
+        when(searchService.searchAll(any(), eq(ES_DEFAULT_SIZE), eq(ES_SEARCH_SOURCES)))
+            .thenReturn(List.of(caseDetails).iterator());
 
         when(converter.convert(isA(CaseDetails.class)))
             .thenReturn(
@@ -418,8 +403,7 @@ class CaseProgressionReportServiceTest {
                 tuple("PO22ZA12345", "1663342447124290", "04-05-2022", "-",
                         "18-06-2050", getWeeks(submittedDate), "Case management", "02-11-2022")
             );
-        verify(searchService)
-                .search(isA(ESQuery.class), anyInt(), anyInt(), isA(Sort.class));
+        verify(searchService).searchAll(isA(ESQuery.class), eq(ES_DEFAULT_SIZE), eq(ES_SEARCH_SOURCES));
     }
 
     @Test
@@ -435,16 +419,8 @@ class CaseProgressionReportServiceTest {
 
         List<CaseDetails> caseDetails = List.of(createCaseDetails());
 
-        SearchResult searchResult = SearchResult.builder()
-                .total(1)
-                .cases(caseDetails)
-                .build();
-
-        when(courtService.getCourt("344"))
-                .thenReturn(Optional.of(Court.builder().name("Family court Swansea").build()));
-
-        when(searchService.search(any(), eq(100), eq(0), isA(Sort.class)))
-                .thenReturn(searchResult);
+        when(searchService.searchAll(any(), eq(ES_DEFAULT_SIZE), eq(ES_SEARCH_SOURCES)))
+                .thenReturn(List.of(caseDetails).iterator());
 
         assertThatThrownBy(() -> service.getFileReport(caseDataSelected))
                 .isInstanceOf(CaseProgressionReportException.class);
@@ -476,14 +452,8 @@ class CaseProgressionReportServiceTest {
                 .caseProgressionReportEventData(caseProgressionReportEventData)
                 .build();
 
-        List<CaseDetails> caseDetails = List.of(createCaseDetails());
-
-        SearchResult searchResult = SearchResult.builder()
-                .total(0)
-                .cases(caseDetails)
-                .build();
-        when(searchService.search(any(), eq(50), eq(0), isA(Sort.class)))
-                .thenReturn(searchResult);
+        when(searchService.searchAll(any(), eq(ES_DEFAULT_SIZE), eq(ES_SEARCH_SOURCES)))
+                .thenReturn(Collections.emptyIterator());
 
         Optional<File> fileReport = service.getFileReport(caseDataSelected);
         assertThat(fileReport).isEmpty();
@@ -503,11 +473,6 @@ class CaseProgressionReportServiceTest {
 
         List<CaseDetails> caseDetails = List.of(createCaseDetails());
 
-        SearchResult searchResult = SearchResult.builder()
-                .total(1)
-                .cases(caseDetails)
-                .build();
-
         LocalDate submittedDate = LocalDate.parse("04-05-2022", DateTimeFormatter.ofPattern("dd-MM-yyyy"));
 
         LocalDateTime finalHearing = LocalDateTime.of(
@@ -519,8 +484,8 @@ class CaseProgressionReportServiceTest {
                         createHearingBooking(FINAL, finalHearing)
                 ));
 
-        when(searchService.search(any(), eq(50), eq(0), isA(Sort.class)))
-                .thenReturn(searchResult);
+        when(searchService.searchAll(any(), eq(ES_DEFAULT_SIZE), eq(ES_SEARCH_SOURCES)))
+                .thenReturn(List.of(caseDetails).iterator());
 
         when(converter.convert(isA(CaseDetails.class))).thenReturn(
                 getCaseData(hearingDetails, submittedDate, "PO22ZA12345", 1663342447124290L)
@@ -1,5 +1,6 @@
 package uk.gov.hmcts.reform.fpl.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -89,7 +90,8 @@ class DocumentDownloadServiceTest {
             requestData,
             secureDocStoreService,
             featureToggleService,
-            systemUserService);
+            systemUserService,
+            new SimpleMeterRegistry());
     }
 
     @Test
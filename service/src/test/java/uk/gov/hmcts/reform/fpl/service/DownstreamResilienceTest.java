@@ -0,0 +1,122 @@
+package uk.gov.hmcts.reform.fpl.service;
+
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.fpl.config.ResilienceConfiguration;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DownstreamResilienceTest {
+
+    private static final String DEPENDENCY = "docmosis";
+
+    private final ResilienceConfiguration configuration = new ResilienceConfiguration();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldReturnResultOfCall() {
+        DownstreamResilience underTest = new DownstreamResilience(configuration, meterRegistry);
+
+        assertThat(underTest.call(DEPENDENCY, () -> "result")).isEqualTo("result");
+    }
+
+    @Test
+    void shouldStopCallingDependencyThatKeepsFailing() {
+        configuration.setMinimumNumberOfCalls(2);
+        configuration.setSlidingWindowSize(2);
+        DownstreamResilience underTest = new DownstreamResilience(configuration, meterRegistry);
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> underTest.call(DEPENDENCY, () -> {
+                throw new IOException("Connection refused");
+            })).isInstanceOf(IOException.class);
+        }
+
+        assertThatThrownBy(() -> underTest.call(DEPENDENCY, () -> "result"))
+            .isInstanceOf(CallNotPermittedException.class);
+        assertThat(underTest.call("ccd", () -> "result")).isEqualTo("result");
+        assertThat(meterRegistry.get("resilience4j.circuitbreaker.state")
+            .tags("name", DEPENDENCY, "state", "open").gauge().value()).isOne();
+    }
+
+    @Test
+    void shouldCountErrorResponsesAsFailures() {
+        configuration.setMinimumNumberOfCalls(2);
+        configuration.setSlidingWindowSize(2);
+        DownstreamResilience underTest = new DownstreamResilience(configuration, meterRegistry);
+
+        underTest.call(DEPENDENCY, () -> 503, status -> status >= 500);
+        underTest.call(DEPENDENCY, () -> 500, status -> status >= 500);
+
+        assertThatThrownBy(() -> underTest.call(DEPENDENCY, () -> 200))
+            .isInstanceOf(CallNotPermittedException.class);
+    }
+
+    @Test
+    void shouldNotCountRejectedRequestsAsFailures() {
+        configuration.setMinimumNumberOfCalls(2);
+        configuration.setSlidingWindowSize(2);
+        DownstreamResilience underTest = new DownstreamResilience(configuration, meterRegistry);
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> underTest.call(DEPENDENCY, () -> {
+                throw new IllegalArgumentException("Invalid email address");
+            }, result -> false, error -> !(error instanceof IllegalArgumentException)))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        assertThat(underTest.call(DEPENDENCY, () -> "result")).isEqualTo("result");
+    }
+
+    @Test
+    void shouldLimitConcurrentCallsPerDependency() {
+        configuration.setDependencyMaxConcurrentCalls(Map.of(DEPENDENCY, 1));
+        configuration.setMaxWaitForCall(Duration.ofMillis(50));
+        DownstreamResilience underTest = new DownstreamResilience(configuration, meterRegistry);
+
+        assertThatThrownBy(() -> underTest.call(DEPENDENCY, () -> underTest.call(DEPENDENCY, () -> "result")))
+            .isInstanceOf(BulkheadFullException.class);
+        assertThat(underTest.call(DEPENDENCY, () -> underTest.call("ccd", () -> "result"))).isEqualTo("result");
+    }
+
+    @Test
+    void shouldWaitForCallInFlightToFinishWhenDependencyBusy() throws InterruptedException {
+        configuration.setDependencyMaxConcurrentCalls(Map.of(DEPENDENCY, 1));
+        configuration.setMaxWaitForCall(Duration.ofSeconds(5));
+        DownstreamResilience underTest = new DownstreamResilience(configuration, meterRegistry);
+        CountDownLatch started = new CountDownLatch(1);
+
+        Thread inFlight = new Thread(() -> underTest.call(DEPENDENCY, () -> {
+            started.countDown();
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "first";
+        }));
+        inFlight.start();
+        started.await();
+
+        assertThat(underTest.call(DEPENDENCY, () -> "second")).isEqualTo("second");
+        inFlight.join();
+    }
+
+    @Test
+    void shouldCallDependencyDirectlyWhenDisabled() {
+        configuration.setEnabled(false);
+        configuration.setDependencyMaxConcurrentCalls(Map.of(DEPENDENCY, 1));
+        DownstreamResilience underTest = new DownstreamResilience(configuration, meterRegistry);
+
+        assertThat(underTest.call(DEPENDENCY, () -> underTest.call(DEPENDENCY, () -> "result"))).isEqualTo("result");
+    }
+}
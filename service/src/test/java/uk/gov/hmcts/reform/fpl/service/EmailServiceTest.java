@@ -6,15 +6,20 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.reform.fpl.exceptions.EmailFailedSendException;
 import uk.gov.hmcts.reform.fpl.model.email.EmailData;
 import uk.gov.hmcts.reform.fpl.service.email.EmailService;
 
+import java.util.List;
+import java.util.Map;
+
 import static java.lang.String.join;
 import static java.util.Set.of;
 import static org.apache.commons.lang3.RandomStringUtils.randomAlphabetic;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
@@ -90,6 +95,46 @@ class EmailServiceTest {
         assertThrows(IllegalArgumentException.class, () -> emailService.sendEmail(EMAIL_FROM, emailData));
     }
 
+    @Test
+    void shouldSendEmailsOverOneConnection() {
+        MimeMessage otherMimeMessage = mock(MimeMessage.class);
+        given(javaMailSender.createMimeMessage()).willReturn(mimeMessage, otherMimeMessage);
+
+        Map<Integer, Exception> failures = emailService.sendEmails(EMAIL_FROM,
+            List.of(TestEmailData.getDefault(), TestEmailData.withoutAttachment()));
+
+        assertThat(failures).isEmpty();
+        verify(javaMailSender).send(new MimeMessage[] {mimeMessage, otherMimeMessage});
+    }
+
+    @Test
+    void shouldReturnEmailsThatCouldNotBeSent() {
+        EmailData invalidEmail = TestEmailData.getWithNullSubject();
+        EmailData rejectedEmail = TestEmailData.getDefault();
+        Exception rejection = new IllegalStateException("Mailbox unavailable");
+        willThrow(new MailSendException(Map.of(mimeMessage, rejection)))
+            .given(javaMailSender).send(any(MimeMessage[].class));
+
+        Map<Integer, Exception> failures = emailService.sendEmails(EMAIL_FROM, List.of(invalidEmail, rejectedEmail));
+
+        assertThat(failures).containsOnlyKeys(0, 1);
+        assertThat(failures.get(1)).isEqualTo(rejection);
+    }
+
+    @Test
+    void shouldTellIdenticalEmailsApartByPosition() {
+        MimeMessage otherMimeMessage = mock(MimeMessage.class);
+        given(javaMailSender.createMimeMessage()).willReturn(mimeMessage, otherMimeMessage);
+        Exception rejection = new IllegalStateException("Mailbox unavailable");
+        willThrow(new MailSendException(Map.of(otherMimeMessage, rejection)))
+            .given(javaMailSender).send(any(MimeMessage[].class));
+
+        Map<Integer, Exception> failures = emailService.sendEmails(EMAIL_FROM,
+            List.of(TestEmailData.getDefault(), TestEmailData.getDefault()));
+
+        assertThat(failures).containsOnlyKeys(1);
+    }
+
     static class TestEmailData {
         static EmailData getDefault() {
             return EmailData.builder()
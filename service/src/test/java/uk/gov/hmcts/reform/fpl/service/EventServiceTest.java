@@ -1,13 +1,19 @@
 package uk.gov.hmcts.reform.fpl.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import uk.gov.hmcts.reform.fpl.service.outbox.EventOutbox;
 
+import java.util.Optional;
+
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class EventServiceTest {
@@ -15,12 +21,49 @@ class EventServiceTest {
     @Mock
     private ApplicationEventPublisher applicationEventPublisher;
 
-    @InjectMocks
-    private EventService eventService;
+    @Mock
+    private EventOutbox eventOutbox;
 
     @Test
     void shouldPublishEvent() {
+        EventService eventService = new EventService(applicationEventPublisher, Optional.empty());
+
+        Object event = "Test event";
+        eventService.publishEvent(event);
+
+        verify(applicationEventPublisher).publishEvent(event);
+    }
+
+    @Test
+    void shouldPublishEventNotStoredInOutbox() {
+        EventService eventService = new EventService(applicationEventPublisher, Optional.of(eventOutbox));
+
+        Object event = "Test event";
+        when(eventOutbox.isDurable(event)).thenReturn(false);
+        eventService.publishEvent(event);
+
+        verify(applicationEventPublisher).publishEvent(event);
+    }
+
+    @Test
+    void shouldStoreDurableEventInOutbox() throws JsonProcessingException {
+        EventService eventService = new EventService(applicationEventPublisher, Optional.of(eventOutbox));
+
+        Object event = "Test event";
+        when(eventOutbox.isDurable(event)).thenReturn(true);
+        eventService.publishEvent(event);
+
+        verify(eventOutbox).add(event);
+        verifyNoInteractions(applicationEventPublisher);
+    }
+
+    @Test
+    void shouldPublishDurableEventWhenOutboxUnavailable() throws JsonProcessingException {
+        EventService eventService = new EventService(applicationEventPublisher, Optional.of(eventOutbox));
+
         Object event = "Test event";
+        when(eventOutbox.isDurable(event)).thenReturn(true);
+        doThrow(new IllegalStateException("Connection refused")).when(eventOutbox).add(event);
         eventService.publishEvent(event);
 
         verify(applicationEventPublisher).publishEvent(event);
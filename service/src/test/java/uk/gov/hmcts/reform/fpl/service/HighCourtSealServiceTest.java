@@ -0,0 +1,125 @@
+package uk.gov.hmcts.reform.fpl.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.fpl.model.common.DocmosisDocument;
+import uk.gov.hmcts.reform.fpl.model.document.SealType;
+import uk.gov.hmcts.reform.fpl.service.docmosis.DocmosisDocumentGeneratorService;
+import uk.gov.hmcts.reform.fpl.service.docmosis.DocumentConversionService;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.reform.fpl.enums.DocmosisTemplates.HIGH_COURT_SEAL;
+import static uk.gov.hmcts.reform.fpl.utils.DateFormatterHelper.DATE;
+import static uk.gov.hmcts.reform.fpl.utils.DateFormatterHelper.formatLocalDateToString;
+import static uk.gov.hmcts.reform.fpl.utils.ResourceReader.readBytes;
+import static uk.gov.hmcts.reform.fpl.utils.TestDataHelper.DOCUMENT_CONTENT;
+import static uk.gov.hmcts.reform.fpl.utils.TestDataHelper.testDocmosisDocument;
+
+@ExtendWith(MockitoExtension.class)
+class HighCourtSealServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 4, 23, 59);
+    private static final DocmosisDocument DOCMOSIS_DOCUMENT = testDocmosisDocument(DOCUMENT_CONTENT);
+
+    @Mock
+    private DocmosisDocumentGeneratorService docmosisDocumentGeneratorService;
+
+    @Mock
+    private DocumentConversionService documentConversionService;
+
+    private final AtomicReference<LocalDateTime> now = new AtomicReference<>(NOW);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private HighCourtSealService underTest;
+
+    @BeforeEach
+    void setUp() {
+        underTest = new HighCourtSealService(docmosisDocumentGeneratorService, documentConversionService, now::get,
+            meterRegistry);
+    }
+
+    @Test
+    void shouldRenderSealOncePerDay() {
+        givenSealRendered(readBytes("documents/document.pdf"));
+
+        byte[] seal = underTest.getSeal();
+
+        assertThat(underTest.getSeal()).isEqualTo(seal);
+        verify(docmosisDocumentGeneratorService).generateDocmosisDocument(dateOfIssue(NOW), HIGH_COURT_SEAL);
+        verify(documentConversionService).convertToPdf(DOCUMENT_CONTENT, DOCMOSIS_DOCUMENT.getDocumentTitle());
+        assertThat(cacheGets("hit")).isEqualTo(1);
+        assertThat(cacheGets("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRenderNewSealAfterMidnight() {
+        givenSealRendered(readBytes("documents/document.pdf"));
+
+        underTest.getSeal();
+        now.set(NOW.plusMinutes(1));
+        underTest.getSeal();
+
+        verify(docmosisDocumentGeneratorService).generateDocmosisDocument(dateOfIssue(NOW), HIGH_COURT_SEAL);
+        verify(docmosisDocumentGeneratorService)
+            .generateDocmosisDocument(dateOfIssue(NOW.plusMinutes(1)), HIGH_COURT_SEAL);
+    }
+
+    @Test
+    void shouldFallBackToStaticSealWithoutCachingItWhenSealCannotBeRendered() {
+        givenSealRendered(DOCUMENT_CONTENT);
+
+        assertThat(underTest.getSeal()).isEqualTo(readBytes(SealType.HIGHCOURT_ENGLISH.getImage()));
+        assertThat(underTest.getSeal()).isEqualTo(readBytes(SealType.HIGHCOURT_ENGLISH.getImage()));
+
+        verify(docmosisDocumentGeneratorService, times(2)).generateDocmosisDocument(dateOfIssue(NOW), HIGH_COURT_SEAL);
+    }
+
+    @Test
+    void shouldRenderSealOnStartup() {
+        givenSealRendered(readBytes("documents/document.pdf"));
+
+        underTest.prewarm();
+        underTest.getSeal();
+
+        verify(docmosisDocumentGeneratorService).generateDocmosisDocument(dateOfIssue(NOW), HIGH_COURT_SEAL);
+    }
+
+    @Test
+    void shouldStartWhenSealCannotBeRendered() {
+        when(docmosisDocumentGeneratorService.generateDocmosisDocument(anyMap(), eq(HIGH_COURT_SEAL)))
+            .thenThrow(new IllegalStateException("Docmosis unavailable"));
+
+        underTest.prewarm();
+
+        assertThat(cacheGets("hit")).isZero();
+    }
+
+    private void givenSealRendered(byte[] pdf) {
+        when(docmosisDocumentGeneratorService.generateDocmosisDocument(anyMap(), eq(HIGH_COURT_SEAL)))
+            .thenReturn(DOCMOSIS_DOCUMENT);
+        when(documentConversionService.convertToPdf(DOCUMENT_CONTENT, DOCMOSIS_DOCUMENT.getDocumentTitle()))
+            .thenReturn(pdf);
+    }
+
+    private static Map<String, Object> dateOfIssue(LocalDateTime dateTime) {
+        return Map.of("dateOfIssue", formatLocalDateToString(dateTime.toLocalDate(), DATE));
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets").tag("result", result).functionCounter().count();
+    }
+}
@@ -0,0 +1,84 @@
+package uk.gov.hmcts.reform.fpl.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.rd.model.JudicialUserProfile;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static uk.gov.hmcts.reform.fpl.service.JudicialProfileCache.CACHE_METRIC;
+import static uk.gov.hmcts.reform.fpl.service.JudicialProfileCache.JRD_METRIC;
+
+class JudicialProfileCacheTest {
+
+    private static final String PERSONAL_CODE = "12345";
+    private static final JudicialUserProfile JUDGE = JudicialUserProfile.builder()
+        .personalCode(PERSONAL_CODE)
+        .build();
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger jrdCalls = new AtomicInteger();
+
+    @Test
+    void shouldCallJrdOnceForSameJudge() {
+        JudicialProfileCache underTest = cache(true);
+
+        underTest.get(PERSONAL_CODE, jrd(List.of(JUDGE)));
+
+        assertThat(underTest.get(PERSONAL_CODE, jrd(List.of(JUDGE)))).contains(JUDGE);
+        assertThat(jrdCalls).hasValue(1);
+        assertThat(meterRegistry.get(CACHE_METRIC).tag("result", "miss").counter().count()).isOne();
+        assertThat(meterRegistry.get(CACHE_METRIC).tag("result", "hit").counter().count()).isOne();
+        assertThat(meterRegistry.get(JRD_METRIC).tag("outcome", "found").timer().count()).isOne();
+    }
+
+    @Test
+    void shouldRememberJudgesJrdDoesNotKnow() {
+        JudicialProfileCache underTest = cache(true);
+
+        underTest.get(PERSONAL_CODE, jrd(List.of()));
+
+        assertThat(underTest.get(PERSONAL_CODE, jrd(List.of(JUDGE)))).isEmpty();
+        assertThat(jrdCalls).hasValue(1);
+        assertThat(meterRegistry.get(JRD_METRIC).tag("outcome", "not_found").timer().count()).isOne();
+    }
+
+    @Test
+    void shouldCallJrdAgainWhenCallFailed() {
+        JudicialProfileCache underTest = cache(true);
+
+        assertThatThrownBy(() -> underTest.get(PERSONAL_CODE, () -> {
+            throw new IllegalStateException("JRD unavailable");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(underTest.get(PERSONAL_CODE, jrd(List.of(JUDGE)))).contains(JUDGE);
+        assertThat(meterRegistry.get(JRD_METRIC).tag("outcome", "failed").timer().count()).isOne();
+    }
+
+    @Test
+    void shouldCallJrdEveryTimeWhenDisabled() {
+        JudicialProfileCache underTest = cache(false);
+
+        underTest.get(PERSONAL_CODE, jrd(List.of(JUDGE)));
+        underTest.get(PERSONAL_CODE, jrd(List.of(JUDGE)));
+
+        assertThat(jrdCalls).hasValue(2);
+    }
+
+    private JudicialProfileCache cache(boolean enabled) {
+        return new JudicialProfileCache(enabled, Duration.ofHours(1), Duration.ofMinutes(5), 100, meterRegistry);
+    }
+
+    private Supplier<List<JudicialUserProfile>> jrd(List<JudicialUserProfile> judges) {
+        return () -> {
+            jrdCalls.incrementAndGet();
+            return judges;
+        };
+    }
+}
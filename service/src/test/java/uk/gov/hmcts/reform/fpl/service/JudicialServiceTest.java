@@ -1,5 +1,7 @@
 package uk.gov.hmcts.reform.fpl.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -9,6 +11,7 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import uk.gov.hmcts.reform.am.model.RoleAssignment;
@@ -29,6 +32,7 @@ import uk.gov.hmcts.reform.rd.client.JudicialApi;
 import uk.gov.hmcts.reform.rd.model.JudicialUserProfile;
 import uk.gov.hmcts.reform.rd.model.JudicialUserRequest;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
 import java.util.List;
@@ -51,6 +55,7 @@ import static org.mockito.Mockito.when;
 import static org.mockito.quality.Strictness.LENIENT;
 import static uk.gov.hmcts.reform.fpl.config.TimeConfiguration.LONDON_TIMEZONE;
 import static uk.gov.hmcts.reform.fpl.enums.JudgeType.LEGAL_ADVISOR;
+import static uk.gov.hmcts.reform.fpl.service.JudicialProfileCache.CACHE_METRIC;
 import static uk.gov.hmcts.reform.fpl.utils.ElementUtils.wrapElements;
 
 @ExtendWith(MockitoExtension.class)
@@ -84,6 +89,12 @@ class JudicialServiceTest {
     @Mock
     private ElinksService elinksService;
 
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private JudicialProfileCache judicialProfileCache = new JudicialProfileCache(true, Duration.ofHours(1),
+        Duration.ofMinutes(5), 100, meterRegistry);
+
     @Captor
     private ArgumentCaptor<List<RoleAssignment>> rolesCaptor;
 
@@ -369,6 +380,29 @@ class JudicialServiceTest {
         assertThat(exists).isFalse();
     }
 
+    @Test
+    void shouldNotCallJrdAgainForJudgeAlreadyChecked() {
+        when(judicialApi.findUsers(any(), any(), anyInt(), any(), any()))
+            .thenReturn(List.of(JudicialUserProfile.builder().build()));
+
+        assertThat(underTest.checkJudgeExists("1234")).isTrue();
+        assertThat(underTest.checkJudgeExists("1234")).isTrue();
+
+        verify(judicialApi, times(1)).findUsers(any(), any(), anyInt(), any(), any());
+    }
+
+    @Test
+    void shouldCheckJudgeExistsWhenLoadedFromJrd() {
+        when(judicialUsersConfiguration.getJudgeByPersonalCode("1234"))
+            .thenReturn(Optional.of(JudicialUserProfile.builder().build()));
+
+        boolean exists = underTest.checkJudgeExists("1234");
+
+        assertThat(exists).isTrue();
+        verifyNoInteractions(judicialApi);
+        assertThat(meterRegistry.get(CACHE_METRIC).tag("result", "preloaded").counter().count()).isOne();
+    }
+
     @Test
     void shouldGetAllocatedJudgeDetailsOffCase() {
         CaseData caseData = CaseData.builder()
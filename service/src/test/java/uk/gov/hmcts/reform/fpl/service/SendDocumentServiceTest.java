@@ -8,6 +8,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gov.hmcts.reform.fpl.enums.AddressNotKnowReason;
 import uk.gov.hmcts.reform.fpl.enums.IsAddressKnowType;
+import uk.gov.hmcts.reform.fpl.exceptions.LetterSendException;
 import uk.gov.hmcts.reform.fpl.model.Address;
 import uk.gov.hmcts.reform.fpl.model.CaseData;
 import uk.gov.hmcts.reform.fpl.model.Recipient;
@@ -30,8 +31,10 @@ import java.util.UUID;
 
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -251,6 +254,25 @@ class SendDocumentServiceTest {
 
             assertThat(logs.getErrors()).isEmpty();
         }
+
+        @Test
+        void shouldRecordLettersAlreadySentBeforeReportingFailure() {
+            final DocumentReference document1 = testDocumentReference();
+            final DocumentReference document2 = testDocumentReference();
+            final Recipient recipient1 = recipient("Test 1", testAddress());
+            final SentDocument sentDocument = sentDocument();
+            final LetterSendException failure = new LetterSendException("Letters could not all be sent",
+                new IllegalStateException("Docmosis unavailable"), List.of(sentDocument));
+
+            when(sendLetters.send(eq(document1), any(), any(), any(), eq(ENGLISH))).thenThrow(failure);
+
+            assertThatThrownBy(() -> underTest.sendDocuments(caseData, List.of(document1, document2),
+                List.of(recipient1)))
+                .isSameAs(failure);
+
+            verify(sendLetters, never()).send(eq(document2), any(), any(), any(), any());
+            verify(caseService).performPostSubmitCallback(eq(caseData.getId()), eq(UPDATE_CASE_EVENT), any());
+        }
     }
 
     @Nested
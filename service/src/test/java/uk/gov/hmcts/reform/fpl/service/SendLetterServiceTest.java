@@ -1,5 +1,7 @@
 package uk.gov.hmcts.reform.fpl.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,10 +13,13 @@ import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
 import uk.gov.hmcts.reform.ccd.document.am.model.Document;
+import uk.gov.hmcts.reform.fpl.exceptions.LetterSendException;
 import uk.gov.hmcts.reform.fpl.model.Recipient;
 import uk.gov.hmcts.reform.fpl.model.SentDocument;
 import uk.gov.hmcts.reform.fpl.model.common.DocumentReference;
 import uk.gov.hmcts.reform.fpl.model.configuration.Language;
+import uk.gov.hmcts.reform.fpl.request.RequestData;
+import uk.gov.hmcts.reform.fpl.request.RequestDataCache;
 import uk.gov.hmcts.reform.fpl.service.docmosis.DocmosisCoverDocumentsService;
 import uk.gov.hmcts.reform.fpl.service.docmosis.DocumentConversionService;
 import uk.gov.hmcts.reform.fpl.service.time.Time;
@@ -30,6 +35,8 @@ import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -37,6 +44,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static uk.gov.hmcts.reform.fpl.model.common.DocumentReference.buildFromDocument;
+import static uk.gov.hmcts.reform.fpl.service.SendLetterService.SEND_METRIC;
 import static uk.gov.hmcts.reform.fpl.utils.TestDataHelper.testDocmosisDocument;
 import static uk.gov.hmcts.reform.fpl.utils.TestDataHelper.testDocument;
 import static uk.gov.hmcts.reform.fpl.utils.TestDataHelper.testDocumentBinaries;
@@ -44,7 +52,7 @@ import static uk.gov.hmcts.reform.fpl.utils.TestDataHelper.testDocumentReference
 import static uk.gov.hmcts.reform.fpl.utils.TestDataHelper.testRepresentative;
 
 @ExtendWith(SpringExtension.class)
-@ContextConfiguration(classes = {FixedTimeConfiguration.class, SendLetterService.class})
+@ContextConfiguration(classes = {FixedTimeConfiguration.class, SendLetterService.class, SimpleMeterRegistry.class})
 class SendLetterServiceTest {
 
     private static final String SERVICE_AUTH_TOKEN = "Service token";
@@ -88,6 +96,12 @@ class SendLetterServiceTest {
     @MockBean
     private AuthTokenGenerator authTokenGenerator;
 
+    @MockBean
+    private RequestData requestData;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Captor
     private ArgumentCaptor<LetterWithPdfsRequest> letterWithPdfsRequestArgumentCaptor;
 
@@ -99,9 +113,10 @@ class SendLetterServiceTest {
             .willReturn(COVERSHEETS.get(0));
         given(uploadDocumentService.uploadPDF(COVER_DOCUMENTS_BYTES.get(1), COVERSHEET_NAME))
             .willReturn(COVERSHEETS.get(1));
+        // letters are sent side by side, so each letter id is matched to its letter by the cover sheet
         given(sendLetterApi.sendLetter(anyString(), any(LetterWithPdfsRequest.class)))
-            .willReturn(new SendLetterResponse(LETTERS_IDS.get(0)))
-            .willReturn(new SendLetterResponse(LETTERS_IDS.get(1)));
+            .willAnswer(invocation -> new SendLetterResponse(LETTERS_IDS.get(COVER_DOCUMENTS_ENCODED.indexOf(
+                invocation.<LetterWithPdfsRequest>getArgument(1).getDocuments().get(0)))));
         given(documentDownloadService.downloadDocument(MAIN_DOCUMENT_REFERENCE.getBinaryUrl()))
             .willReturn(MAIN_DOCUMENT_BYTES);
         given(docmosisCoverDocumentsService.createCoverDocuments(FAMILY_CASE_NUMBER, CASE_ID, RECIPIENTS.get(0),
@@ -133,21 +148,17 @@ class SendLetterServiceTest {
         verify(sendLetterApi, times(2))
             .sendLetter(eq(SERVICE_AUTH_TOKEN), letterWithPdfsRequestArgumentCaptor.capture());
 
-        List<LetterWithPdfsRequest> letterWithPdfsRequestValues = letterWithPdfsRequestArgumentCaptor.getAllValues();
-        assertThat(letterWithPdfsRequestValues.get(0).getDocuments())
-            .isEqualTo(List.of(COVER_DOCUMENTS_ENCODED.get(0), MAIN_DOCUMENT_ENCODED));
-        assertThat(letterWithPdfsRequestValues.get(0).getAdditionalData())
-            .isEqualTo(Map.of(
-                "caseId", CASE_ID,
-                "documentName", MAIN_DOCUMENT_REFERENCE.getFilename(),
-                "recipients", List.of(RECIPIENTS.get(0).getFullName())));
-        assertThat(letterWithPdfsRequestValues.get(1).getDocuments())
-            .isEqualTo(List.of(COVER_DOCUMENTS_ENCODED.get(1), MAIN_DOCUMENT_ENCODED));
-        assertThat(letterWithPdfsRequestValues.get(1).getAdditionalData())
-            .isEqualTo(Map.of(
-                "caseId", CASE_ID,
-                "documentName", MAIN_DOCUMENT_REFERENCE.getFilename(),
-                "recipients", List.of(RECIPIENTS.get(1).getFullName())));
+        assertThat(letterWithPdfsRequestArgumentCaptor.getAllValues())
+            .extracting(LetterWithPdfsRequest::getDocuments, LetterWithPdfsRequest::getAdditionalData)
+            .containsExactlyInAnyOrder(
+                tuple(List.of(COVER_DOCUMENTS_ENCODED.get(0), MAIN_DOCUMENT_ENCODED), Map.of(
+                    "caseId", CASE_ID,
+                    "documentName", MAIN_DOCUMENT_REFERENCE.getFilename(),
+                    "recipients", List.of(RECIPIENTS.get(0).getFullName()))),
+                tuple(List.of(COVER_DOCUMENTS_ENCODED.get(1), MAIN_DOCUMENT_ENCODED), Map.of(
+                    "caseId", CASE_ID,
+                    "documentName", MAIN_DOCUMENT_REFERENCE.getFilename(),
+                    "recipients", List.of(RECIPIENTS.get(1).getFullName()))));
     }
 
     @Test
@@ -173,4 +184,57 @@ class SendLetterServiceTest {
             .letterId(LETTERS_IDS.get(1).toString())
             .build());
     }
+
+    @Test
+    void shouldLeaveOutRecipientsWhoseLetterFailed() {
+        given(sendLetterApi.sendLetter(anyString(), any(LetterWithPdfsRequest.class)))
+            .willAnswer(invocation -> {
+                LetterWithPdfsRequest request = invocation.getArgument(1);
+                if (request.getDocuments().get(0).equals(COVER_DOCUMENTS_ENCODED.get(0))) {
+                    throw new IllegalStateException("Send letter unavailable");
+                }
+                return new SendLetterResponse(LETTERS_IDS.get(1));
+            });
+
+        List<SentDocument> sentDocuments = underTest.send(MAIN_DOCUMENT_REFERENCE, RECIPIENTS, CASE_ID,
+            FAMILY_CASE_NUMBER, Language.ENGLISH);
+
+        assertThat(sentDocuments).extracting(SentDocument::getLetterId).containsExactly(LETTERS_IDS.get(1).toString());
+        assertThat(meterRegistry.get(SEND_METRIC).tag("outcome", "failed").timer().count()).isOne();
+    }
+
+    @Test
+    void shouldFailWithLettersSentWhenLetterCannotBePrepared() {
+        IllegalStateException failure = new IllegalStateException("Docmosis unavailable");
+        given(docmosisCoverDocumentsService.createCoverDocuments(FAMILY_CASE_NUMBER, CASE_ID, RECIPIENTS.get(0),
+            Language.ENGLISH))
+            .willThrow(failure);
+
+        assertThatThrownBy(() -> underTest.send(MAIN_DOCUMENT_REFERENCE, RECIPIENTS, CASE_ID, FAMILY_CASE_NUMBER,
+            Language.ENGLISH))
+            .isInstanceOfSatisfying(LetterSendException.class, exception ->
+                assertThat(exception.getSentDocuments()).extracting(SentDocument::getLetterId)
+                    .containsExactly(LETTERS_IDS.get(1).toString()))
+            .hasCause(failure);
+        verify(sendLetterApi).sendLetter(anyString(), any(LetterWithPdfsRequest.class));
+    }
+
+    @Test
+    void shouldPrepareLettersAsUserMakingRequest() {
+        given(requestData.authorisation()).willReturn("user token");
+        given(requestData.userId()).willReturn("user id");
+        given(uploadDocumentService.uploadPDF(COVER_DOCUMENTS_BYTES.get(0), COVERSHEET_NAME))
+            .willAnswer(invocation -> {
+                assertThat(RequestDataCache.get()).hasValueSatisfying(data -> {
+                    assertThat(data.authorisation()).isEqualTo("user token");
+                    assertThat(data.userId()).isEqualTo("user id");
+                });
+                return COVERSHEETS.get(0);
+            });
+
+        List<SentDocument> sentDocuments = underTest.send(MAIN_DOCUMENT_REFERENCE, RECIPIENTS, CASE_ID,
+            FAMILY_CASE_NUMBER, Language.ENGLISH);
+
+        assertThat(sentDocuments).hasSize(2);
+    }
 }
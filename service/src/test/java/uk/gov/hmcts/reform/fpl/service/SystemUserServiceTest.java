@@ -1,5 +1,7 @@
 package uk.gov.hmcts.reform.fpl.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,17 +17,22 @@ import uk.gov.hmcts.reform.fpl.config.SystemUpdateUserConfiguration;
 import uk.gov.hmcts.reform.idam.client.IdamClient;
 import uk.gov.hmcts.reform.idam.client.models.UserInfo;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static uk.gov.hmcts.reform.fpl.config.CacheConfiguration.SYSTEM_USER_TOKEN_REFRESH;
 import static uk.gov.hmcts.reform.fpl.config.CacheConfiguration.SYS_USER_CACHE;
-import static uk.gov.hmcts.reform.fpl.service.SystemUserService.SYS_USER_TOKEN_CACHE_KEY;
 
 @ExtendWith(SpringExtension.class)
-@SpringBootTest(classes = {SystemUserService.class, CacheConfiguration.class})
+@SpringBootTest(classes = {SystemUserService.class, CacheConfiguration.class, SimpleMeterRegistry.class})
 class SystemUserServiceTest {
 
     private static final String SYS_USER_NAME = "sys_name";
@@ -41,11 +48,17 @@ class SystemUserServiceTest {
     @Qualifier("localCacheManager")
     private CacheManager localCacheManager;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Autowired
     private SystemUserService underTest;
 
+    private final AtomicLong ticker = new AtomicLong();
+
     @BeforeEach
     void init() {
+        localCacheManager.getCache(SYS_USER_CACHE).clear();
         given(userConfig.getUserName()).willReturn(SYS_USER_NAME);
         given(userConfig.getPassword()).willReturn(SYS_USER_PASS);
     }
@@ -68,10 +81,11 @@ class SystemUserServiceTest {
     @Test
     void shouldGetCachedTokenIfValid() {
         String token = RandomStringUtils.randomAlphanumeric(10);
+        SystemUserService service = systemUserService(Runnable::run);
 
         given(idamClient.getAccessToken(SYS_USER_NAME, SYS_USER_PASS)).willReturn(token);
-        String retrieved = underTest.getSysUserToken();
-        String retrievedSecond = underTest.getSysUserToken();
+        String retrieved = service.getSysUserToken();
+        String retrievedSecond = service.getSysUserToken();
 
         // should get first time, then get cached version
         verify(idamClient, times(1)).getAccessToken(SYS_USER_NAME, SYS_USER_PASS);
@@ -79,11 +93,67 @@ class SystemUserServiceTest {
         // ensure the token is the same all the time
         assertThat(retrieved).isEqualTo(token);
         assertThat(retrievedSecond).isEqualTo(token);
-        assertThat(getCachedToken()).isEqualTo(token);
     }
 
-    private String getCachedToken() {
-        return localCacheManager.getCache(SYS_USER_CACHE).get(SYS_USER_TOKEN_CACHE_KEY, String.class);
+    @Test
+    void shouldKeepServingCurrentTokenWhileRefreshing() {
+        List<Runnable> backgroundTasks = new ArrayList<>();
+        SystemUserService service = systemUserService(backgroundTasks::add);
+
+        given(idamClient.getAccessToken(SYS_USER_NAME, SYS_USER_PASS)).willReturn("token1", "token2");
+
+        assertThat(service.getSysUserToken()).isEqualTo("token1");
+        ticker.addAndGet(Duration.ofMinutes(SYSTEM_USER_TOKEN_REFRESH + 1).toNanos());
+
+        assertThat(service.getSysUserToken()).isEqualTo("token1");
+        assertThat(service.getSysUserToken()).isEqualTo("token1");
+        verify(idamClient, times(1)).getAccessToken(SYS_USER_NAME, SYS_USER_PASS);
+
+        List.copyOf(backgroundTasks).forEach(Runnable::run);
+
+        assertThat(service.getSysUserToken()).isEqualTo("token2");
+        verify(idamClient, times(2)).getAccessToken(SYS_USER_NAME, SYS_USER_PASS);
+    }
+
+    @Test
+    void shouldEvictCachedSystemUserIdWhenTokenRefreshed() {
+        SystemUserService service = systemUserService(Runnable::run);
+
+        given(idamClient.getAccessToken(SYS_USER_NAME, SYS_USER_PASS)).willReturn("token1", "token2");
+
+        localCacheManager.getCache(SYS_USER_CACHE).put(service.getSysUserToken(), "id");
+        ticker.addAndGet(Duration.ofMinutes(SYSTEM_USER_TOKEN_REFRESH + 1).toNanos());
+        service.getSysUserToken();
+
+        assertThat(service.getSysUserToken()).isEqualTo("token2");
+        assertThat(localCacheManager.getCache(SYS_USER_CACHE).get("token1")).isNull();
+    }
+
+    @Test
+    void shouldCacheSystemUserIdForToken() {
+        String token = RandomStringUtils.randomAlphanumeric(10);
+        String userId = UUID.randomUUID().toString();
+        double requestsBefore = userInfoRequests();
+
+        given(idamClient.getUserInfo(token)).willReturn(UserInfo.builder().uid(userId).build());
+
+        assertThat(underTest.getUserId(token)).isEqualTo(userId);
+        assertThat(underTest.getUserId(token)).isEqualTo(userId);
+
+        verify(idamClient, times(1)).getUserInfo(token);
+        assertThat(userInfoRequests() - requestsBefore).isEqualTo(1);
+    }
+
+    private double userInfoRequests() {
+        return meterRegistry.get(SystemUserService.IDAM_REQUESTS_METRIC)
+            .tag("request", "systemUserInfo")
+            .counter()
+            .count();
+    }
+
+    private SystemUserService systemUserService(Executor refreshExecutor) {
+        return new SystemUserService(userConfig, idamClient, localCacheManager, new SimpleMeterRegistry(),
+            ticker::get, refreshExecutor);
     }
 
 }
@@ -1,5 +1,6 @@
 package uk.gov.hmcts.reform.fpl.service.cafcass.api;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -29,12 +30,16 @@ import uk.gov.hmcts.reform.fpl.utils.elasticsearch.TermsQuery;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -110,14 +115,14 @@ public class CafcassApiSearchCaseServiceTest {
 
     @BeforeEach
     void setUpWithMockConverters() {
-        when(featureToggleService.getCafcassAPIFlag())
+        lenient().when(featureToggleService.getCafcassAPIFlag())
             .thenReturn(CafcassApiFeatureFlag.builder().enableApi(true).build());
         when(cafcassApiCaseDataConverter1.getEsSearchSources()).thenReturn(CONVERTER1_SOURCE);
         when(cafcassApiCaseDataConverter2.getEsSearchSources()).thenReturn(CONVERTER2_SOURCE);
         when(cafcassApiCaseDataConverter3.getEsSearchSources()).thenReturn(CONVERTER3_SOURCE);
         underTest = new CafcassApiSearchCaseService(caseConverter, searchService,
             List.of(cafcassApiCaseDataConverter1, cafcassApiCaseDataConverter2, cafcassApiCaseDataConverter3),
-            featureToggleService);
+            featureToggleService, new ObjectMapper());
     }
 
     @Test
@@ -213,4 +218,41 @@ public class CafcassApiSearchCaseServiceTest {
         assertEquals(expected, actual);
         assertEquals(expectedSearchQuery.toMap(), searchQueryCaptor.getValue().toMap());
     }
+
+    @Test
+    void shouldReportSourceUnchangedIfOnlyOtherFieldsChanged() {
+        CaseDetails before = MOCK_CASE_DETAILS_1.toBuilder()
+            .data(Map.of("field1", "value1", "field2", List.of(Map.of("id", "1")), "other", "before"))
+            .build();
+        CaseDetails after = MOCK_CASE_DETAILS_1.toBuilder()
+            .lastModified(LocalDateTime.now())
+            .data(Map.of("field1", "value1", "field2", List.of(Map.of("id", "1")), "other", "after"))
+            .build();
+
+        assertFalse(underTest.hasSourceChanged(before, after));
+    }
+
+    @Test
+    void shouldReportSourceChangedIfSourceFieldChanged() {
+        CaseDetails before = MOCK_CASE_DETAILS_1.toBuilder().data(Map.of("field1", "value1")).build();
+        CaseDetails after = MOCK_CASE_DETAILS_1.toBuilder().data(Map.of("field1", "value2")).build();
+
+        assertTrue(underTest.hasSourceChanged(before, after));
+    }
+
+    @Test
+    void shouldReportSourceChangedIfSourceFieldAdded() {
+        CaseDetails before = MOCK_CASE_DETAILS_1.toBuilder().data(Map.of()).build();
+        CaseDetails after = MOCK_CASE_DETAILS_1.toBuilder().data(Map.of("field3", "value3")).build();
+
+        assertTrue(underTest.hasSourceChanged(before, after));
+    }
+
+    @Test
+    void shouldReportSourceChangedIfStateChanged() {
+        CaseDetails before = MOCK_CASE_DETAILS_1.toBuilder().data(Map.of("field1", "value1")).build();
+        CaseDetails after = before.toBuilder().state(State.FINAL_HEARING.getValue()).build();
+
+        assertTrue(underTest.hasSourceChanged(before, after));
+    }
 }
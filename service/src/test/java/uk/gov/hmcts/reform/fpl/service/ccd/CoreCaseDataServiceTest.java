@@ -99,6 +99,14 @@ class CoreCaseDataServiceTest {
             verify(concurrencyHelper).submitEvent(startEventResponse, CASE_ID, Map.of());
         }
 
+        @Test
+        void shouldPerformPostSubmitCallbackWithoutRetry() {
+            StartEventResponse startEventResponse = buildStartEventResponse(eventId, eventToken);
+            when(concurrencyHelper.startEvent(CASE_ID, eventId)).thenReturn(startEventResponse);
+            service.performPostSubmitCallbackWithoutRetry(CASE_ID, eventId, caseDetails -> Map.of("a", "b"));
+            verify(concurrencyHelper).submitEvent(startEventResponse, CASE_ID, Map.of("a", "b"));
+        }
+
         @Test
         void shouldSynchroniseSameCase() throws InterruptedException {
             final StartEventResponse firstStartEventRsp =
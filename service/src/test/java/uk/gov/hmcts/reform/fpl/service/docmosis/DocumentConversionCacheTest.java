@@ -0,0 +1,197 @@
+package uk.gov.hmcts.reform.fpl.service.docmosis;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static uk.gov.hmcts.reform.fpl.service.docmosis.DocumentConversionCache.CACHE_METRIC;
+import static uk.gov.hmcts.reform.fpl.service.docmosis.DocumentConversionCache.DIRECTORY_NAME;
+
+class DocumentConversionCacheTest {
+
+    private static final byte[] DOCUMENT = "document".getBytes();
+    private static final byte[] CONVERSION = "converted document".getBytes();
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger conversions = new AtomicInteger();
+    private final Supplier<byte[]> converter = () -> {
+        conversions.incrementAndGet();
+        return CONVERSION.clone();
+    };
+
+    @TempDir
+    Path diskDirectory;
+
+    @Test
+    void shouldConvertSameDocumentOnlyOnce() {
+        DocumentConversionCache underTest = inMemoryCache(DataSize.ofMegabytes(1));
+
+        underTest.get(DOCUMENT, "docx", "pdf", converter);
+        byte[] conversion = underTest.get(DOCUMENT.clone(), "DOCX", "pdf", converter);
+
+        assertThat(conversion).isEqualTo(CONVERSION);
+        assertThat(conversions).hasValue(1);
+        assertThat(cacheGets("miss", "docmosis")).isEqualTo(1);
+        assertThat(cacheGets("hit", "memory")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldConvertSameDocumentAgainBetweenOtherFormats() {
+        DocumentConversionCache underTest = inMemoryCache(DataSize.ofMegabytes(1));
+
+        underTest.get(DOCUMENT, "docx", "pdf", converter);
+        underTest.get(DOCUMENT, "doc", "pdf", converter);
+
+        assertThat(conversions).hasValue(2);
+    }
+
+    @Test
+    void shouldWaitForConversionOfSameDocumentInProgress() throws Exception {
+        DocumentConversionCache underTest = inMemoryCache(DataSize.ofMegabytes(1));
+        CountDownLatch converting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<byte[]> first = executor.submit(() -> underTest.get(DOCUMENT, "docx", "pdf", () -> {
+                converting.countDown();
+                awaitQuietly(release);
+                return converter.get();
+            }));
+            assertThat(converting.await(1, TimeUnit.SECONDS)).isTrue();
+
+            // other documents are converted while the first conversion is still going
+            underTest.get("other document".getBytes(), "docx", "pdf", converter);
+            assertThat(conversions).hasValue(1);
+
+            release.countDown();
+            assertThat(underTest.get(DOCUMENT, "docx", "pdf", converter)).isEqualTo(CONVERSION);
+            assertThat(first.get(1, TimeUnit.SECONDS)).isEqualTo(CONVERSION);
+            assertThat(conversions).hasValue(2);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldConvertAgainAfterConversionFails() {
+        DocumentConversionCache underTest = inMemoryCache(DataSize.ofMegabytes(1));
+
+        assertThatThrownBy(() -> underTest.get(DOCUMENT, "docx", "pdf", () -> {
+            throw new IllegalStateException("Docmosis unavailable");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(underTest.get(DOCUMENT, "docx", "pdf", converter)).isEqualTo(CONVERSION);
+        assertThat(conversions).hasValue(1);
+    }
+
+    @Test
+    void shouldConvertEveryTimeWhenDisabled() {
+        DocumentConversionCache underTest = new DocumentConversionCache(false, DataSize.ofMegabytes(1),
+            diskDirectory.toString(), DataSize.ofMegabytes(1), meterRegistry, Runnable::run);
+
+        underTest.get(DOCUMENT, "docx", "pdf", converter);
+        underTest.get(DOCUMENT, "docx", "pdf", converter);
+
+        assertThat(conversions).hasValue(2);
+        assertThat(meterRegistry.find(CACHE_METRIC).counters()).isEmpty();
+    }
+
+    @Test
+    void shouldConvertAgainWhenConversionLeavesMemoryWithoutDiskDirectory() {
+        DocumentConversionCache underTest = inMemoryCache(DataSize.ofBytes(CONVERSION.length - 1));
+
+        underTest.get(DOCUMENT, "docx", "pdf", converter);
+        underTest.get(DOCUMENT, "docx", "pdf", converter);
+
+        assertThat(conversions).hasValue(2);
+    }
+
+    @Test
+    void shouldReadConversionLeavingMemoryBackFromDisk() {
+        DocumentConversionCache underTest = diskCache(DataSize.ofMegabytes(1));
+
+        underTest.get(DOCUMENT, "docx", "pdf", converter);
+        byte[] conversion = underTest.get(DOCUMENT, "docx", "pdf", converter);
+
+        assertThat(conversion).isEqualTo(CONVERSION);
+        assertThat(conversions).hasValue(1);
+        assertThat(cacheGets("hit", "disk")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeepDiskWithinLimit() throws IOException {
+        DocumentConversionCache underTest = diskCache(DataSize.ofBytes(CONVERSION.length));
+
+        underTest.get(DOCUMENT, "docx", "pdf", converter);
+        underTest.get("other document".getBytes(), "docx", "pdf", converter);
+
+        try (Stream<Path> files = Files.list(diskDirectory.resolve(DIRECTORY_NAME))) {
+            assertThat(files).hasSize(1);
+        }
+    }
+
+    @Test
+    void shouldClearConversionsLeftByPreviousRunOnStartup() throws IOException {
+        Path cacheDirectory = Files.createDirectories(diskDirectory.resolve(DIRECTORY_NAME));
+        Files.write(cacheDirectory.resolve("a".repeat(64) + "-docx-pdf"), CONVERSION);
+
+        diskCache(DataSize.ofMegabytes(1));
+
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldLeaveEverythingElseInDiskDirectoryAlone() throws IOException {
+        Path otherFile = Files.write(diskDirectory.resolve("conversion"), CONVERSION);
+        Path cacheDirectory = Files.createDirectories(diskDirectory.resolve(DIRECTORY_NAME));
+        Path unknownFile = Files.write(cacheDirectory.resolve("notes.txt"), CONVERSION);
+        Path subdirectory = Files.createDirectories(cacheDirectory.resolve("a".repeat(64) + "-docx-pdf"));
+
+        diskCache(DataSize.ofMegabytes(1));
+
+        assertThat(otherFile).exists();
+        assertThat(unknownFile).exists();
+        assertThat(subdirectory).isDirectory();
+    }
+
+    private DocumentConversionCache inMemoryCache(DataSize maxMemory) {
+        return new DocumentConversionCache(true, maxMemory, "", DataSize.ofMegabytes(1), meterRegistry, Runnable::run);
+    }
+
+    // memory smaller than a single conversion, so every conversion is written to disk as soon as it is made
+    private DocumentConversionCache diskCache(DataSize maxDisk) {
+        return new DocumentConversionCache(true, DataSize.ofBytes(CONVERSION.length - 1), diskDirectory.toString(),
+            maxDisk, meterRegistry, Runnable::run);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private double cacheGets(String result, String source) {
+        return meterRegistry.get(CACHE_METRIC).tags("result", result, "source", source).counter().count();
+    }
+}
@@ -1,5 +1,6 @@
 package uk.gov.hmcts.reform.fpl.service.docmosis;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpEntity;
@@ -9,6 +10,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.client.RestTemplate;
 import uk.gov.hmcts.reform.ccd.document.am.model.Document;
 import uk.gov.hmcts.reform.fpl.config.DocmosisConfiguration;
@@ -42,7 +44,8 @@ class DocumentConversionServiceTest {
     private final UploadDocumentService uploadService = mock(UploadDocumentService.class);
 
     private final DocumentConversionService underTest = new DocumentConversionService(
-        restTemplate, configuration, downloadService, uploadService
+        restTemplate, configuration, downloadService, uploadService,
+        new DocumentConversionCache(true, DataSize.ofMegabytes(1), "", DataSize.ZERO, new SimpleMeterRegistry())
     );
 
     @Test
@@ -157,6 +160,26 @@ class DocumentConversionServiceTest {
         assertThat(converted).isEqualTo(convertedDocumentBinaries);
     }
 
+    @Test
+    void shouldConvertSameDocumentBinariesOnlyOnce() {
+        final byte[] inputDocumentBinaries = testDocumentBinaries();
+        final byte[] convertedDocumentBinaries = testDocumentBinaries();
+
+        when(configuration.getUrl()).thenReturn(BASE_URL);
+        when(configuration.getAccessKey()).thenReturn(ACCESS_KEY);
+
+        when(restTemplate.exchange(
+            eq(String.format("%s/rs/convert", BASE_URL)), eq(HttpMethod.POST), any(), eq(byte[].class))
+        ).thenReturn(new ResponseEntity<>(convertedDocumentBinaries, HttpStatus.OK));
+
+        underTest.convertToPdf(inputDocumentBinaries, DOCX_FILE_NAME);
+        final byte[] converted = underTest.convertToPdf(inputDocumentBinaries.clone(), "other.docx");
+
+        verify(restTemplate).exchange(
+            eq(String.format("%s/rs/convert", BASE_URL)), eq(HttpMethod.POST), any(), eq(byte[].class));
+        assertThat(converted).isEqualTo(convertedDocumentBinaries);
+    }
+
     private HttpEntity<MultiValueMap<String, Object>> getExpectedPayload(byte[] fileToBeConverted,
                                                                          String oldFilename, String newFilename) {
         final HttpHeaders headers = new HttpHeaders();
@@ -0,0 +1,73 @@
+package uk.gov.hmcts.reform.fpl.service.document;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.reform.fpl.service.document.PdfMemoryPolicy.ESTIMATED_PEAK_BYTES_METRIC;
+import static uk.gov.hmcts.reform.fpl.utils.ResourceReader.readBytes;
+
+class PdfMemoryPolicyTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final byte[] pdf = readBytes("documents/document.pdf");
+
+    @Test
+    void shouldKeepDocumentsUpToThresholdInMainMemory() {
+        PdfMemoryPolicy underTest = new PdfMemoryPolicy(DataSize.ofBytes(pdf.length), "", meterRegistry);
+
+        MemoryUsageSetting memoryUsageSetting = underTest.memoryUsageSetting(pdf.length);
+
+        assertThat(memoryUsageSetting.useMainMemory()).isTrue();
+        assertThat(memoryUsageSetting.useTempFile()).isFalse();
+    }
+
+    @Test
+    void shouldSpillDocumentsOverThresholdToTemporaryFiles() {
+        PdfMemoryPolicy underTest = new PdfMemoryPolicy(DataSize.ofBytes(pdf.length - 1), "/tmp/pdf", meterRegistry);
+
+        MemoryUsageSetting memoryUsageSetting = underTest.memoryUsageSetting(pdf.length);
+
+        assertThat(memoryUsageSetting.useMainMemory()).isTrue();
+        assertThat(memoryUsageSetting.useTempFile()).isTrue();
+        assertThat(memoryUsageSetting.getMaxMainMemoryBytes()).isEqualTo(pdf.length - 1);
+        assertThat(memoryUsageSetting.getTempDir()).hasToString("/tmp/pdf");
+    }
+
+    @Test
+    void shouldTransformDocumentTheSameWayWhateverTheMemoryUsed() throws IOException {
+        PdfMemoryPolicy inMemory = new PdfMemoryPolicy(DataSize.ofMegabytes(20), "", meterRegistry);
+        PdfMemoryPolicy mixed = new PdfMemoryPolicy(DataSize.ofBytes(1), "", meterRegistry);
+
+        byte[] transformedInMemory = inMemory.transform("test", pdf, document -> document.addPage(new PDPage()));
+        byte[] transformedMixed = mixed.transform("test", pdf, document -> document.addPage(new PDPage()));
+
+        try (PDDocument original = PDDocument.load(pdf);
+             PDDocument fromMemory = PDDocument.load(transformedInMemory);
+             PDDocument fromMixed = PDDocument.load(transformedMixed)) {
+            assertThat(fromMemory.getNumberOfPages()).isEqualTo(original.getNumberOfPages() + 1);
+            assertThat(fromMixed.getNumberOfPages()).isEqualTo(original.getNumberOfPages() + 1);
+        }
+    }
+
+    @Test
+    void shouldRecordEstimatedBytesHeldByOperation() throws IOException {
+        PdfMemoryPolicy underTest = new PdfMemoryPolicy(DataSize.ofMegabytes(20), "", meterRegistry);
+
+        byte[] transformed = underTest.transform("test", pdf, document -> document.setAllSecurityToBeRemoved(false));
+
+        DistributionSummary peakBytes = meterRegistry.get(ESTIMATED_PEAK_BYTES_METRIC)
+            .tags("operation", "test", "memory", "main")
+            .summary();
+        assertThat(peakBytes.count()).isOne();
+        assertThat(peakBytes.totalAmount()).isEqualTo(pdf.length + 2.0 * transformed.length);
+    }
+}
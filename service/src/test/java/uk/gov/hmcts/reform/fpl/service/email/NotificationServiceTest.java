@@ -1,5 +1,10 @@
 package uk.gov.hmcts.reform.fpl.service.email;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -8,19 +13,36 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import uk.gov.hmcts.reform.fpl.config.ResilienceConfiguration;
 import uk.gov.hmcts.reform.fpl.model.notify.BaseCaseNotifyData;
 import uk.gov.hmcts.reform.fpl.model.notify.NotifyData;
+import uk.gov.hmcts.reform.fpl.service.DownstreamResilience;
+import uk.gov.hmcts.reform.fpl.service.email.NotificationService.EmailOutcome;
 import uk.gov.service.notify.NotificationClient;
 import uk.gov.service.notify.NotificationClientException;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.reform.fpl.service.DownstreamResilience.NOTIFY;
+import static uk.gov.hmcts.reform.fpl.service.email.NotificationService.SEND_METRIC;
 import static uk.gov.hmcts.reform.fpl.service.email.NotificationServiceTest.ENV;
 
 @ExtendWith(SpringExtension.class)
-@ContextConfiguration(classes = {NotificationService.class, JacksonAutoConfiguration.class})
+@ContextConfiguration(classes = {NotificationService.class, JacksonAutoConfiguration.class,
+    DownstreamResilience.class, ResilienceConfiguration.class, SimpleMeterRegistry.class})
 @TestPropertySource(properties = {"fpl.env=" + ENV})
 class NotificationServiceTest {
 
@@ -37,6 +59,15 @@ class NotificationServiceTest {
     @Autowired
     private NotificationService notificationService;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    @Autowired
+    private DownstreamResilience downstreamResilience;
+
     private static final NotifyData EMAIL_PERSONALISATION = BaseCaseNotifyData.builder()
         .lastName("Smith")
         .caseUrl("http://fake-url")
@@ -78,4 +109,125 @@ class NotificationServiceTest {
         );
     }
 
+    @Test
+    void shouldReturnOutcomeOfEmailToEachRecipient() throws NotificationClientException {
+        NotificationClientException invalidAddress = mock(NotificationClientException.class);
+        when(invalidAddress.getHttpResult()).thenReturn(400);
+        when(notificationClient.sendEmail(TEMPLATE_ID, TEST_RECIPIENT_EMAIL_2, EXPECTED_EMAIL_PERSONALISATION,
+            NOTIFICATION_REFERENCE)).thenThrow(invalidAddress);
+
+        Map<String, EmailOutcome> outcomes = notificationService.sendEmails(TEMPLATE_ID,
+            List.of(TEST_RECIPIENT_EMAIL_1, TEST_RECIPIENT_EMAIL_2, TEST_RECIPIENT_EMAIL_1), EMAIL_PERSONALISATION,
+            REFERENCE);
+
+        assertThat(outcomes).containsExactly(
+            entry(TEST_RECIPIENT_EMAIL_1, EmailOutcome.SENT),
+            entry(TEST_RECIPIENT_EMAIL_2, EmailOutcome.REJECTED));
+        verify(notificationClient).sendEmail(TEMPLATE_ID, TEST_RECIPIENT_EMAIL_1, EXPECTED_EMAIL_PERSONALISATION,
+            NOTIFICATION_REFERENCE);
+    }
+
+    @Test
+    void shouldNotSendEmailsStillWaitingWhenBatchTimesOut() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(notificationClient.sendEmail(TEMPLATE_ID, TEST_RECIPIENT_EMAIL_1, EXPECTED_EMAIL_PERSONALISATION,
+            NOTIFICATION_REFERENCE)).thenAnswer(invocation -> {
+                release.await(5, TimeUnit.SECONDS);
+                return null;
+            });
+
+        NotificationService singleWorker = new NotificationService(notificationClient, mapper, ENV,
+            downstreamResilience, meterRegistry, 1, 0, 100);
+        try {
+            Map<String, EmailOutcome> outcomes = singleWorker.sendEmails(TEMPLATE_ID,
+                List.of(TEST_RECIPIENT_EMAIL_1, TEST_RECIPIENT_EMAIL_2), EMAIL_PERSONALISATION, REFERENCE);
+            release.countDown();
+
+            assertThat(outcomes).containsExactly(
+                entry(TEST_RECIPIENT_EMAIL_1, EmailOutcome.SENDING),
+                entry(TEST_RECIPIENT_EMAIL_2, EmailOutcome.TIMED_OUT));
+            verify(notificationClient, after(500).never()).sendEmail(TEMPLATE_ID, TEST_RECIPIENT_EMAIL_2,
+                EXPECTED_EMAIL_PERSONALISATION, NOTIFICATION_REFERENCE);
+        } finally {
+            singleWorker.shutdown();
+        }
+    }
+
+    @Test
+    void shouldNotWaitPastBatchTimeoutForRoomToQueueEmails() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(notificationClient.sendEmail(any(), any(), any(), any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        });
+        List<String> recipients = List.of("a@example.com", "b@example.com", "c@example.com", "d@example.com");
+
+        NotificationService singleWorker = new NotificationService(notificationClient, mapper, ENV,
+            downstreamResilience, meterRegistry, 1, 0, 100);
+        try {
+            long started = System.nanoTime();
+            Map<String, EmailOutcome> outcomes = singleWorker.sendEmails(TEMPLATE_ID, recipients,
+                EMAIL_PERSONALISATION, REFERENCE);
+            long tookMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+            release.countDown();
+
+            // one worker queues two emails at most, the rest have no room before the batch times out
+            assertThat(tookMillis).isLessThan(2000);
+            assertThat(outcomes).containsEntry("c@example.com", EmailOutcome.TIMED_OUT)
+                .containsEntry("d@example.com", EmailOutcome.TIMED_OUT);
+            verify(notificationClient, after(500).never()).sendEmail(eq(TEMPLATE_ID), eq("d@example.com"), any(),
+                any());
+        } finally {
+            singleWorker.shutdown();
+        }
+    }
+
+    @Test
+    void shouldRetryEmailWhenNotifyBusy() throws NotificationClientException {
+        DownstreamResilience busyResilience = mock(DownstreamResilience.class);
+        when(busyResilience.call(eq(NOTIFY), any(), any(), any()))
+            .thenThrow(BulkheadFullException.createBulkheadFullException(Bulkhead.ofDefaults(NOTIFY)))
+            .thenReturn(null);
+
+        NotificationService underTest = new NotificationService(notificationClient, mapper, ENV, busyResilience,
+            meterRegistry, 1, 0, 100);
+        try {
+            Map<String, EmailOutcome> outcomes = underTest.sendEmails(TEMPLATE_ID, List.of(TEST_RECIPIENT_EMAIL_1),
+                EMAIL_PERSONALISATION, REFERENCE);
+
+            assertThat(outcomes).containsExactly(entry(TEST_RECIPIENT_EMAIL_1, EmailOutcome.SENT));
+            verify(busyResilience, times(2)).call(eq(NOTIFY), any(), any(), any());
+        } finally {
+            underTest.shutdown();
+        }
+    }
+
+    @Test
+    void shouldReportEmailAsFailedInsteadOfWaitingWhenNotifyBusy() {
+        DownstreamResilience busyResilience = mock(DownstreamResilience.class);
+        when(busyResilience.call(eq(NOTIFY), any(), any(), any()))
+            .thenThrow(BulkheadFullException.createBulkheadFullException(Bulkhead.ofDefaults(NOTIFY)));
+
+        NotificationService underTest = new NotificationService(notificationClient, mapper, ENV, busyResilience,
+            meterRegistry, 1, 0, 100);
+        try {
+            Map<String, EmailOutcome> outcomes = underTest.sendEmails(TEMPLATE_ID, List.of(TEST_RECIPIENT_EMAIL_1),
+                EMAIL_PERSONALISATION, REFERENCE);
+            underTest.sendEmail(TEMPLATE_ID, TEST_RECIPIENT_EMAIL_1, EMAIL_PERSONALISATION, REFERENCE);
+
+            assertThat(outcomes).containsExactly(entry(TEST_RECIPIENT_EMAIL_1, EmailOutcome.FAILED));
+            // a caller sending directly is not made to wait for another turn
+            verify(busyResilience, times(2)).call(eq(NOTIFY), any(), any(), any());
+        } finally {
+            underTest.shutdown();
+        }
+    }
+
+    @Test
+    void shouldRecordTimeTakenToSendEachEmail() {
+        notificationService.sendEmails(TEMPLATE_ID, List.of(TEST_RECIPIENT_EMAIL_1, TEST_RECIPIENT_EMAIL_2),
+            EMAIL_PERSONALISATION, REFERENCE);
+
+        assertThat(meterRegistry.get(SEND_METRIC).tag("outcome", "SENT").timer().count()).isGreaterThanOrEqualTo(2);
+    }
 }
@@ -1,10 +1,13 @@
 package uk.gov.hmcts.reform.fpl.service.orders;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.util.unit.DataSize;
 import uk.gov.hmcts.reform.fpl.exceptions.EncryptedPdfUploadedException;
 import uk.gov.hmcts.reform.fpl.model.common.DocumentReference;
 import uk.gov.hmcts.reform.fpl.service.DocumentDownloadService;
+import uk.gov.hmcts.reform.fpl.service.document.PdfMemoryPolicy;
 import uk.gov.hmcts.reform.fpl.service.orders.amendment.AmendedOrderStamper;
 import uk.gov.hmcts.reform.fpl.utils.FixedTime;
 import uk.gov.hmcts.reform.fpl.utils.extension.TestLogger;
@@ -36,7 +39,8 @@ class AmendedOrderStamperTest {
 
     private final DocumentDownloadService downloadService = mock(DocumentDownloadService.class);
     private final AmendedOrderStamper underTest = new AmendedOrderStamper(
-        downloadService, new FixedTime(LocalDateTime.of(FIXED_DATE, LocalTime.MIDNIGHT))
+        downloadService, new FixedTime(LocalDateTime.of(FIXED_DATE, LocalTime.MIDNIGHT)),
+        new PdfMemoryPolicy(DataSize.ofMegabytes(20), "", new SimpleMeterRegistry())
     );
 
     @Test
@@ -1,21 +1,44 @@
 package uk.gov.hmcts.reform.fpl.service.orders.generator;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+import uk.gov.hmcts.reform.fpl.exceptions.EmptyFileException;
 import uk.gov.hmcts.reform.fpl.model.common.DocmosisDocument;
 import uk.gov.hmcts.reform.fpl.model.common.DocumentReference;
+import uk.gov.hmcts.reform.fpl.request.RequestData;
+import uk.gov.hmcts.reform.fpl.request.RequestDataCache;
 import uk.gov.hmcts.reform.fpl.service.DocumentDownloadService;
 import uk.gov.hmcts.reform.fpl.service.docmosis.DocumentConversionService;
+import uk.gov.hmcts.reform.fpl.service.document.PdfMemoryPolicy;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.reform.fpl.utils.ResourceReader.readBytes;
 import static uk.gov.hmcts.reform.fpl.utils.TestDataHelper.testDocumentReference;
@@ -28,7 +51,12 @@ class DocumentMergerTest {
     @Mock
     private DocumentDownloadService documentDownloadService;
 
-    @InjectMocks
+    @Mock
+    private RequestData requestData;
+
+    private final PdfMemoryPolicy pdfMemoryPolicy = new PdfMemoryPolicy(DataSize.ofMegabytes(20), "",
+        new SimpleMeterRegistry());
+
     private DocumentMerger underTest;
 
     private static final String ORIGINAL_FILENAME = "document1.pdf";
@@ -38,6 +66,18 @@ class DocumentMergerTest {
         .documentTitle(ORIGINAL_FILENAME).bytes(new byte[]{1}).build();
 
     private static final DocumentReference DOCUMENT_REFERENCE = testDocumentReference(ADDITIONAL_FILENAME);
+    private static final float LANDSCAPE_WIDTH = PDRectangle.A4.getHeight();
+
+    @BeforeEach
+    void setUp() {
+        underTest = new DocumentMerger(documentDownloadService, documentConversionService, requestData,
+            pdfMemoryPolicy, 2, 2, 20, Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        underTest.shutdown();
+    }
 
     @Test
     void shouldMergeTheDocuments() {
@@ -93,4 +133,173 @@ class DocumentMergerTest {
             "Exception occurred while merging documents for " + DOCMOSIS_DOCUMENT.getDocumentTitle());
     }
 
+    @Test
+    void shouldMergeDocumentsInTheirOriginalOrder() throws IOException {
+        final DocumentReference slowDocument = testDocumentReference("slow.pdf");
+        final DocumentReference fastDocument = testDocumentReference("fast.pdf");
+        final byte[] onePage = readBytes("documents/document1.pdf");
+
+        when(documentConversionService.convertToPdf(any(), anyString())).thenAnswer(invocation -> {
+            String filename = invocation.getArgument(1);
+            if ("slow.pdf".equals(filename)) {
+                Thread.sleep(200);
+                return withLandscapeFirstPage(onePage);
+            }
+            return onePage;
+        });
+        when(documentDownloadService.downloadDocument(anyString())).thenReturn(new byte[]{1, 2});
+
+        DocmosisDocument actualMergedPdf = underTest.mergeDocuments(DOCMOSIS_DOCUMENT,
+            List.of(slowDocument, fastDocument));
+
+        try (PDDocument merged = PDDocument.load(actualMergedPdf.getBytes());
+             PDDocument original = PDDocument.load(onePage)) {
+            assertThat(merged.getNumberOfPages()).isEqualTo(3 * original.getNumberOfPages() + 1);
+            // the slow document's pages come straight after the original document even though it finished last
+            assertThat(merged.getPage(original.getNumberOfPages()).getMediaBox().getWidth())
+                .isEqualTo(LANDSCAPE_WIDTH);
+        }
+    }
+
+    @Test
+    void shouldDownloadDocumentsAsTheRequestingUser() {
+        final Set<String> authorisations = ConcurrentHashMap.newKeySet();
+
+        when(requestData.authorisation()).thenReturn("user-token");
+        when(requestData.userId()).thenReturn("user-id");
+        when(documentConversionService.convertToPdf(any(), anyString()))
+            .thenReturn(readBytes("documents/document1.pdf"));
+        when(documentDownloadService.downloadDocument(DOCUMENT_REFERENCE.getBinaryUrl())).thenAnswer(invocation -> {
+            RequestDataCache.get().map(RequestData::authorisation).ifPresent(authorisations::add);
+            return new byte[]{1, 2};
+        });
+
+        underTest.mergeDocuments(DOCMOSIS_DOCUMENT, List.of(DOCUMENT_REFERENCE));
+
+        assertThat(authorisations).containsExactly("user-token");
+    }
+
+    @Test
+    void shouldRethrowExceptionFromFetchingDocument() {
+        when(documentConversionService.convertToPdf(eq(DOCMOSIS_DOCUMENT.getBytes()), anyString()))
+            .thenReturn(readBytes("documents/document1.pdf"));
+        when(documentDownloadService.downloadDocument(DOCUMENT_REFERENCE.getBinaryUrl()))
+            .thenThrow(new EmptyFileException());
+
+        assertThrows(EmptyFileException.class,
+            () -> underTest.mergeDocuments(DOCMOSIS_DOCUMENT, List.of(DOCUMENT_REFERENCE)));
+    }
+
+    @Test
+    void shouldThrowExceptionWhenDocumentsAreNotFetchedBeforeDeadline() {
+        underTest.shutdown();
+        underTest = new DocumentMerger(documentDownloadService, documentConversionService, requestData,
+            pdfMemoryPolicy, 2, 2, 20, Duration.ofMillis(50));
+
+        when(documentConversionService.convertToPdf(eq(DOCMOSIS_DOCUMENT.getBytes()), anyString()))
+            .thenReturn(readBytes("documents/document1.pdf"));
+        when(documentDownloadService.downloadDocument(DOCUMENT_REFERENCE.getBinaryUrl())).thenAnswer(invocation -> {
+            Thread.sleep(1000);
+            return new byte[]{1, 2};
+        });
+
+        Exception exception = assertThrows(DocumentMergeException.class,
+            () -> underTest.mergeDocuments(DOCMOSIS_DOCUMENT, List.of(DOCUMENT_REFERENCE)));
+
+        assertThat(exception.getMessage()).isEqualTo(
+            "Documents to merge for " + DOCMOSIS_DOCUMENT.getDocumentTitle() + " were not fetched within PT0.05S");
+    }
+
+    @Test
+    void shouldFetchDocumentsOfOneMergeOnLimitedWorkers() {
+        underTest.shutdown();
+        underTest = new DocumentMerger(documentDownloadService, documentConversionService, requestData,
+            pdfMemoryPolicy, 4, 1, 20, Duration.ofSeconds(5));
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger mostRunning = new AtomicInteger();
+
+        when(documentConversionService.convertToPdf(any(), anyString()))
+            .thenReturn(readBytes("documents/document1.pdf"));
+        when(documentDownloadService.downloadDocument(anyString())).thenAnswer(invocation -> {
+            mostRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            running.decrementAndGet();
+            return new byte[]{1, 2};
+        });
+
+        underTest.mergeDocuments(DOCMOSIS_DOCUMENT, List.of(testDocumentReference("a.pdf"),
+            testDocumentReference("b.pdf"), testDocumentReference("c.pdf")));
+
+        assertThat(mostRunning).hasValue(1);
+    }
+
+    @Test
+    void shouldStopFetchingDocumentsAfterDeadline() throws InterruptedException {
+        underTest.shutdown();
+        underTest = new DocumentMerger(documentDownloadService, documentConversionService, requestData,
+            pdfMemoryPolicy, 2, 1, 20, Duration.ofMillis(50));
+        final CountDownLatch interrupted = new CountDownLatch(1);
+
+        when(documentConversionService.convertToPdf(eq(DOCMOSIS_DOCUMENT.getBytes()), anyString()))
+            .thenReturn(readBytes("documents/document1.pdf"));
+        when(documentDownloadService.downloadDocument(anyString())).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(5000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return new byte[]{1, 2};
+        });
+
+        assertThrows(DocumentMergeException.class, () -> underTest.mergeDocuments(DOCMOSIS_DOCUMENT,
+            List.of(testDocumentReference("a.pdf"), testDocumentReference("b.pdf"))));
+
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+        verify(documentDownloadService, after(200).times(1)).downloadDocument(anyString());
+    }
+
+    @Test
+    void shouldFailStraightAwayWhenNoWorkerCanBeQueued() throws InterruptedException {
+        underTest.shutdown();
+        underTest = new DocumentMerger(documentDownloadService, documentConversionService, requestData,
+            pdfMemoryPolicy, 1, 1, 1, Duration.ofSeconds(5));
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        when(documentConversionService.convertToPdf(any(), anyString()))
+            .thenReturn(readBytes("documents/document1.pdf"));
+        when(documentDownloadService.downloadDocument(anyString())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new byte[]{1, 2};
+        });
+
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            // one merge holds the only worker and another waits in the only queue slot
+            callers.execute(() -> underTest.mergeDocuments(DOCMOSIS_DOCUMENT, List.of(DOCUMENT_REFERENCE)));
+            assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+            callers.execute(() -> underTest.mergeDocuments(DOCMOSIS_DOCUMENT, List.of(DOCUMENT_REFERENCE)));
+            Thread.sleep(100);
+
+            long start = System.nanoTime();
+            assertThrows(DocumentMergeException.class,
+                () -> underTest.mergeDocuments(DOCMOSIS_DOCUMENT, List.of(DOCUMENT_REFERENCE)));
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+        } finally {
+            release.countDown();
+            callers.shutdownNow();
+        }
+    }
+
+    private static byte[] withLandscapeFirstPage(byte[] pdf) throws IOException {
+        try (PDDocument document = PDDocument.load(pdf);
+             ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+            PDPage page = new PDPage(new PDRectangle(LANDSCAPE_WIDTH, PDRectangle.A4.getWidth()));
+            document.getPages().insertBefore(page, document.getPage(0));
+            document.save(outputStream);
+            return outputStream.toByteArray();
+        }
+    }
 }
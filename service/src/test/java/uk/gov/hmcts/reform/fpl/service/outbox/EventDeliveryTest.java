@@ -0,0 +1,108 @@
+package uk.gov.hmcts.reform.fpl.service.outbox;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.fpl.exceptions.EventDeliveryException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EventDeliveryTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final EventDelivery underTest = new EventDelivery();
+
+    @Test
+    void shouldBeCurrentOnlyWhileRunning() {
+        underTest.run(() -> assertThat(EventDelivery.current()).containsSame(underTest));
+
+        assertThat(EventDelivery.current()).isEmpty();
+    }
+
+    @Test
+    void shouldWaitForTrackedTasksToFinish() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            underTest.taskSubmitted();
+            executor.execute(() -> {
+                sleep();
+                underTest.taskFinished();
+            });
+
+            underTest.await(TIMEOUT);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldRethrowFailureOfTrackedTask() {
+        IllegalStateException failure = new IllegalStateException("Notify unavailable");
+        underTest.taskSubmitted();
+        underTest.taskFailed(failure);
+        underTest.taskFinished();
+
+        assertThatThrownBy(() -> underTest.await(TIMEOUT))
+            .isInstanceOf(EventDeliveryException.class)
+            .hasCause(failure);
+    }
+
+    @Test
+    void shouldTimeOutWhenTrackedTaskDoesNotFinish() {
+        underTest.taskSubmitted();
+
+        assertThatThrownBy(() -> underTest.await(Duration.ofMillis(10)))
+            .isInstanceOf(TimeoutException.class);
+    }
+
+    @Test
+    void shouldInterruptRunningTasksAndSkipWaitingOnesOnTimeout() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        AtomicBoolean waitingTaskRan = new AtomicBoolean();
+        CompletableFuture<Void> handedOff = new CompletableFuture<>();
+        try {
+            underTest.taskSubmitted();
+            executor.execute(() -> {
+                underTest.runTask(() -> {
+                    started.countDown();
+                    try {
+                        Thread.sleep(TIMEOUT.toMillis());
+                    } catch (InterruptedException e) {
+                        interrupted.countDown();
+                    }
+                });
+                underTest.taskFinished();
+            });
+            underTest.track(handedOff);
+            started.await();
+
+            assertThatThrownBy(() -> underTest.await(Duration.ofMillis(10))).isInstanceOf(TimeoutException.class);
+            underTest.runTask(() -> waitingTaskRan.set(true));
+
+            assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+            assertThat(handedOff).isCancelled();
+            assertThat(waitingTaskRan).isFalse();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(50);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
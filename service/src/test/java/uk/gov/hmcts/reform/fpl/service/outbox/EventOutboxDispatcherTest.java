@@ -0,0 +1,179 @@
+package uk.gov.hmcts.reform.fpl.service.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import uk.gov.hmcts.reform.fpl.config.scheduler.EventOutboxConfiguration;
+import uk.gov.hmcts.reform.fpl.exceptions.EventDeliveryException;
+import uk.gov.hmcts.reform.fpl.request.RequestData;
+import uk.gov.hmcts.reform.fpl.request.RequestDataCache;
+import uk.gov.hmcts.reform.fpl.service.SystemUserService;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class EventOutboxDispatcherTest {
+
+    private static final String SYSTEM_USER_TOKEN = "system token";
+    private static final TestEvent EVENT = new TestEvent("Case submitted");
+
+    private final EventOutbox outbox = mock(EventOutbox.class);
+    private final ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+    private final SystemUserService systemUserService = mock(SystemUserService.class);
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final EventOutboxConfiguration configuration = new EventOutboxConfiguration();
+
+    private EventOutboxDispatcher underTest;
+
+    @BeforeEach
+    void setUp() {
+        configuration.setEventTypes(Set.of(TestEvent.class.getSimpleName()));
+        when(systemUserService.getSysUserToken()).thenReturn(SYSTEM_USER_TOKEN);
+        underTest = new EventOutboxDispatcher(outbox, publisher, mapper, systemUserService, configuration,
+            meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        underTest.shutdown();
+    }
+
+    @Test
+    void shouldNotDoAnythingWhenOutboxIsEmpty() throws Exception {
+        when(outbox.claim(anyString(), anyInt(), any())).thenReturn(List.of());
+
+        assertThat(underTest.dispatch()).isZero();
+
+        verifyNoInteractions(publisher, systemUserService);
+    }
+
+    @Test
+    void shouldPublishStoredEventAndRemoveItFromOutbox() throws Exception {
+        OutboxEvent stored = store(EVENT);
+        when(outbox.claim(anyString(), anyInt(), any())).thenReturn(List.of(stored));
+
+        assertThat(underTest.dispatch()).isOne();
+
+        verify(publisher).publishEvent(EVENT);
+        verify(outbox).complete(stored);
+        verify(outbox, never()).fail(any(), any());
+    }
+
+    @Test
+    void shouldRunHandlersAsUserWhoTriggeredEventWithSystemUserToken() throws Exception {
+        AtomicReference<RequestData> requestData = new AtomicReference<>();
+        doAnswer(invocation -> {
+            requestData.set(RequestDataCache.get().orElseThrow());
+            return null;
+        }).when(publisher).publishEvent(any(Object.class));
+        when(outbox.claim(anyString(), anyInt(), any())).thenReturn(List.of(store(EVENT)));
+
+        underTest.dispatch();
+
+        assertThat(requestData.get().authorisation()).isEqualTo(SYSTEM_USER_TOKEN);
+        assertThat(requestData.get().userId()).isEqualTo("user");
+        assertThat(requestData.get().userRoles()).containsExactly("caseworker");
+    }
+
+    @Test
+    void shouldFailEventWhenHandlerFails() throws Exception {
+        OutboxEvent stored = store(EVENT);
+        IllegalStateException failure = new IllegalStateException("Notify unavailable");
+        doThrow(failure).when(publisher).publishEvent(any(Object.class));
+        when(outbox.claim(anyString(), anyInt(), any())).thenReturn(List.of(stored));
+
+        underTest.dispatch();
+
+        verify(outbox).fail(stored, failure);
+        verify(outbox, never()).complete(any());
+    }
+
+    @Test
+    void shouldFailEventWhenAsyncHandlerFails() throws Exception {
+        OutboxEvent stored = store(EVENT);
+        doAnswer(invocation -> {
+            EventDelivery delivery = EventDelivery.current().orElseThrow();
+            delivery.taskSubmitted();
+            delivery.taskFailed(new IllegalStateException("Notify unavailable"));
+            delivery.taskFinished();
+            return null;
+        }).when(publisher).publishEvent(any(Object.class));
+        when(outbox.claim(anyString(), anyInt(), any())).thenReturn(List.of(stored));
+
+        underTest.dispatch();
+
+        verify(outbox).fail(eq(stored), any(EventDeliveryException.class));
+        verify(outbox, never()).complete(any());
+    }
+
+    @Test
+    void shouldNotPublishEventTypeNotStoredInOutbox() throws Exception {
+        OutboxEvent stored = store(EVENT);
+        configuration.setEventTypes(Set.of());
+        when(outbox.claim(anyString(), anyInt(), any())).thenReturn(List.of(stored));
+
+        underTest.dispatch();
+
+        verify(outbox).fail(eq(stored), any(IllegalStateException.class));
+        verifyNoInteractions(publisher);
+    }
+
+    @Test
+    void shouldNotStartWhenLeaseRunsOutBeforeBatchIsDelivered() {
+        configuration.setBatchSize(8);
+        configuration.setWorkers(4);
+        configuration.setHandlerTimeout(Duration.ofSeconds(30));
+        configuration.setLease(Duration.ofMinutes(1));
+
+        assertThatThrownBy(() -> new EventOutboxDispatcher(outbox, publisher, mapper, systemUserService,
+            configuration, meterRegistry))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("lease");
+    }
+
+    @Test
+    void shouldNotStartWhenHandlerTimeoutOutlastsRun() {
+        configuration.setHandlerTimeout(Duration.ofMinutes(2));
+        configuration.setLease(Duration.ofHours(1));
+
+        assertThatThrownBy(() -> new EventOutboxDispatcher(outbox, publisher, mapper, systemUserService,
+            configuration, meterRegistry))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("max run time");
+    }
+
+    private OutboxEvent store(Object event) throws Exception {
+        return OutboxEvent.builder()
+            .id(1L)
+            .eventType(event.getClass().getName())
+            .payload(mapper.writeValueAsString(event))
+            .userId("user")
+            .userRoles(Set.of("caseworker"))
+            .attempts(1)
+            .build();
+    }
+
+    record TestEvent(String name) {
+    }
+}
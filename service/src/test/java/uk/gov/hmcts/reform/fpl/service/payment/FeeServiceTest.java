@@ -2,6 +2,8 @@ package uk.gov.hmcts.reform.fpl.service.payment;
 
 import feign.FeignException;
 import feign.Request;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -10,14 +12,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.reform.fnp.client.FeesRegisterApi;
 import uk.gov.hmcts.reform.fnp.exception.FeeRegisterException;
 import uk.gov.hmcts.reform.fnp.model.fee.FeeResponse;
 import uk.gov.hmcts.reform.fnp.model.fee.FeeType;
 import uk.gov.hmcts.reform.fnp.model.payment.FeeDto;
+import uk.gov.hmcts.reform.fpl.config.payment.FeesConfig;
 import uk.gov.hmcts.reform.fpl.enums.C2ApplicationType;
 import uk.gov.hmcts.reform.fpl.enums.OrderType;
 import uk.gov.hmcts.reform.fpl.enums.SecureAccommodationOrderSection;
@@ -26,22 +29,32 @@ import uk.gov.hmcts.reform.fpl.model.Orders;
 import uk.gov.hmcts.reform.fpl.testbeans.TestFeeConfig;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static feign.Request.HttpMethod.GET;
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.reform.fnp.model.fee.FeeType.CARE_ORDER;
 import static uk.gov.hmcts.reform.fnp.model.fee.FeeType.OTHER;
 import static uk.gov.hmcts.reform.fnp.model.fee.FeeType.PLACEMENT;
+import static uk.gov.hmcts.reform.fpl.service.payment.FeeService.AGE_METRIC;
+import static uk.gov.hmcts.reform.fpl.service.payment.FeeService.CACHE_METRIC;
 import static uk.gov.hmcts.reform.fpl.testbeans.TestFeeConfig.ADOPTION_SERVICE;
 import static uk.gov.hmcts.reform.fpl.testbeans.TestFeeConfig.C2_WITHOUT_NOTICE_KEYWORD;
 import static uk.gov.hmcts.reform.fpl.testbeans.TestFeeConfig.C2_WITH_NOTICE_KEYWORD;
@@ -63,15 +76,84 @@ import static uk.gov.hmcts.reform.fpl.testbeans.TestFeeConfig.SERVICE;
 import static uk.gov.hmcts.reform.fpl.testbeans.TestFeeConfig.SUPERVISION_ORDER_KEYWORD;
 
 @ExtendWith(SpringExtension.class)
-@ContextConfiguration(classes = {FeeService.class, TestFeeConfig.class})
+@SpringBootTest(classes = {FeeService.class, TestFeeConfig.class, SimpleMeterRegistry.class},
+    properties = "fpl.fee_cache.enabled=false")
 class FeeServiceTest {
 
     @MockBean
     private FeesRegisterApi feesRegisterApi;
 
+    @Autowired
+    private FeesConfig feesConfig;
+
     @Autowired
     private FeeService feeService;
 
+    @Nested
+    class Cache {
+        private final FeesRegisterApi registerApi = mock(FeesRegisterApi.class);
+        private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        private final ExecutorService workers = Executors.newFixedThreadPool(2);
+        private final FeeService underTest = new FeeService(feesConfig, registerApi, meterRegistry, true,
+            Duration.ofHours(1), Duration.ofDays(1), workers);
+
+        @AfterEach
+        void shutdownWorkers() {
+            underTest.shutdown();
+        }
+
+        @Test
+        void shouldLookUpFeeOnceWhileItIsCached() {
+            FeeResponse careOrderResponse = buildFeeResponse("FEE0327", BigDecimal.TEN);
+            when(registerApi.findFee(CHANNEL, EVENT, JURISDICTION_1, JURISDICTION_2, CARE_ORDER_KEYWORD, SERVICE))
+                .thenReturn(careOrderResponse);
+
+            assertThat(underTest.getFees(List.of(CARE_ORDER))).containsExactly(careOrderResponse);
+            assertThat(underTest.getFees(List.of(CARE_ORDER))).containsExactly(careOrderResponse);
+
+            verify(registerApi, times(1))
+                .findFee(CHANNEL, EVENT, JURISDICTION_1, JURISDICTION_2, CARE_ORDER_KEYWORD, SERVICE);
+            assertThat(meterRegistry.get(CACHE_METRIC).tag("result", "hit").functionCounter().count()).isOne();
+            assertThat(meterRegistry.get(CACHE_METRIC).tag("result", "miss").functionCounter().count()).isOne();
+            assertThat(meterRegistry.get(AGE_METRIC).gauge().value()).isZero();
+        }
+
+        @Test
+        void shouldLookUpMissingFeesSideBySide() {
+            FeeResponse careOrderResponse = buildFeeResponse("FEE0327", BigDecimal.TEN);
+            FeeResponse otherResponse = buildFeeResponse("FEE0328", BigDecimal.ONE);
+            CountDownLatch lookups = new CountDownLatch(2);
+
+            // each lookup only returns its fee once the other lookup has started too
+            when(registerApi.findFee(CHANNEL, EVENT, JURISDICTION_1, JURISDICTION_2, CARE_ORDER_KEYWORD, SERVICE))
+                .thenAnswer(invocation -> {
+                    lookups.countDown();
+                    return lookups.await(5, SECONDS) ? careOrderResponse : null;
+                });
+            when(registerApi.findFee(CHANNEL, EVENT, JURISDICTION_1, JURISDICTION_2, OTHER_KEYWORD, SERVICE))
+                .thenAnswer(invocation -> {
+                    lookups.countDown();
+                    return lookups.await(5, SECONDS) ? otherResponse : null;
+                });
+
+            assertThat(underTest.getFees(List.of(CARE_ORDER, OTHER))).containsExactly(careOrderResponse, otherResponse);
+        }
+
+        @Test
+        void shouldLookUpFeeAgainWhenLookupFailed() {
+            FeeResponse careOrderResponse = buildFeeResponse("FEE0327", BigDecimal.TEN);
+            when(registerApi.findFee(CHANNEL, EVENT, JURISDICTION_1, JURISDICTION_2, CARE_ORDER_KEYWORD, SERVICE))
+                .thenThrow(new FeignException.ServiceUnavailable(
+                    "", Request.create(GET, EMPTY, Map.of(), new byte[]{}, UTF_8, null),
+                    new byte[]{}, Collections.emptyMap()))
+                .thenReturn(careOrderResponse);
+
+            List<FeeType> feeTypes = List.of(CARE_ORDER);
+            assertThrows(FeeRegisterException.class, () -> underTest.getFees(feeTypes));
+            assertThat(underTest.getFees(feeTypes)).containsExactly(careOrderResponse);
+        }
+    }
+
     @Nested
     class GetFees {
         @ParameterizedTest
@@ -16,20 +16,24 @@ import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.reform.fpl.config.robotics.RoboticsEmailConfiguration;
 import uk.gov.hmcts.reform.fpl.events.CaseNumberAdded;
+import uk.gov.hmcts.reform.fpl.exceptions.EmailFailedSendException;
+import uk.gov.hmcts.reform.fpl.exceptions.EventDeliveryException;
 import uk.gov.hmcts.reform.fpl.model.CaseData;
 import uk.gov.hmcts.reform.fpl.model.email.EmailData;
 import uk.gov.hmcts.reform.fpl.model.robotics.Applicant;
 import uk.gov.hmcts.reform.fpl.model.robotics.RoboticsData;
-import uk.gov.hmcts.reform.fpl.service.email.EmailService;
+import uk.gov.hmcts.reform.fpl.service.outbox.EventDelivery;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -44,7 +48,6 @@ import static uk.gov.hmcts.reform.fpl.utils.CoreCaseDataStoreLoader.populatedCas
 @ContextConfiguration(classes = {JacksonAutoConfiguration.class})
 class RoboticsNotificationServiceTest {
     private static final String EMAIL_RECIPIENT = "recipient@example.com";
-    private static final String EMAIL_FROM = "no-reply@exaple.com";
 
     private static final LocalDate NOW = LocalDate.now();
 
@@ -52,7 +55,7 @@ class RoboticsNotificationServiceTest {
     private ObjectMapper objectMapper;
 
     @Mock
-    private EmailService emailService;
+    private RoboticsSubmissionQueue submissionQueue;
 
     @Mock
     private RoboticsEmailConfiguration roboticsEmailConfiguration;
@@ -69,18 +72,16 @@ class RoboticsNotificationServiceTest {
     void setup() {
         given(roboticsEmailConfiguration.getRecipient())
             .willReturn(EMAIL_RECIPIENT);
+        given(submissionQueue.submit(any())).willReturn(new CompletableFuture<>());
 
-        given(roboticsEmailConfiguration.getSender())
-            .willReturn(EMAIL_FROM);
-
-        roboticsNotificationService = new RoboticsNotificationService(emailService, roboticsDataService,
-            roboticsEmailConfiguration);
+        roboticsNotificationService = new RoboticsNotificationService(roboticsDataService,
+            roboticsEmailConfiguration, submissionQueue);
     }
 
     @Test
     void shouldSkipRobiticsNotificationWhenCaseDataNotPresent() {
         roboticsNotificationService.notifyRoboticsOfSubmittedCaseData(new CaseNumberAdded(null));
-        verify(emailService, never()).sendEmail(any(), any());
+        verify(submissionQueue, never()).submit(any());
     }
 
     @Test
@@ -94,7 +95,7 @@ class RoboticsNotificationServiceTest {
         } catch (Exception e) {
             assertThat(e).isEqualTo(exception);
         }
-        verify(emailService, never()).sendEmail(any(), any());
+        verify(submissionQueue, never()).submit(any());
     }
 
     @Test
@@ -109,7 +110,7 @@ class RoboticsNotificationServiceTest {
 
         roboticsNotificationService.notifyRoboticsOfSubmittedCaseData(new CaseNumberAdded(prepareCaseData()));
 
-        verify(emailService).sendEmail(eq(EMAIL_FROM), emailDataArgumentCaptor.capture());
+        verify(submissionQueue).submit(emailDataArgumentCaptor.capture());
 
         assertEmailDataAndAttachedJsonData(emailDataArgumentCaptor.getValue(), expectedRoboticsDataJson);
     }
@@ -130,7 +131,7 @@ class RoboticsNotificationServiceTest {
 
         roboticsNotificationService.notifyRoboticsOfSubmittedCaseData(new CaseNumberAdded(prepareCaseData()));
 
-        verify(emailService).sendEmail(eq(EMAIL_FROM), emailDataArgumentCaptor.capture());
+        verify(submissionQueue).submit(emailDataArgumentCaptor.capture());
 
         assertEmailDataAndAttachedJsonData(emailDataArgumentCaptor.getValue(), expectedRoboticsDataJson);
     }
@@ -147,11 +148,30 @@ class RoboticsNotificationServiceTest {
 
         roboticsNotificationService.sendSubmittedCaseData(prepareCaseData());
 
-        verify(emailService).sendEmail(eq(EMAIL_FROM), emailDataArgumentCaptor.capture());
+        verify(submissionQueue).submit(emailDataArgumentCaptor.capture());
 
         assertEmailDataAndAttachedJsonData(emailDataArgumentCaptor.getValue(), expectedRoboticsDataJson);
     }
 
+    @Test
+    void shouldSendEmailOnceAndLeaveRetriesToOutboxWhenDeliveredFromOutbox() throws Exception {
+        RoboticsData expectedRoboticsData = expectedRoboticsData(EMERGENCY_PROTECTION_ORDER.getLabel());
+        given(roboticsDataService.prepareRoboticsData(prepareCaseData())).willReturn(expectedRoboticsData);
+        given(roboticsDataService.convertRoboticsDataToJson(expectedRoboticsData))
+            .willReturn(objectMapper.writeValueAsString(expectedRoboticsData));
+        EmailFailedSendException failure = new EmailFailedSendException(new IllegalStateException("Mail server down"));
+        given(submissionQueue.submitOnce(any())).willReturn(CompletableFuture.failedFuture(failure));
+
+        EventDelivery delivery = new EventDelivery();
+        delivery.run(() -> roboticsNotificationService.notifyRoboticsOfSubmittedCaseData(
+            new CaseNumberAdded(prepareCaseData())));
+
+        verify(submissionQueue, never()).submit(any());
+        assertThatThrownBy(() -> delivery.await(Duration.ofSeconds(1)))
+            .isInstanceOf(EventDeliveryException.class)
+            .hasCause(failure);
+    }
+
     @Test
     void notifyRoboticsOfSubmittedCaseDataShouldNotSendEmailWhenOwningCourtCodeZero() {
         CaseData caseData = prepareCaseData();
@@ -159,7 +179,7 @@ class RoboticsNotificationServiceTest {
         given(roboticsDataService.prepareRoboticsData(caseData))
             .willReturn(invalidRoboticsDataWithZeroOwningCourt());
 
-        verify(emailService, never()).sendEmail(eq(EMAIL_FROM), emailDataArgumentCaptor.capture());
+        verify(submissionQueue, never()).submit(emailDataArgumentCaptor.capture());
     }
 
     @Test
@@ -169,7 +189,7 @@ class RoboticsNotificationServiceTest {
         given(roboticsDataService.prepareRoboticsData(caseData))
             .willReturn(expectedRoboticsData(EDUCATION_SUPERVISION_ORDER.getLabel()));
 
-        verify(emailService, never()).sendEmail(eq(EMAIL_FROM), emailDataArgumentCaptor.capture());
+        verify(submissionQueue, never()).submit(emailDataArgumentCaptor.capture());
     }
 
     private CaseData prepareCaseData() {
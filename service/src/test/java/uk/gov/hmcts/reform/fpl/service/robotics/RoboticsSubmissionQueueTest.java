@@ -0,0 +1,168 @@
+package uk.gov.hmcts.reform.fpl.service.robotics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.fpl.config.robotics.RoboticsEmailConfiguration;
+import uk.gov.hmcts.reform.fpl.config.scheduler.EventOutboxConfiguration;
+import uk.gov.hmcts.reform.fpl.exceptions.EmailFailedSendException;
+import uk.gov.hmcts.reform.fpl.model.email.EmailData;
+import uk.gov.hmcts.reform.fpl.service.email.EmailService;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.reform.fpl.service.robotics.RoboticsSubmissionQueue.LAG_METRIC;
+
+class RoboticsSubmissionQueueTest {
+
+    private static final String SENDER = "sender@example.com";
+    private static final EmailData EMAIL_1 = EmailData.builder().subject("CaseSubmitted_1").build();
+    private static final EmailData EMAIL_2 = EmailData.builder().subject("CaseSubmitted_2").build();
+
+    private final EmailService emailService = mock(EmailService.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RoboticsSubmissionQueue underTest = queue(10, Duration.ofSeconds(1), Duration.ofSeconds(10), 2);
+
+    @AfterEach
+    void tearDown() {
+        underTest.shutdown();
+    }
+
+    @Test
+    void shouldSendEmailsQueuedTogetherInOneBatch() {
+        when(emailService.sendEmails(any(), anyList())).thenReturn(Map.of());
+
+        CompletableFuture.allOf(underTest.submit(EMAIL_1), underTest.submit(EMAIL_2)).join();
+
+        verify(emailService).sendEmails(eq(SENDER), anyList());
+        assertThat(meterRegistry.get(LAG_METRIC).timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReturnBeforeEmailIsSent() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(emailService.sendEmails(SENDER, List.of(EMAIL_1))).thenAnswer(invocation -> {
+            release.await();
+            return Map.of();
+        });
+
+        CompletableFuture<Void> sent = underTest.submit(EMAIL_1);
+
+        assertThat(sent).isNotDone();
+        release.countDown();
+        sent.get();
+    }
+
+    @Test
+    void shouldFailSubmissionOnceEveryAttemptHasFailed() {
+        IllegalStateException failure = new IllegalStateException("Mailbox unavailable");
+        when(emailService.sendEmails(SENDER, List.of(EMAIL_1))).thenReturn(Map.of(0, failure));
+
+        assertThatThrownBy(() -> underTest.submit(EMAIL_1).join())
+            .hasCauseInstanceOf(EmailFailedSendException.class)
+            .hasRootCause(failure);
+        verify(emailService, times(2)).sendEmails(SENDER, List.of(EMAIL_1));
+    }
+
+    @Test
+    void shouldRetryEmailThatFailed() {
+        when(emailService.sendEmails(SENDER, List.of(EMAIL_1)))
+            .thenThrow(new IllegalStateException("Connection refused"))
+            .thenReturn(Map.of());
+
+        underTest.submit(EMAIL_1).join();
+
+        verify(emailService, times(2)).sendEmails(SENDER, List.of(EMAIL_1));
+    }
+
+    @Test
+    void shouldTryEmailOnlyOnceWhenCallerRetries() {
+        IllegalStateException failure = new IllegalStateException("Connection refused");
+        when(emailService.sendEmails(SENDER, List.of(EMAIL_1))).thenThrow(failure);
+
+        assertThatThrownBy(() -> underTest.submitOnce(EMAIL_1).join())
+            .hasCauseInstanceOf(EmailFailedSendException.class)
+            .hasRootCause(failure);
+        verify(emailService, after(200).times(1)).sendEmails(SENDER, List.of(EMAIL_1));
+    }
+
+    @Test
+    void shouldWithdrawAttemptStillQueuedAfterTimeout() {
+        RoboticsSubmissionQueue oneAtATime = queue(1, Duration.ZERO, Duration.ofMillis(200), 1);
+        when(emailService.sendEmails(SENDER, List.of(EMAIL_1))).thenAnswer(invocation -> {
+            Thread.sleep(500);
+            return Map.of();
+        });
+
+        try {
+            CompletableFuture<Void> first = oneAtATime.submit(EMAIL_1);
+            verify(emailService, timeout(1000)).sendEmails(SENDER, List.of(EMAIL_1));
+
+            assertThatThrownBy(() -> oneAtATime.submit(EMAIL_2).join())
+                .hasCauseInstanceOf(EmailFailedSendException.class)
+                .hasRootCauseInstanceOf(TimeoutException.class);
+            // the attempt being sent is no longer waited for once it has timed out either
+            assertThatThrownBy(first::join).hasRootCauseInstanceOf(TimeoutException.class);
+            verify(emailService, after(500).never()).sendEmails(SENDER, List.of(EMAIL_2));
+        } finally {
+            oneAtATime.shutdown();
+        }
+    }
+
+    @Test
+    void shouldNotSendEmailWhoseSubmissionWasCancelled() {
+        RoboticsSubmissionQueue oneAtATime = queue(1, Duration.ZERO, Duration.ofSeconds(10), 1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(emailService.sendEmails(SENDER, List.of(EMAIL_1))).thenAnswer(invocation -> {
+            release.await();
+            return Map.of();
+        });
+
+        try {
+            oneAtATime.submit(EMAIL_1);
+            verify(emailService, timeout(1000)).sendEmails(SENDER, List.of(EMAIL_1));
+
+            oneAtATime.submit(EMAIL_2).cancel(false);
+            release.countDown();
+
+            verify(emailService, after(500).never()).sendEmails(SENDER, List.of(EMAIL_2));
+        } finally {
+            oneAtATime.shutdown();
+        }
+    }
+
+    @Test
+    void shouldNotStartWhenAttemptOutlastsOutboxHandlerTimeout() {
+        EventOutboxConfiguration outboxConfiguration = new EventOutboxConfiguration();
+        outboxConfiguration.setEnabled(true);
+        outboxConfiguration.setHandlerTimeout(Duration.ofSeconds(30));
+
+        assertThatThrownBy(() -> new RoboticsSubmissionQueue(emailService,
+            new RoboticsEmailConfiguration(SENDER, "robotics@example.com"), outboxConfiguration, meterRegistry, 10,
+            Duration.ZERO, Duration.ofSeconds(30), 1, Duration.ZERO))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    private RoboticsSubmissionQueue queue(int batchSize, Duration batchDelay, Duration timeout, int maxAttempts) {
+        return new RoboticsSubmissionQueue(emailService, new RoboticsEmailConfiguration(SENDER,
+            "robotics@example.com"), new EventOutboxConfiguration(), meterRegistry, batchSize, batchDelay, timeout,
+            maxAttempts, Duration.ofMillis(10));
+    }
+}
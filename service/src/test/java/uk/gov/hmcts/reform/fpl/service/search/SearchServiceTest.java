@@ -19,6 +19,7 @@ import uk.gov.hmcts.reform.fpl.utils.elasticsearch.SortOrder;
 import uk.gov.hmcts.reform.fpl.utils.elasticsearch.SortQuery;
 
 import java.time.LocalDate;
+import java.util.Iterator;
 import java.util.List;
 
 import static java.lang.String.format;
@@ -26,6 +27,7 @@ import static org.apache.commons.lang3.RandomUtils.nextLong;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.skyscreamer.jsonassert.JSONAssert.assertEquals;
@@ -132,4 +134,67 @@ class SearchServiceTest {
 
         assertEquals(queryCaptor.getValue(), expectedQuery, NON_EXTENSIBLE);
     }
+
+    @Test
+    void shouldPageThroughAllCasesUsingSearchAfterOnReference() {
+        ESQuery query = MatchQuery.of("a", "b");
+
+        CaseDetails case1 = CaseDetails.builder().id(1L).build();
+        CaseDetails case2 = CaseDetails.builder().id(2L).build();
+        CaseDetails case3 = CaseDetails.builder().id(3L).build();
+
+        when(coreCaseDataService.searchCases(any(), any()))
+            .thenReturn(SearchResult.builder().total(3).cases(List.of(case1, case2)).build())
+            .thenReturn(SearchResult.builder().total(3).cases(List.of(case3)).build());
+
+        Iterator<List<CaseDetails>> pages = searchService.searchAll(query, 2);
+
+        assertThat(pages.hasNext()).isTrue();
+        assertThat(pages.next()).containsExactly(case1, case2);
+        assertThat(pages.hasNext()).isTrue();
+        assertThat(pages.next()).containsExactly(case3);
+        assertThat(pages.hasNext()).isFalse();
+
+        verify(coreCaseDataService, times(2)).searchCases(eq("CARE_SUPERVISION_EPO"), queryCaptor.capture());
+
+        assertEquals(queryCaptor.getAllValues().get(0), "{\"size\":2,"
+            + "\"sort\":[{\"reference\":{\"order\":\"asc\"}}],"
+            + "\"query\":{\"match\":{\"a\":{\"query\":\"b\"}}}}", NON_EXTENSIBLE);
+        assertEquals(queryCaptor.getAllValues().get(1), "{\"size\":2,"
+            + "\"sort\":[{\"reference\":{\"order\":\"asc\"}}],"
+            + "\"search_after\":[2],"
+            + "\"query\":{\"match\":{\"a\":{\"query\":\"b\"}}}}", NON_EXTENSIBLE);
+    }
+
+    @Test
+    void shouldStopPagingWhenAFullPageIsFollowedByNoResults() {
+        ESQuery query = MatchQuery.of("a", "b");
+
+        CaseDetails case1 = CaseDetails.builder().id(1L).build();
+
+        when(coreCaseDataService.searchCases(any(), any()))
+            .thenReturn(SearchResult.builder().total(1).cases(List.of(case1)).build())
+            .thenReturn(SearchResult.builder().total(1).cases(List.of()).build());
+
+        assertThat(searchService.streamAll(query, 1)).containsExactly(case1);
+
+        verify(coreCaseDataService, times(2)).searchCases(eq("CARE_SUPERVISION_EPO"), any());
+    }
+
+    @Test
+    void shouldOnlyRequestGivenSourcesWhenPagingThroughCases() {
+        ESQuery query = MatchQuery.of("a", "b");
+
+        when(coreCaseDataService.searchCases(any(), any()))
+            .thenReturn(SearchResult.builder().total(0).cases(List.of()).build());
+
+        assertThat(searchService.searchAll(query, 2, List.of("data.hearingDetails")).hasNext()).isFalse();
+
+        verify(coreCaseDataService).searchCases(eq("CARE_SUPERVISION_EPO"), queryCaptor.capture());
+
+        assertEquals(queryCaptor.getValue(), "{\"size\":2,"
+            + "\"sort\":[{\"reference\":{\"order\":\"asc\"}}],"
+            + "\"_source\":[\"data.hearingDetails\"],"
+            + "\"query\":{\"match\":{\"a\":{\"query\":\"b\"}}}}", NON_EXTENSIBLE);
+    }
 }
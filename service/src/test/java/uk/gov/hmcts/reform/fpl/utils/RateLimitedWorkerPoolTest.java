@@ -0,0 +1,110 @@
+package uk.gov.hmcts.reform.fpl.utils;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.fpl.exceptions.RetryFailureException;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.reform.fpl.utils.TestDataHelper.feignException;
+
+class RateLimitedWorkerPoolTest {
+
+    private static final Duration MIN_BACKOFF = Duration.ofMillis(10);
+    private static final Duration MAX_BACKOFF = Duration.ofMillis(40);
+
+    @Test
+    void shouldRunEverySubmittedTaskBeforeShuttingDown() throws InterruptedException {
+        AtomicInteger completed = new AtomicInteger();
+
+        try (RateLimitedWorkerPool pool = new RateLimitedWorkerPool("test", 3, 0, MIN_BACKOFF, MAX_BACKOFF)) {
+            for (int i = 0; i < 20; i++) {
+                pool.submit(completed::incrementAndGet);
+            }
+            pool.shutdown(Duration.ofSeconds(5));
+        }
+
+        assertThat(completed).hasValue(20);
+    }
+
+    @Test
+    void shouldRunTasksOnConfiguredNumberOfWorkers() throws InterruptedException {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        CountDownLatch allStarted = new CountDownLatch(3);
+
+        try (RateLimitedWorkerPool pool = new RateLimitedWorkerPool("test", 3, 0, MIN_BACKOFF, MAX_BACKOFF)) {
+            for (int i = 0; i < 3; i++) {
+                pool.submit(() -> {
+                    threads.add(Thread.currentThread().getName());
+                    allStarted.countDown();
+                    try {
+                        allStarted.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+            pool.shutdown(Duration.ofSeconds(5));
+        }
+
+        assertThat(threads).hasSize(3);
+    }
+
+    @Test
+    void shouldStillRunTaskWhenInterruptedWhileWaitingItsTurn() throws InterruptedException {
+        CountDownLatch ran = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+
+        try (RateLimitedWorkerPool pool = new RateLimitedWorkerPool("test", 1, 0, Duration.ofMinutes(1),
+            Duration.ofMinutes(1))) {
+            pool.backOff();
+            pool.submit(() -> {
+                interrupted.set(Thread.currentThread().isInterrupted());
+                ran.countDown();
+            });
+            Thread.sleep(100);
+        }
+
+        assertThat(ran.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(interrupted).isTrue();
+    }
+
+    @Test
+    void shouldDoubleBackoffUpToMaximumAndHalveOnRecovery() {
+        try (RateLimitedWorkerPool pool = new RateLimitedWorkerPool("test", 1, 0, MIN_BACKOFF, MAX_BACKOFF)) {
+            pool.backOff();
+            assertThat(pool.getBackoffMillis()).isEqualTo(10);
+            pool.backOff();
+            assertThat(pool.getBackoffMillis()).isEqualTo(20);
+            pool.backOff();
+            pool.backOff();
+            assertThat(pool.getBackoffMillis()).isEqualTo(40);
+
+            pool.recover();
+            assertThat(pool.getBackoffMillis()).isEqualTo(20);
+            pool.recover();
+            pool.recover();
+            assertThat(pool.getBackoffMillis()).isZero();
+        }
+    }
+
+    @Test
+    void shouldTreatTooManyRequestsAndServerErrorsAsThrottling() {
+        assertThat(RateLimitedWorkerPool.isThrottled(feignException(429))).isTrue();
+        assertThat(RateLimitedWorkerPool.isThrottled(feignException(503))).isTrue();
+        assertThat(RateLimitedWorkerPool.isThrottled(
+            new RetryFailureException("retries failed", feignException(502)))).isTrue();
+    }
+
+    @Test
+    void shouldNotTreatClientErrorsAsThrottling() {
+        assertThat(RateLimitedWorkerPool.isThrottled(feignException(404))).isFalse();
+        assertThat(RateLimitedWorkerPool.isThrottled(new IllegalStateException("boom"))).isFalse();
+    }
+}
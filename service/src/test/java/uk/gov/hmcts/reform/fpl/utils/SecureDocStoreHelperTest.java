@@ -1,5 +1,8 @@
 package uk.gov.hmcts.reform.fpl.utils;
 
+import feign.FeignException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,7 +22,16 @@ import uk.gov.hmcts.reform.fpl.utils.extension.TestLogsExtension;
 import static java.lang.String.format;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.reform.fpl.utils.SecureDocStoreHelper.BACKEND_TAG;
+import static uk.gov.hmcts.reform.fpl.utils.SecureDocStoreHelper.DM_STORE;
+import static uk.gov.hmcts.reform.fpl.utils.SecureDocStoreHelper.DOWNLOAD_BYTES_METRIC;
+import static uk.gov.hmcts.reform.fpl.utils.SecureDocStoreHelper.DOWNLOAD_TIME_METRIC;
+import static uk.gov.hmcts.reform.fpl.utils.SecureDocStoreHelper.SECURE_DOC_STORE;
+import static uk.gov.hmcts.reform.fpl.utils.TestDataHelper.feignException;
 
 @ExtendWith({SpringExtension.class, TestLogsExtension.class})
 class SecureDocStoreHelperTest {
@@ -30,6 +42,7 @@ class SecureDocStoreHelperTest {
     private FeatureToggleService featureToggleService;
     @Mock
     private SecureDocStoreService secureDocStoreService;
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
     private static final String CONTENT_TYPE = "application/pdf";
     private static final String FILE_NAME = "FILE_NAME.pdf";
     private static final String DOCUMENT_URL_STRING = "http://localhost/test123";
@@ -86,29 +99,80 @@ class SecureDocStoreHelperTest {
                 "↑ ↑ ↑ ↑ ↑ ↑ ↑ EXCEPTION CAUGHT (SECURE DOC STORE: DISABLED) ↑ ↑ ↑ ↑ ↑ ↑ ↑");
         }
 
-        @ParameterizedTest
-        @ValueSource(booleans = {true, false})
-        void shouldLogExceptionWhenDocStoreApiFailure(boolean toggleOn) {
-            when(featureToggleService.isSecureDocstoreEnabled()).thenReturn(toggleOn);
+        @Test
+        void shouldThrowExceptionWhenDocStoreApiFailure() {
+            when(featureToggleService.isSecureDocstoreEnabled()).thenReturn(true);
             when(secureDocStoreService.downloadDocument(DOCUMENT_URL_STRING)).thenThrow(
                 new RuntimeException("TEST RUNTIME EXCEPTION"));
 
-            SecureDocStoreHelper underTest = new SecureDocStoreHelper(secureDocStoreService, featureToggleService);
+            SecureDocStoreHelper underTest = new SecureDocStoreHelper(secureDocStoreService, featureToggleService,
+                meterRegistry);
 
-            if (toggleOn == false) {
-                byte[] resultFromOldDmStoreApproach = "DATA_FROM_OLD".getBytes();
-                byte[] actualData = underTest.download(DOCUMENT_URL_STRING, () -> resultFromOldDmStoreApproach);
+            assertThatThrownBy(() -> underTest.download(DOCUMENT_URL_STRING, () -> "DATA_FROM_OLD".getBytes()))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("TEST RUNTIME EXCEPTION");
+            assertThat(meterRegistry.get(DOWNLOAD_TIME_METRIC)
+                .tags(BACKEND_TAG, SECURE_DOC_STORE, "outcome", "failure").timer().count()).isOne();
+        }
 
-                assertThat(actualData).isEqualTo(resultFromOldDmStoreApproach);
-                assertThat(logs.getErrorThrowableClassNames()).contains("java.lang.RuntimeException");
-                assertThat(logs.getErrorThrowableMessages()).contains("TEST RUNTIME EXCEPTION");
-                assertThat(logs.getErrors()).contains(
-                    "↑ ↑ ↑ ↑ ↑ ↑ ↑ EXCEPTION CAUGHT (SECURE DOC STORE: DISABLED) ↑ ↑ ↑ ↑ ↑ ↑ ↑");
-            } else {
-                assertThatThrownBy(() -> underTest.download(DOCUMENT_URL_STRING))
-                    .isInstanceOf(RuntimeException.class)
-                    .hasMessage("TEST RUNTIME EXCEPTION");
-            }
+        @Test
+        void shouldOnlyDownloadFromOldDmStoreWhenToggledOff() {
+            when(featureToggleService.isSecureDocstoreEnabled()).thenReturn(false);
+
+            SecureDocStoreHelper underTest = new SecureDocStoreHelper(secureDocStoreService, featureToggleService,
+                meterRegistry);
+
+            byte[] actualData = underTest.download(DOCUMENT_URL_STRING, () -> "DATA_FROM_OLD".getBytes());
+
+            assertThat(actualData).isEqualTo("DATA_FROM_OLD".getBytes());
+            verifyNoInteractions(secureDocStoreService);
+            verify(featureToggleService, times(1)).isSecureDocstoreEnabled();
+        }
+
+        @Test
+        void shouldRetryDownloadWhenDocStoreUnavailable() {
+            when(featureToggleService.isSecureDocstoreEnabled()).thenReturn(true);
+            when(secureDocStoreService.downloadDocument(DOCUMENT_URL_STRING))
+                .thenThrow(feignException(503))
+                .thenReturn("DATA_FROM_NEW".getBytes());
+
+            SecureDocStoreHelper underTest = new SecureDocStoreHelper(secureDocStoreService, featureToggleService,
+                meterRegistry);
+
+            assertThat(underTest.download(DOCUMENT_URL_STRING)).isEqualTo("DATA_FROM_NEW".getBytes());
+            verify(secureDocStoreService, times(2)).downloadDocument(DOCUMENT_URL_STRING);
+            assertThat(meterRegistry.get(DOWNLOAD_TIME_METRIC)
+                .tags(BACKEND_TAG, SECURE_DOC_STORE, "outcome", "failure").timer().count()).isOne();
+        }
+
+        @Test
+        void shouldNotRetryDownloadRejectedByDocStore() {
+            when(featureToggleService.isSecureDocstoreEnabled()).thenReturn(true);
+            when(secureDocStoreService.downloadDocument(DOCUMENT_URL_STRING)).thenThrow(feignException(404));
+
+            SecureDocStoreHelper underTest = new SecureDocStoreHelper(secureDocStoreService, featureToggleService,
+                meterRegistry);
+
+            assertThatThrownBy(() -> underTest.download(DOCUMENT_URL_STRING))
+                .isInstanceOf(FeignException.NotFound.class);
+            verify(secureDocStoreService, times(1)).downloadDocument(DOCUMENT_URL_STRING);
+        }
+
+        @ParameterizedTest
+        @ValueSource(booleans = {true, false})
+        void shouldRecordDownloadMetricsAgainstStoreUsed(boolean toggleOn) {
+            when(featureToggleService.isSecureDocstoreEnabled()).thenReturn(toggleOn);
+            when(secureDocStoreService.downloadDocument(DOCUMENT_URL_STRING)).thenReturn("DATA_FROM_NEW".getBytes());
+
+            SecureDocStoreHelper underTest = new SecureDocStoreHelper(secureDocStoreService, featureToggleService,
+                meterRegistry);
+            underTest.download(DOCUMENT_URL_STRING, () -> "OLD".getBytes());
+
+            String backend = toggleOn ? SECURE_DOC_STORE : DM_STORE;
+            assertThat(meterRegistry.get(DOWNLOAD_TIME_METRIC)
+                .tags(BACKEND_TAG, backend, "outcome", "success").timer().count()).isOne();
+            assertThat(meterRegistry.get(DOWNLOAD_BYTES_METRIC).tag(BACKEND_TAG, backend).summary().totalAmount())
+                .isEqualTo(toggleOn ? 13 : 3);
         }
     }
 
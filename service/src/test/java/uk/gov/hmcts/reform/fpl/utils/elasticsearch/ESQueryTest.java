@@ -38,6 +38,36 @@ class ESQueryTest {
         assertThat(queryInContext).usingRecursiveComparison().isEqualTo(expectedContext);
     }
 
+    @Test
+    void shouldCreateQueryWithSearchAfterWhenCursorProvided() {
+        ESQuery query = new TestClass();
+        Sort sort = Sort.builder()
+            .clauses(List.of(SortQuery.of("reference", SortOrder.ASC)))
+            .build();
+
+        final JSONObject queryInContext = query.toQueryContext(2, sort, List.of(123L));
+        final JSONObject expectedContext = new JSONObject(
+            Map.of("query", Map.of("test", "query"), "size", 2, "search_after", List.of(123L),
+                "sort", List.of(Map.of("reference", Map.of("order", "asc")))));
+
+        assertThat(queryInContext).usingRecursiveComparison().isEqualTo(expectedContext);
+    }
+
+    @Test
+    void shouldCreateQueryWithoutSearchAfterForFirstPage() {
+        ESQuery query = new TestClass();
+        Sort sort = Sort.builder()
+            .clauses(List.of(SortQuery.of("reference", SortOrder.ASC)))
+            .build();
+
+        final JSONObject queryInContext = query.toQueryContext(2, sort, List.of());
+        final JSONObject expectedContext = new JSONObject(
+            Map.of("query", Map.of("test", "query"), "size", 2,
+                "sort", List.of(Map.of("reference", Map.of("order", "asc")))));
+
+        assertThat(queryInContext).usingRecursiveComparison().isEqualTo(expectedContext);
+    }
+
     private static class TestClass implements ESQuery {
         @Override
         public Map<String, Object> toMap() {